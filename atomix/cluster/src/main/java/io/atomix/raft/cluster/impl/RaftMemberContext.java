@@ -25,6 +25,8 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +55,10 @@ public final class RaftMemberContext {
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  // checksums of the files of the snapshot which was last installed on the member, by file name
+  private Map<String, Long> installedSnapshotFiles = Map.of();
+  // checksums of the files of the snapshot which is currently being sent to the member
+  private final Map<String, Long> sentSnapshotFiles = new HashMap<>();
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
@@ -68,6 +74,8 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    installedSnapshotFiles = Map.of();
+    sentSnapshotFiles.clear();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
@@ -460,6 +468,42 @@ public final class RaftMemberContext {
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
     this.snapshotChunkReader = snapshotChunkReader;
+    sentSnapshotFiles.clear();
+  }
+
+  /**
+   * Returns the checksums of the files of the snapshot which was last installed on the member,
+   * which the member may still have and thus doesn't need to receive again.
+   *
+   * @return the checksums of the installed files, by file name
+   */
+  public Map<String, Long> getInstalledSnapshotFiles() {
+    return installedSnapshotFiles;
+  }
+
+  /**
+   * Records that the given file was sent as part of the snapshot currently being installed.
+   *
+   * @param fileName the name of the sent file
+   * @param checksum the checksum of the sent file
+   */
+  public void onSnapshotFileSent(final String fileName, final long checksum) {
+    sentSnapshotFiles.put(fileName, checksum);
+  }
+
+  /** Marks all files sent as part of the current snapshot as installed on the member. */
+  public void onSnapshotInstalled() {
+    installedSnapshotFiles = Map.copyOf(sentSnapshotFiles);
+    sentSnapshotFiles.clear();
+  }
+
+  /**
+   * Forgets which files the member has, e.g. because it failed to install a snapshot, such that the
+   * next snapshot is sent in full.
+   */
+  public void resetInstalledSnapshotFiles() {
+    installedSnapshotFiles = Map.of();
+    sentSnapshotFiles.clear();
   }
 
   public boolean hasNextEntry() {
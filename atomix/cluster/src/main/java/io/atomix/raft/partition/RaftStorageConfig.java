@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -30,12 +31,18 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_JOURNAL_INDEX = false;
+  private static final int DEFAULT_SEGMENT_POOL_SIZE = 1;
+  private static final SegmentFlushMode DEFAULT_FLUSH_MODE = SegmentFlushMode.MSYNC;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistJournalIndex = DEFAULT_PERSIST_JOURNAL_INDEX;
+  private int segmentPoolSize = DEFAULT_SEGMENT_POOL_SIZE;
+  private SegmentFlushMode flushMode = DEFAULT_FLUSH_MODE;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +132,58 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true to persist the journal index next to each segment, false otherwise
+   */
+  public boolean isPersistJournalIndex() {
+    return persistJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index is persisted next to each segment. If true, the index is
+   * restored from these files when the log is opened, instead of being rebuilt.
+   *
+   * @param persistJournalIndex true to persist the journal index, false otherwise
+   */
+  public void setPersistJournalIndex(final boolean persistJournalIndex) {
+    this.persistJournalIndex = persistJournalIndex;
+  }
+
+  /**
+   * @return the number of segments prepared ahead of time
+   */
+  public int getSegmentPoolSize() {
+    return segmentPoolSize;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time, such that rolling over to the next segment
+   * does not have to wait for a new segment to be created. If segment files are pre-allocated, up
+   * to as many files of deleted segments are reused for new segments.
+   *
+   * @param segmentPoolSize the number of segments to prepare ahead of time
+   */
+  public void setSegmentPoolSize(final int segmentPoolSize) {
+    this.segmentPoolSize = segmentPoolSize;
+  }
+
+  /**
+   * @return the system call used to flush segments to disk
+   */
+  public SegmentFlushMode getFlushMode() {
+    return flushMode;
+  }
+
+  /**
+   * Sets which system call is used to flush segments to disk. Records are always appended through
+   * the segment's memory mapped buffer, regardless of the flush mode.
+   *
+   * @param flushMode how segments are flushed to disk
+   */
+  public void setFlushMode(final SegmentFlushMode flushMode) {
+    this.flushMode = flushMode;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +197,12 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", persistJournalIndex="
+        + persistJournalIndex
+        + ", segmentPoolSize="
+        + segmentPoolSize
+        + ", flushMode="
+        + flushMode
         + '}';
   }
 }
@@ -297,6 +297,9 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withPersistJournalIndex(storageConfig.isPersistJournalIndex())
+        .withSegmentPoolSize(storageConfig.getSegmentPoolSize())
+        .withFlushMode(storageConfig.getFlushMode())
         .build();
   }
 
@@ -382,7 +382,9 @@ final class LeaderAppender {
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
-        final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        // immutable files the member still has from the last installed snapshot are not resent
+        final SnapshotChunkReader snapshotChunkReader =
+            persistedSnapshot.newChunkReader(member.getInstalledSnapshotFiles());
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -403,6 +405,7 @@ final class LeaderAppender {
 
     try {
       final SnapshotChunk chunk = reader.next();
+      member.onSnapshotFileSent(chunk.getChunkName(), chunk.getChecksum());
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -486,6 +489,7 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
       member.setSnapshotIndex(request.index());
+      member.onSnapshotInstalled();
       resetNextIndex(member, request.index() + 1);
     }
     // If more install requests remain, increment the member's snapshot offset.
@@ -509,8 +513,10 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    // the member may have failed to reuse files it was expected to have, so resend all of them
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunk(null);
+    member.resetInstalledSnapshotFiles();
   }
 
   /**
@@ -35,6 +35,7 @@ public final class SnapshotChunkImpl
   private String chunkName;
   private long checksum;
   private long snapshotChecksum;
+  private boolean reused;
 
   public SnapshotChunkImpl() {}
 
@@ -44,6 +45,7 @@ public final class SnapshotChunkImpl
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
+    reused = chunk.isReused();
     content.wrap(chunk.getContent());
   }
 
@@ -64,6 +66,7 @@ public final class SnapshotChunkImpl
     totalCount = SnapshotChunkDecoder.totalCountNullValue();
     checksum = SnapshotChunkDecoder.checksumNullValue();
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
+    reused = false;
 
     snapshotId = "";
     chunkName = "";
@@ -91,6 +94,7 @@ public final class SnapshotChunkImpl
         .chunkName(chunkName)
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
+        .reused(reused ? BooleanType.TRUE : BooleanType.FALSE)
         .putContent(content, 0, content.capacity());
   }
 
@@ -103,6 +107,7 @@ public final class SnapshotChunkImpl
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
+    reused = decoder.reused() == BooleanType.TRUE;
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
@@ -139,6 +144,11 @@ public final class SnapshotChunkImpl
     return snapshotChecksum;
   }
 
+  @Override
+  public boolean isReused() {
+    return reused;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -153,6 +163,8 @@ public final class SnapshotChunkImpl
         + checksum
         + ", snapshotChecksum="
         + snapshotChecksum
+        + ", reused="
+        + reused
         + "} "
         + super.toString();
   }
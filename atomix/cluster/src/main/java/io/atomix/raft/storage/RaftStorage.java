@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
@@ -63,6 +64,9 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final SegmentFlushMode flushMode;
+  private final boolean persistJournalIndex;
+  private final int segmentPoolSize;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +78,10 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final SegmentFlushMode flushMode,
+      final boolean persistJournalIndex,
+      final int segmentPoolSize) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +91,9 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.flushMode = flushMode;
+    this.persistJournalIndex = persistJournalIndex;
+    this.segmentPoolSize = segmentPoolSize;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +202,9 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withFlushMode(flushMode)
+        .withPersistJournalIndex(persistJournalIndex)
+        .withSegmentPoolSize(segmentPoolSize)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +261,9 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_PERSIST_JOURNAL_INDEX = false;
+    private static final int DEFAULT_SEGMENT_POOL_SIZE = 1;
+    private static final SegmentFlushMode DEFAULT_FLUSH_MODE = SegmentFlushMode.MSYNC;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +276,9 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private SegmentFlushMode flushMode = DEFAULT_FLUSH_MODE;
+    private boolean persistJournalIndex = DEFAULT_PERSIST_JOURNAL_INDEX;
+    private int segmentPoolSize = DEFAULT_SEGMENT_POOL_SIZE;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +383,42 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets which system call is used to flush segments to disk. Defaults to {@link
+     * SegmentFlushMode#MSYNC}.
+     *
+     * @param flushMode how segments are flushed to disk
+     * @return this builder for chaining
+     */
+    public Builder withFlushMode(final SegmentFlushMode flushMode) {
+      this.flushMode = checkNotNull(flushMode, "flushMode cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets whether the journal index is persisted next to each segment, such that it can be
+     * restored instead of being rebuilt when the log is opened again.
+     *
+     * @param persistJournalIndex true to persist the journal index, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPersistJournalIndex(final boolean persistJournalIndex) {
+      this.persistJournalIndex = persistJournalIndex;
+      return this;
+    }
+
+    /**
+     * Sets how many segments are prepared ahead of time, such that rolling over to the next segment
+     * does not have to wait for a new segment to be created.
+     *
+     * @param segmentPoolSize the number of segments to prepare ahead of time
+     * @return this builder for chaining
+     */
+    public Builder withSegmentPoolSize(final int segmentPoolSize) {
+      this.segmentPoolSize = segmentPoolSize;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +446,10 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          flushMode,
+          persistJournalIndex,
+          segmentPoolSize);
     }
   }
 }
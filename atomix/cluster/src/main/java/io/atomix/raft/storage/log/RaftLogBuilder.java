@@ -19,6 +19,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher.Factory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import java.io.File;
@@ -126,6 +127,43 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets which system call is used to flush segments to disk. Records are always appended through
+   * the segment's memory mapped buffer, regardless of the flush mode.
+   *
+   * @param flushMode how segments are flushed to disk
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withFlushMode(final SegmentFlushMode flushMode) {
+    journalBuilder.withFlushMode(flushMode);
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index is persisted next to each segment, such that it can be restored
+   * instead of being rebuilt when the log is opened again.
+   *
+   * @param persistJournalIndex true to persist the journal index, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistJournalIndex(final boolean persistJournalIndex) {
+    journalBuilder.withPersistJournalIndex(persistJournalIndex);
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time, such that rolling over to the next segment
+   * does not have to wait for a new segment to be created. See {@link
+   * SegmentedJournalBuilder#withSegmentPoolSize(int)}.
+   *
+   * @param segmentPoolSize the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentPoolSize(final int segmentPoolSize) {
+    journalBuilder.withSegmentPoolSize(segmentPoolSize);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -77,6 +77,11 @@ public class RaftLogCommittedReader implements RaftLogReader {
     return nextIndex;
   }
 
+  @Override
+  public void retainFrom(final long index) {
+    reader.retainFrom(index);
+  }
+
   @Override
   public void close() {
     reader.close();
@@ -47,6 +47,14 @@ public interface RaftLogReader extends java.util.Iterator<IndexedRaftLogEntry>,
    */
   long seekToAsqn(final long asqn);
 
+  /**
+   * Keeps all entries from the given index on valid while the reader moves on, even across several
+   * segments of the log. The retained index is reset on every seek.
+   *
+   * @param index the index of the oldest entry which is still in use
+   */
+  void retainFrom(final long index);
+
   @Override
   void close();
 }
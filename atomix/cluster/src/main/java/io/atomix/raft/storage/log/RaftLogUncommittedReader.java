@@ -72,6 +72,11 @@ public class RaftLogUncommittedReader implements RaftLogReader {
     return journalReader.seekToAsqn(asqn);
   }
 
+  @Override
+  public void retainFrom(final long index) {
+    journalReader.retainFrom(index);
+  }
+
   @Override
   public void close() {
     journalReader.close();
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.snapshot.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class SnapshotChunkImplTest {
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldEncodeAndDecodeChunk(final boolean reused) {
+    // given
+    final var chunk = new SnapshotChunkImpl(new TestChunk(reused));
+
+    // when
+    final var decoded = new SnapshotChunkImpl();
+    final boolean wrapped = decoded.tryWrap(new UnsafeBuffer(chunk.toBytes()));
+
+    // then
+    assertThat(wrapped).isTrue();
+    assertThat(decoded.getSnapshotId()).isEqualTo("1-1-1-1");
+    assertThat(decoded.getChunkName()).isEqualTo("000001.sst");
+    assertThat(decoded.getTotalCount()).isEqualTo(3);
+    assertThat(decoded.getChecksum()).isEqualTo(123L);
+    assertThat(decoded.getSnapshotChecksum()).isEqualTo(456L);
+    assertThat(decoded.isReused()).isEqualTo(reused);
+    assertThat(decoded.getContent()).isEqualTo(reused ? new byte[0] : new byte[] {1, 2, 3});
+  }
+
+  private record TestChunk(boolean isReused) implements SnapshotChunk {
+
+    @Override
+    public String getSnapshotId() {
+      return "1-1-1-1";
+    }
+
+    @Override
+    public int getTotalCount() {
+      return 3;
+    }
+
+    @Override
+    public String getChunkName() {
+      return "000001.sst";
+    }
+
+    @Override
+    public long getChecksum() {
+      return 123L;
+    }
+
+    @Override
+    public byte[] getContent() {
+      return isReused ? new byte[0] : new byte[] {1, 2, 3};
+    }
+
+    @Override
+    public long getSnapshotChecksum() {
+      return 456L;
+    }
+  }
+}
@@ -28,18 +28,20 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>Note that due to the look-ahead, calling {@link #hasNext()} may result in doing some I/O and
  * mutating the state of the reader.
  *
- * <p>The reader currently simply returns the block as is without copying it - this is safe at the
- * moment because the serialization in the underlying {@link io.atomix.raft.storage.log.RaftLog}
- * already copies the data from disk. When switching to zero-copy, however, because of the
- * look-ahead, this reader will have to copy the block. At that point, we may want to look into
- * doing more than a single-step look-ahead (either here or in the {@link
- * io.camunda.zeebe.logstreams.log.LogStreamReader}).
+ * <p>The reader returns the block as is without copying it, so the block, and every {@link
+ * io.camunda.zeebe.logstreams.log.LoggedEvent} read from it, wraps the mapped memory of the journal
+ * segment directly. This is safe despite the look-ahead: the reader retains the index of the
+ * returned block, so the journal keeps the segments from that block on mapped, even if they are
+ * compacted in the meantime and even if the look-ahead skips over several segments of non
+ * application entries. A block therefore remains valid while the next one is read ahead; consumers
+ * which need to keep events for longer must copy them.
  */
 public final class AtomixLogStorageReader implements LogStorageReader {
 
   private final RaftLogReader reader;
   private final DirectBuffer currentBlockBuffer;
   private final DirectBuffer nextBlockBuffer;
+  private long nextBlockIndex;
 
   public AtomixLogStorageReader(final RaftLogReader reader) {
     this.reader = reader;
@@ -80,6 +82,9 @@ public final class AtomixLogStorageReader implements LogStorageReader {
 
     currentBlockBuffer.wrap(nextBlockBuffer);
     nextBlockBuffer.wrap(0, 0);
+    // the previous block is not in use anymore, but this one must remain valid during the
+    // look-ahead
+    reader.retainFrom(nextBlockIndex);
 
     return currentBlockBuffer;
   }
@@ -97,6 +102,7 @@ public final class AtomixLogStorageReader implements LogStorageReader {
             (SerializedApplicationEntry) entry.getApplicationEntry();
 
         nextBlockBuffer.wrap(nextEntry.data());
+        nextBlockIndex = entry.index();
         return true;
       }
     }
@@ -71,6 +71,10 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setPersistJournalIndex(
+        brokerCfg.getExperimental().getRaft().isPersistJournalIndex());
+    storageConfig.setSegmentPoolSize(brokerCfg.getExperimental().getRaft().getSegmentPoolSize());
+    storageConfig.setFlushMode(brokerCfg.getData().getDisk().getFlushMode());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
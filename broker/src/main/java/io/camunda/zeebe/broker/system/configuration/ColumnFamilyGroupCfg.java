@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyGroup;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class ColumnFamilyGroupCfg {
+
+  private String name;
+  private Set<String> columnFamilies = new HashSet<>();
+  private double blockCacheShare = ColumnFamilyGroup.DEFAULT_BLOCK_CACHE_SHARE;
+  private String compactionStyle = ColumnFamilyGroup.DEFAULT_COMPACTION_STYLE.name();
+  private boolean enablePrefixExtractor = ColumnFamilyGroup.DEFAULT_PREFIX_EXTRACTOR_ENABLED;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(final String name) {
+    this.name = name;
+  }
+
+  public Set<String> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public void setColumnFamilies(final Set<String> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+  }
+
+  public double getBlockCacheShare() {
+    return blockCacheShare;
+  }
+
+  public void setBlockCacheShare(final double blockCacheShare) {
+    this.blockCacheShare = blockCacheShare;
+  }
+
+  public String getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public void setCompactionStyle(final String compactionStyle) {
+    this.compactionStyle = compactionStyle;
+  }
+
+  public boolean isEnablePrefixExtractor() {
+    return enablePrefixExtractor;
+  }
+
+  public void setEnablePrefixExtractor(final boolean enablePrefixExtractor) {
+    this.enablePrefixExtractor = enablePrefixExtractor;
+  }
+
+  public ColumnFamilyGroup createColumnFamilyGroup() {
+    return new ColumnFamilyGroup(name)
+        .setColumnFamilies(Set.copyOf(columnFamilies))
+        .setBlockCacheShare(blockCacheShare)
+        .setCompactionStyle(compactionStyle)
+        .setPrefixExtractorEnabled(enablePrefixExtractor);
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyGroupCfg{"
+        + "name='"
+        + name
+        + '\''
+        + ", columnFamilies="
+        + columnFamilies
+        + ", blockCacheShare="
+        + blockCacheShare
+        + ", compactionStyle="
+        + compactionStyle
+        + ", enablePrefixExtractor="
+        + enablePrefixExtractor
+        + '}';
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 import java.time.Duration;
 import org.slf4j.Logger;
 import org.springframework.util.unit.DataSize;
@@ -19,9 +20,11 @@ public class DiskCfg implements ConfigurationEntry {
   private static final boolean DEFAULT_DISK_MONITORING_ENABLED = true;
   private static final DataSize DISABLED_DISK_FREESPACE = DataSize.ofBytes(0);
   private static final Duration DEFAULT_DISK_USAGE_MONITORING_DELAY = Duration.ofSeconds(1);
+  private static final SegmentFlushMode DEFAULT_FLUSH_MODE = SegmentFlushMode.MSYNC;
   private boolean enableMonitoring = DEFAULT_DISK_MONITORING_ENABLED;
   private Duration monitoringInterval = DEFAULT_DISK_USAGE_MONITORING_DELAY;
   private FreeSpaceCfg freeSpace = new FreeSpaceCfg();
+  private SegmentFlushMode flushMode = DEFAULT_FLUSH_MODE;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -60,9 +63,24 @@ public class DiskCfg implements ConfigurationEntry {
     this.freeSpace = freeSpace;
   }
 
+  public SegmentFlushMode getFlushMode() {
+    return flushMode;
+  }
+
+  public void setFlushMode(final SegmentFlushMode flushMode) {
+    this.flushMode = flushMode;
+  }
+
   @Override
   public String toString() {
-    return "DiskCfg{" + "enableMonitoring=" + enableMonitoring + ", freeSpace=" + freeSpace + '}';
+    return "DiskCfg{"
+        + "enableMonitoring="
+        + enableMonitoring
+        + ", freeSpace="
+        + freeSpace
+        + ", flushMode="
+        + flushMode
+        + '}';
   }
 
   public static class FreeSpaceCfg implements ConfigurationEntry {
@@ -23,6 +23,8 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PERSIST_JOURNAL_INDEX = false;
+  private static final int DEFAULT_SEGMENT_POOL_SIZE = 1;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private Duration configurationChangeTimeout = DEFAULT_CONFIGURATION_CHANGE_TIMEOUT;
@@ -31,6 +33,8 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean persistJournalIndex = DEFAULT_PERSIST_JOURNAL_INDEX;
+  private int segmentPoolSize = DEFAULT_SEGMENT_POOL_SIZE;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -87,4 +91,20 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isPersistJournalIndex() {
+    return persistJournalIndex;
+  }
+
+  public void setPersistJournalIndex(final boolean persistJournalIndex) {
+    this.persistJournalIndex = persistJournalIndex;
+  }
+
+  public int getSegmentPoolSize() {
+    return segmentPoolSize;
+  }
+
+  public void setSegmentPoolSize(final int segmentPoolSize) {
+    this.segmentPoolSize = segmentPoolSize;
+  }
 }
@@ -7,11 +7,17 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.time.Duration;
+
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_LATENCY_TRACING_SAMPLE_RATE = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing = false;
+  private Duration scheduledTasksTimeBudget = Duration.ZERO;
+  private int latencyTracingSampleRate = DEFAULT_LATENCY_TRACING_SAMPLE_RATE;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -19,6 +25,16 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+
+    if (scheduledTasksTimeBudget.isNegative()) {
+      throw new IllegalArgumentException(
+          "scheduledTasksTimeBudget must be >= 0 but was %s".formatted(scheduledTasksTimeBudget));
+    }
+
+    if (latencyTracingSampleRate < 0) {
+      throw new IllegalArgumentException(
+          "latencyTracingSampleRate must be >= 0 but was %s".formatted(latencyTracingSampleRate));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -37,6 +53,30 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public boolean isEnablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public void setEnablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+  }
+
+  public Duration getScheduledTasksTimeBudget() {
+    return scheduledTasksTimeBudget;
+  }
+
+  public void setScheduledTasksTimeBudget(final Duration scheduledTasksTimeBudget) {
+    this.scheduledTasksTimeBudget = scheduledTasksTimeBudget;
+  }
+
+  public int getLatencyTracingSampleRate() {
+    return latencyTracingSampleRate;
+  }
+
+  public void setLatencyTracingSampleRate(final int latencyTracingSampleRate) {
+    this.latencyTracingSampleRate = latencyTracingSampleRate;
+  }
+
   @Override
   public String toString() {
     return "ProcessingCfg{"
@@ -44,6 +84,12 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", enablePipelinedProcessing="
+        + enablePipelinedProcessing
+        + ", scheduledTasksTimeBudget="
+        + scheduledTasksTimeBudget
+        + ", latencyTracingSampleRate="
+        + latencyTracingSampleRate
         + '}';
   }
 }
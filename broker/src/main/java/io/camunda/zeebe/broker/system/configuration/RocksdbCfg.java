@@ -8,6 +8,8 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +30,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
 
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
 
+  private List<ColumnFamilyGroupCfg> columnFamilyGroups = new ArrayList<>();
+  private DataSize columnFamilyCacheSize =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE);
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     if (columnFamilyOptions == null) {
@@ -120,6 +126,22 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public List<ColumnFamilyGroupCfg> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public void setColumnFamilyGroups(final List<ColumnFamilyGroupCfg> columnFamilyGroups) {
+    this.columnFamilyGroups = columnFamilyGroups;
+  }
+
+  public DataSize getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final DataSize columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -130,7 +152,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setColumnFamilyCacheSize(columnFamilyCacheSize.toBytes())
+        .setColumnFamilyGroups(
+            columnFamilyGroups.stream()
+                .map(ColumnFamilyGroupCfg::createColumnFamilyGroup)
+                .toList());
   }
 
   @Override
@@ -154,6 +181,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", columnFamilyGroups="
+        + columnFamilyGroups
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
         + '}';
   }
 
@@ -158,6 +158,12 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .setEnablePipelinedProcessing(
+            context.getBrokerCfg().getProcessing().isEnablePipelinedProcessing())
+        .setScheduledTasksTimeBudget(
+            context.getBrokerCfg().getProcessing().getScheduledTasksTimeBudget())
+        .setLatencyTracingSampleRate(
+            context.getBrokerCfg().getProcessing().getLatencyTracingSampleRate())
         .listener(
             new StreamProcessorListener() {
               @Override
@@ -9,7 +9,9 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
 import java.time.Duration;
+import java.util.Map;
 import org.junit.Test;
 import org.springframework.util.unit.DataSize;
 
@@ -39,4 +41,24 @@ public class DataCfgTest {
     assertThat(dataCfg.getDisk().getMonitoringInterval()).isEqualTo(Duration.ofMinutes(5));
     assertThat(dataCfg.getDisk().isEnableMonitoring()).isFalse();
   }
+
+  @Test
+  public void shouldUseMsyncFlushModePerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", Map.of());
+
+    // then
+    assertThat(cfg.getData().getDisk().getFlushMode()).isEqualTo(SegmentFlushMode.MSYNC);
+  }
+
+  @Test
+  public void shouldSetFlushModeFromEnv() {
+    // when
+    final BrokerCfg cfg =
+        TestConfigReader.readConfig(
+            "empty", Map.of("zeebe.broker.data.disk.flushMode", "fdatasync"));
+
+    // then
+    assertThat(cfg.getData().getDisk().getFlushMode()).isEqualTo(SegmentFlushMode.FDATASYNC);
+  }
 }
@@ -181,4 +181,30 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetPersistJournalIndexFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.persistJournalIndex", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isPersistJournalIndex()).isTrue();
+  }
+
+  @Test
+  void shouldSetSegmentPoolSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.segmentPoolSize", "3");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getSegmentPoolSize()).isEqualTo(3);
+  }
 }
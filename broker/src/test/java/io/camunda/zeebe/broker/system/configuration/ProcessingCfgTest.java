@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
@@ -130,4 +131,103 @@ final class ProcessingCfgTest {
     // then
     assertThat(enabled).isTrue();
   }
+
+  @Test
+  void shouldDisablePipelinedProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldSetPipelinedProcessingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldNotLimitScheduledTasksByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var timeBudget = cfg.getScheduledTasksTimeBudget();
+
+    // then
+    assertThat(timeBudget).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void shouldSetScheduledTasksTimeBudgetFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var timeBudget = cfg.getScheduledTasksTimeBudget();
+
+    // then
+    assertThat(timeBudget).isEqualTo(Duration.ofMillis(50));
+  }
+
+  @Test
+  void shouldThrowExceptionForNegativeScheduledTasksTimeBudget() {
+    // given
+    final var cfg = new ProcessingCfg();
+    cfg.setScheduledTasksTimeBudget(Duration.ofMillis(-1));
+
+    // when - then
+    assertThatThrownBy(() -> cfg.init(new BrokerCfg(), "/base"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("scheduledTasksTimeBudget must be >= 0 but was PT-0.001S");
+  }
+
+  @Test
+  void shouldSampleEveryHundredthCommandByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var sampleRate = cfg.getLatencyTracingSampleRate();
+
+    // then
+    assertThat(sampleRate).isEqualTo(100);
+  }
+
+  @Test
+  void shouldSetLatencyTracingSampleRateFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var sampleRate = cfg.getLatencyTracingSampleRate();
+
+    // then
+    assertThat(sampleRate).isEqualTo(10);
+  }
+
+  @Test
+  void shouldThrowExceptionForNegativeLatencyTracingSampleRate() {
+    // given
+    final var cfg = new ProcessingCfg();
+    cfg.setLatencyTracingSampleRate(-1);
+
+    // when - then
+    assertThatThrownBy(() -> cfg.init(new BrokerCfg(), "/base"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("latencyTracingSampleRate must be >= 0 but was -1");
+  }
 }
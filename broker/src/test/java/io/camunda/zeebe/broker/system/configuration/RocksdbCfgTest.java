@@ -285,4 +285,67 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldCreateColumnFamilyGroupsFromConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var groups = rocksdb.createRocksDbConfiguration().getColumnFamilyGroups();
+
+    // then
+    assertThat(groups).hasSize(1);
+    final var group = groups.get(0);
+    assertThat(group.getName()).isEqualTo("jobs");
+    assertThat(group.getColumnFamilies()).containsExactlyInAnyOrder("JOBS", "JOB_STATES");
+    assertThat(group.getBlockCacheShare()).isEqualTo(0.25);
+    assertThat(group.getCompactionStyle().name()).isEqualTo("UNIVERSAL");
+    assertThat(group.isPrefixExtractorEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldHaveNoColumnFamilyGroupsPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getColumnFamilyGroups()).isEmpty();
+  }
+
+  @Test
+  public void shouldDisableColumnFamilyCachePerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getColumnFamilyCacheSize()).isZero();
+  }
+
+  @Test
+  public void shouldSetColumnFamilyCacheSizeViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.createRocksDbConfiguration().getColumnFamilyCacheSize())
+        .isEqualTo(DataSize.ofMegabytes(8).toBytes());
+  }
+
+  @Test
+  public void shouldSetColumnFamilyCacheSizeViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.columnFamilyCacheSize", "16MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getColumnFamilyCacheSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
 }
@@ -17,6 +17,8 @@ import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -55,8 +57,20 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
       throw new IllegalArgumentException("The input stream must not be null");
     }
 
+    final byte[] resource;
     try {
-      final var parseResult = dmnEngine.parse(dmnResource);
+      resource = dmnResource.readAllBytes();
+    } catch (final IOException e) {
+      return new ParseFailureMessage(e.getMessage());
+    }
+
+    // the same resource is parsed by every partition, the parsed DRG is shared between them
+    return SharedDrgCache.INSTANCE.getOrParse(resource, () -> parse(resource));
+  }
+
+  private ParsedDecisionRequirementsGraph parse(final byte[] resource) {
+    try {
+      final var parseResult = dmnEngine.parse(new ByteArrayInputStream(resource));
 
       if (parseResult.isLeft()) {
         final DmnEngine.Failure failure = parseResult.left().get();
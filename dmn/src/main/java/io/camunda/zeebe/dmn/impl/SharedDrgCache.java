@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Shares the parsed decision requirements graphs (DRGs) between all decision engines of a broker.
+ * The same DMN resource is deployed to, and parsed by, every partition, which is why it is only
+ * parsed once and then kept in memory once, instead of once per partition.
+ *
+ * <p>The DRGs are identified by the SHA-256 checksum of their resource. The cache is bounded by the
+ * total size of the cached resources, as the size of a parsed DRG grows with the size of its
+ * resource. The parsed DRGs are never modified, which is why they can be evaluated by several
+ * partitions concurrently.
+ */
+final class SharedDrgCache {
+
+  /** The maximum total size of the resources of the cached DRGs, in bytes. */
+  static final long MAX_RESOURCES_SIZE = 32 * 1024 * 1024;
+
+  static final SharedDrgCache INSTANCE = new SharedDrgCache();
+
+  private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+  private final SharedDrgCacheMetrics metrics = new SharedDrgCacheMetrics();
+  private final Cache<String, CachedDrg> drgs =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_RESOURCES_SIZE)
+          .weigher((String checksum, CachedDrg drg) -> drg.resourceSize())
+          .removalListener(this::onDrgRemoved)
+          .build();
+
+  private SharedDrgCache() {}
+
+  /**
+   * @return the parsed DRG of the given resource, which is parsed by the given parser if it is not
+   *     cached yet; concurrent callers wait for the same resource to be parsed only once
+   */
+  ParsedDecisionRequirementsGraph getOrParse(
+      final byte[] resource, final Supplier<ParsedDecisionRequirementsGraph> parser) {
+    final var checksum = checksum(resource);
+    final var cachedDrg = drgs.getIfPresent(checksum);
+    if (cachedDrg != null) {
+      metrics.countHit();
+      return cachedDrg.drg();
+    }
+
+    metrics.countMiss();
+    try {
+      return drgs.get(checksum, () -> new CachedDrg(parser.get(), resource.length)).drg();
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      throw new IllegalStateException(
+          "Expected to parse the decision requirements graph, but failed unexpectedly",
+          e.getCause());
+    }
+  }
+
+  private void onDrgRemoved(final RemovalNotification<String, CachedDrg> notification) {
+    if (notification.wasEvicted()) {
+      metrics.countEviction();
+    }
+  }
+
+  private static String checksum(final byte[] resource) {
+    try {
+      final var digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+      return HexFormat.of().formatHex(digest.digest(resource));
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(
+          "Expected to compute the %s checksum of the DMN resource, but the algorithm is not available"
+              .formatted(CHECKSUM_ALGORITHM),
+          e);
+    }
+  }
+
+  private record CachedDrg(ParsedDecisionRequirementsGraph drg, int resourceSize) {}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.prometheus.client.Counter;
+
+final class SharedDrgCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_RESULT = "result";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("dmn_drg_cache_lookups_total")
+          .help(
+              "Number of lookups of parsed decision requirements graphs in the cache shared by all partitions, by result")
+          .labelNames(LABEL_NAME_RESULT)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("dmn_drg_cache_evictions_total")
+          .help(
+              "Number of parsed decision requirements graphs evicted from the cache shared by all partitions")
+          .register();
+
+  private final Counter.Child hits = LOOKUPS.labels("hit");
+  private final Counter.Child misses = LOOKUPS.labels("miss");
+
+  void countHit() {
+    hits.inc();
+  }
+
+  void countMiss() {
+    misses.inc();
+  }
+
+  void countEviction() {
+    EVICTIONS.inc();
+  }
+}
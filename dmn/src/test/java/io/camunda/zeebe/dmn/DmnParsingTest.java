@@ -116,4 +116,19 @@ class DmnParsingTest {
     assertThat(parsedDrg.getNamespace()).isNull();
     assertThat(parsedDrg.getDecisions()).isEmpty();
   }
+
+  @Test
+  void shouldShareParsedDrgBetweenDecisionEngines() {
+    // given
+    final var otherDecisionEngine = DecisionEngineFactory.createDecisionEngine();
+    final var parsedDrg = decisionEngine.parse(getClass().getResourceAsStream(VALID_DRG));
+
+    // when
+    final var otherParsedDrg = otherDecisionEngine.parse(getClass().getResourceAsStream(VALID_DRG));
+
+    // then
+    assertThat(otherParsedDrg)
+        .describedAs("Expect that the same DMN resource is only parsed once")
+        .isSameAs(parsedDrg);
+  }
 }
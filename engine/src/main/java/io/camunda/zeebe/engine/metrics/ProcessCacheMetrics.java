@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class ProcessCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+  private static final String LABEL_NAME_RESULT = "result";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_lookups_total")
+          .help("Number of lookups of deployed processes in the process cache, by result")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_RESULT)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_evictions_total")
+          .help("Number of deployed processes evicted from the process cache")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels(partitionIdLabel, "hit");
+    misses = LOOKUPS.labels(partitionIdLabel, "miss");
+    evictions = EVICTIONS.labels(partitionIdLabel);
+  }
+
+  public void countHit() {
+    hits.inc();
+  }
+
+  public void countMiss() {
+    misses.inc();
+  }
+
+  public void countEviction() {
+    evictions.inc();
+  }
+}
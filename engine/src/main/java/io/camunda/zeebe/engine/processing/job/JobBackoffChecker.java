@@ -14,6 +14,7 @@ import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import java.time.Duration;
+import org.agrona.collections.MutableBoolean;
 
 public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
 
@@ -26,12 +27,23 @@ public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
         new DueDateChecker(
             BACKOFF_RESOLUTION,
             false,
-            taskResultBuilder ->
-                jobState.findBackedOffJobs(
-                    ActorClock.currentTimeMillis(),
-                    (key, record) ->
+            taskResultBuilder -> {
+              final var hasRecurredJobs = new MutableBoolean();
+              return jobState.findBackedOffJobs(
+                  ActorClock.currentTimeMillis(),
+                  (key, record) -> {
+                    if (hasRecurredJobs.get() && taskResultBuilder.shouldYield()) {
+                      // the remaining jobs are recurred by the next run of the checker
+                      return false;
+                    }
+
+                    final boolean recurred =
                         taskResultBuilder.appendCommandRecord(
-                            key, JobIntent.RECUR_AFTER_BACKOFF, record)));
+                            key, JobIntent.RECUR_AFTER_BACKOFF, record);
+                    hasRecurredJobs.set(hasRecurredJobs.get() || recurred);
+                    return recurred;
+                  });
+            });
   }
 
   public void scheduleBackOff(final long dueDate) {
@@ -21,6 +21,7 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableInteger;
@@ -36,6 +37,7 @@ final class JobBatchCollector {
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
 
   private final JobState jobState;
+  private final VariableState variableState;
   private final JobVariablesCollector jobVariablesCollector;
   private final Predicate<Integer> canWriteEventOfLength;
 
@@ -52,6 +54,7 @@ final class JobBatchCollector {
       final VariableState variableState,
       final Predicate<Integer> canWriteEventOfLength) {
     this.jobState = jobState;
+    this.variableState = variableState;
     this.canWriteEventOfLength = canWriteEventOfLength;
     jobVariablesCollector = new JobVariablesCollector(variableState);
   }
@@ -80,9 +83,7 @@ final class JobBatchCollector {
             ? List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
             : value.getTenantIds();
 
-    jobState.forEachActivatableJobs(
-        value.getTypeBuffer(),
-        tenantIds,
+    final BiFunction<Long, JobRecord, Boolean> collectJob =
         (key, jobRecord) -> {
           // fill in the job record properties first in order to accurately estimate its size before
           // adding it to the batch
@@ -114,7 +115,11 @@ final class JobBatchCollector {
           }
 
           return activatedCount.value < maxActivatedCount;
-        });
+        };
+
+    // the jobs of a batch often belong to the same process instance or multi-instance body
+    variableState.cacheParentScopeVariables(
+        () -> jobState.forEachActivatableJobs(value.getTypeBuffer(), tenantIds, collectJob));
 
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
@@ -24,7 +24,9 @@ import org.agrona.collections.MutableInteger;
  * EXPIRE Message command.
  *
  * <p>To prevent that it clogs the log stream with too many EXPIRE Message commands, it only writes
- * a limited number of these commands in a single run of {@link #execute(TaskResultBuilder)}.
+ * a limited number of these commands in a single run of {@link #execute(TaskResultBuilder)}. It
+ * also stops early if the time budget of the scheduled tasks is used up, see {@link
+ * TaskResultBuilder#shouldYield()}.
  *
  * <p>It determines whether to reschedule itself immediately, or after the configured {@link
  * #executionInterval interval}. If it reschedules itself immediately, then it will continue where
@@ -78,6 +80,11 @@ public final class MessageTimeToLiveChecker implements Task {
             currentTimestamp,
             lastIndex,
             (deadline, expiredMessageKey) -> {
+              if (counter.get() > 0 && taskResultBuilder.shouldYield()) {
+                // continue with this message in the next run
+                return false;
+              }
+
               final var newIndex = new Index(expiredMessageKey, deadline);
               final boolean wasIndexAlreadyVisitedLastTime = newIndex.equals(lastIndex);
               lastIndex = newIndex;
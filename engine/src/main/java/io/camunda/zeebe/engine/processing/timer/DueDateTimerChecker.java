@@ -107,6 +107,7 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     private final TimerRecord timerRecord = new TimerRecord();
 
     private final TaskResultBuilder taskResultBuilder;
+    private boolean hasTriggeredTimers;
 
     public WriteTriggerTimerCommandVisitor(final TaskResultBuilder taskResultBuilder) {
       this.taskResultBuilder = taskResultBuilder;
@@ -114,6 +115,11 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
     @Override
     public boolean visit(final TimerInstance timer) {
+      if (hasTriggeredTimers && taskResultBuilder.shouldYield()) {
+        // the remaining timers are triggered by the next run of the checker
+        return false;
+      }
+
       timerRecord.reset();
       timerRecord
           .setElementInstanceKey(timer.getElementInstanceKey())
@@ -124,8 +130,10 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
           .setProcessDefinitionKey(timer.getProcessDefinitionKey())
           .setTenantId(timer.getTenantId());
 
-      return taskResultBuilder.appendCommandRecord(
-          timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      final boolean triggered =
+          taskResultBuilder.appendCommandRecord(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      hasTriggeredTimers |= triggered;
+      return triggered;
     }
   }
 
@@ -29,7 +29,12 @@ import io.camunda.zeebe.engine.state.message.DbProcessMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 
-/** Contains read-only state that can be accessed safely by scheduled tasks. */
+/**
+ * Contains read-only state that can be accessed safely by scheduled tasks. The state should be
+ * created with a transaction context that {@link ZeebeDb#createSnapshotReadContext() reads from a
+ * snapshot}, so that the scans of the tasks see a consistent state, even if they run concurrently
+ * to the processing.
+ */
 public final class ScheduledTaskDbState implements ScheduledTaskState {
 
   private final DistributionState distributionState;
@@ -9,6 +9,9 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -19,6 +22,8 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -33,14 +38,14 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
-import java.util.HashMap;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
@@ -51,9 +56,14 @@ public final class DbProcessState implements MutableProcessState {
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
-  private final Map<String, Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>>
-      processesByTenantAndProcessIdAndVersionCache = new HashMap<>();
-  private final Map<String, Long2ObjectHashMap<DeployedProcess>> processByTenantAndKeyCache;
+  private final MessageDigest resourceDigest;
+  private final ProcessCacheMetrics cacheMetrics;
+
+  // the processes are cached by key, and only their keys are cached by id and version, so that each
+  // process is only transformed and kept in memory once
+  private final Cache<TenantIdAndProcessKey, DeployedProcess> processByTenantAndKeyCache;
+  private final Cache<TenantIdAndProcessIdAndVersion, Long>
+      processKeyByTenantAndProcessIdAndVersionCache;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -81,7 +91,10 @@ public final class DbProcessState implements MutableProcessState {
   private final VersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -119,7 +132,19 @@ public final class DbProcessState implements MutableProcessState {
             fkTenantAwareProcessId,
             digest);
 
-    processByTenantAndKeyCache = new HashMap<>();
+    try {
+      resourceDigest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Expected SHA-256 to be supported, but it is not", e);
+    }
+    cacheMetrics = new ProcessCacheMetrics(partitionId);
+    processByTenantAndKeyCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getProcessCacheCapacity())
+            .removalListener(this::onProcessRemovedFromCache)
+            .build();
+    processKeyByTenantAndProcessIdAndVersionCache =
+        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
 
     versionManager =
         new VersionManager(
@@ -177,12 +202,14 @@ public final class DbProcessState implements MutableProcessState {
     processColumnFamily.deleteExisting(tenantAwareProcessDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(tenantAwareProcessIdAndVersionKey);
 
-    processesByTenantAndProcessIdAndVersionCache
-        .getOrDefault(processRecord.getTenantId(), new HashMap<>())
-        .remove(processRecord.getBpmnProcessIdBuffer());
-    processByTenantAndKeyCache
-        .getOrDefault(processRecord.getTenantId(), new Long2ObjectHashMap<>())
-        .remove(processRecord.getProcessDefinitionKey());
+    processKeyByTenantAndProcessIdAndVersionCache.invalidate(
+        new TenantIdAndProcessIdAndVersion(
+            processRecord.getTenantId(),
+            processRecord.getBpmnProcessIdBuffer(),
+            processRecord.getVersion()));
+    processByTenantAndKeyCache.invalidate(
+        new TenantIdAndProcessKey(
+            processRecord.getTenantId(), processRecord.getProcessDefinitionKey()));
 
     final long latestVersion =
         versionManager.getLatestResourceVersion(
@@ -229,22 +256,11 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
     final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+        SharedExecutableProcessCache.INSTANCE.getOrTransform(
+            resourceChecksum(copiedProcess.getResource()),
+            bufferAsString(copiedProcess.getBpmnProcessId()),
+            () -> transformProcess(copiedProcess));
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
@@ -253,6 +269,28 @@ public final class DbProcessState implements MutableProcessState {
     return deployedProcess;
   }
 
+  private ExecutableProcess transformProcess(final PersistedProcess persistedProcess) {
+    final BpmnModelInstance modelInstance =
+        readModelInstanceFromBuffer(persistedProcess.getResource());
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
+  }
+
+  private String resourceChecksum(final DirectBuffer resource) {
+    resourceDigest.update(BufferUtil.bufferAsArray(resource));
+    return HexFormat.of().formatHex(resourceDigest.digest());
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
@@ -260,67 +298,75 @@ public final class DbProcessState implements MutableProcessState {
   }
 
   private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
+    final String tenantId = deployedProcess.getTenantId();
+
+    processByTenantAndKeyCache.put(
+        new TenantIdAndProcessKey(tenantId, deployedProcess.getKey()), deployedProcess);
+    processKeyByTenantAndProcessIdAndVersionCache.put(
+        new TenantIdAndProcessIdAndVersion(
+            tenantId, deployedProcess.getBpmnProcessId(), deployedProcess.getVersion()),
+        deployedProcess.getKey());
+  }
 
-    final Long2ObjectHashMap<DeployedProcess> keyMap =
-        processByTenantAndKeyCache.computeIfAbsent(
-            deployedProcess.getTenantId(), key -> new Long2ObjectHashMap<>());
-    keyMap.put(deployedProcess.getKey(), deployedProcess);
+  private void onProcessRemovedFromCache(
+      final RemovalNotification<TenantIdAndProcessKey, DeployedProcess> notification) {
+    if (notification.wasEvicted()) {
+      cacheMetrics.countEviction();
+    }
+  }
 
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .computeIfAbsent(deployedProcess.getTenantId(), key -> new HashMap<>())
-            .computeIfAbsent(bpmnProcessId, key -> new Long2ObjectHashMap<>());
+  /**
+   * @return the cached process of the given id and version, or null if it is not cached
+   */
+  private DeployedProcess getCachedProcess(
+      final DirectBuffer processIdBuffer, final long version, final String tenantId) {
+    final Long processKey =
+        processKeyByTenantAndProcessIdAndVersionCache.getIfPresent(
+            new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version));
+    return processKey == null ? null : getCachedProcess(processKey, tenantId);
+  }
 
-    final int version = deployedProcess.getVersion();
-    versionMap.put(version, deployedProcess);
+  /**
+   * @return the cached process of the given key, or null if it is not cached
+   */
+  private DeployedProcess getCachedProcess(final long processKey, final String tenantId) {
+    final DeployedProcess deployedProcess =
+        processByTenantAndKeyCache.getIfPresent(new TenantIdAndProcessKey(tenantId, processKey));
+    if (deployedProcess != null) {
+      cacheMetrics.countHit();
+    } else {
+      cacheMetrics.countMiss();
+    }
+    return deployedProcess;
   }
 
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(
       final DirectBuffer processIdBuffer, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processIdBuffer);
-
-    processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-    } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-      }
+    final DeployedProcess deployedProcess =
+        getCachedProcess(processIdBuffer, latestVersion, tenantId);
+    if (deployedProcess != null) {
+      return deployedProcess;
     }
-    return deployedProcess;
+
+    processId.wrapBuffer(processIdBuffer);
+    return lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processId);
-
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null
-          ? deployedProcess
-          : lookupPersistenceState(processId, version, tenantId);
-    } else {
-      return lookupPersistenceState(processId, version, tenantId);
-    }
+    final DeployedProcess deployedProcess = getCachedProcess(processId, version, tenantId);
+    return deployedProcess != null
+        ? deployedProcess
+        : lookupPersistenceState(processId, version, tenantId);
   }
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
-    final DeployedProcess deployedProcess =
-        processByTenantAndKeyCache.getOrDefault(tenantId, new Long2ObjectHashMap<>()).get(key);
+    final DeployedProcess deployedProcess = getCachedProcess(key, tenantId);
 
     if (deployedProcess != null) {
       return deployedProcess;
@@ -383,8 +429,8 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processByTenantAndKeyCache.clear();
-    processesByTenantAndProcessIdAndVersionCache.clear();
+    processByTenantAndKeyCache.invalidateAll();
+    processKeyByTenantAndProcessIdAndVersionCache.invalidateAll();
     versionManager.clear();
   }
 
@@ -412,16 +458,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByTenantAndProcessIdAndVersionCache
-              .getOrDefault(tenantId, new HashMap<>())
-              .get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -435,13 +472,14 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processByTenantAndKeyCache
-          .getOrDefault(tenantId, new Long2ObjectHashMap<>())
-          .get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
+
+  private record TenantIdAndProcessKey(String tenantId, long processKey) {}
+
+  private record TenantIdAndProcessIdAndVersion(
+      String tenantId, DirectBuffer processId, long version) {}
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import java.util.function.Supplier;
+
+/**
+ * Shares the transformed processes between the partitions of a broker. Every partition stores the
+ * processes which are deployed to it, which is why the same process is usually transformed by each
+ * partition, and kept in memory once per partition.
+ *
+ * <p>The processes are identified by the checksum of their resource and their process id. Only weak
+ * references to the processes are kept, so a process is removed once none of the partitions caches
+ * it anymore.
+ */
+final class SharedExecutableProcessCache {
+
+  static final SharedExecutableProcessCache INSTANCE = new SharedExecutableProcessCache();
+
+  private final Cache<ResourceChecksumAndProcessId, ExecutableProcess> processes =
+      CacheBuilder.newBuilder().weakValues().build();
+
+  private SharedExecutableProcessCache() {}
+
+  /**
+   * @return the process of the given resource and process id, which is transformed by the given
+   *     transformer if no partition has transformed it yet
+   */
+  ExecutableProcess getOrTransform(
+      final String resourceChecksum,
+      final String bpmnProcessId,
+      final Supplier<ExecutableProcess> transformer) {
+    final var key = new ResourceChecksumAndProcessId(resourceChecksum, bpmnProcessId);
+    final var cachedProcess = processes.getIfPresent(key);
+    if (cachedProcess != null) {
+      return cachedProcess;
+    }
+
+    // partitions may transform the same process concurrently, the last one wins
+    final var process = transformer.get();
+    processes.put(key, process);
+    return process;
+  }
+
+  private record ResourceChecksumAndProcessId(String resourceChecksum, String bpmnProcessId) {}
+}
@@ -29,6 +29,17 @@ public interface VariableState {
 
   DirectBuffer getVariablesLocalAsDocument(long scopeKey);
 
+  /**
+   * Runs the given operation while caching the variables which parent scopes pass on to their child
+   * scopes. This way, they are only collected once if the variables of many child scopes of the
+   * same parent scope are collected as document, e.g. when activating a batch of jobs of a
+   * multi-instance activity. The cache is dropped as soon as any variable or scope is removed or
+   * changed, and when the operation completes.
+   *
+   * @param operation the operation which collects the variables of many scopes
+   */
+  void cacheParentScopeVariables(Runnable operation);
+
   boolean isEmpty();
 
   /**
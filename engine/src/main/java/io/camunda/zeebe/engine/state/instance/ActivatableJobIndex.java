@@ -0,0 +1,263 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * In-memory index of the keys of the activatable jobs, per job type and tenant, which mirrors the
+ * activatable jobs column family. The keys of each type and tenant are kept in ascending order,
+ * which is the order in which the jobs are stored in the column family, so that jobs are activated
+ * in the same order as when iterating over it.
+ *
+ * <p>The index is only built once it is needed, and is only maintained afterwards. This way it is
+ * rebuilt from the column family after a restart, and is not maintained on replay at all.
+ *
+ * <p>Like the column family, the index reflects the changes of the current transaction. They are
+ * recorded until the transaction is completed, so that they can be reverted if it is rolled back.
+ */
+final class ActivatableJobIndex implements TransactionListener {
+
+  private final Map<DirectBuffer, Map<String, JobKeys>> jobKeysByType = new HashMap<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer(0, 0);
+  private final TransactionContext transactionContext;
+  // changes of the current transaction, in the order in which they were made
+  private final List<Change> changes = new ArrayList<>();
+  private boolean built;
+  private boolean builtInCurrentTransaction;
+  private boolean listeningToTransaction;
+
+  ActivatableJobIndex(final TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
+  }
+
+  boolean isBuilt() {
+    return built;
+  }
+
+  /**
+   * Builds the index from scratch, with the jobs which are added by the given loader via {@link
+   * #getOrCreate(DirectBuffer, String)}.
+   */
+  void build(final Consumer<ActivatableJobIndex> loader) {
+    jobKeysByType.clear();
+    changes.clear();
+    loader.accept(this);
+    built = true;
+    builtInCurrentTransaction = true;
+    listenToTransaction();
+  }
+
+  /** Adds the given job to the index, if it is built. */
+  void add(final DirectBuffer type, final String tenantId, final long key) {
+    if (!built) {
+      return;
+    }
+
+    final var jobKeys = getOrCreate(type, tenantId);
+    if (jobKeys.add(key)) {
+      recordChange(new Change(jobKeys, key, true));
+    }
+  }
+
+  /** Removes the given job from the index, if it is built. */
+  void remove(final DirectBuffer type, final String tenantId, final long key) {
+    if (!built) {
+      return;
+    }
+
+    final var jobKeys = get(type, tenantId);
+    if (jobKeys != null && jobKeys.remove(key)) {
+      recordChange(new Change(jobKeys, key, false));
+    }
+  }
+
+  /**
+   * @return the keys of the activatable jobs of the given type and tenant, or null if there are
+   *     none
+   */
+  JobKeys get(final DirectBuffer type, final String tenantId) {
+    typeView.wrap(type);
+    final var jobKeysByTenant = jobKeysByType.get(typeView);
+    return jobKeysByTenant == null ? null : jobKeysByTenant.get(tenantId);
+  }
+
+  /**
+   * @return the keys of the activatable jobs of the given type and tenant, which are created if
+   *     there are none yet
+   */
+  JobKeys getOrCreate(final DirectBuffer type, final String tenantId) {
+    typeView.wrap(type);
+    var jobKeysByTenant = jobKeysByType.get(typeView);
+    if (jobKeysByTenant == null) {
+      jobKeysByTenant = new HashMap<>();
+      jobKeysByType.put(BufferUtil.cloneBuffer(type), jobKeysByTenant);
+    }
+    return jobKeysByTenant.computeIfAbsent(tenantId, t -> new JobKeys());
+  }
+
+  @Override
+  public void onCommit() {
+    changes.clear();
+    builtInCurrentTransaction = false;
+    listeningToTransaction = false;
+  }
+
+  @Override
+  public void onRollback() {
+    if (builtInCurrentTransaction) {
+      // the index may contain changes of the transaction, it is built again once it is needed
+      jobKeysByType.clear();
+      built = false;
+    } else {
+      for (int i = changes.size() - 1; i >= 0; i--) {
+        changes.get(i).revert();
+      }
+    }
+
+    changes.clear();
+    builtInCurrentTransaction = false;
+    listeningToTransaction = false;
+  }
+
+  private void recordChange(final Change change) {
+    // if there is no current transaction, the change is committed right away when listening
+    changes.add(change);
+    listenToTransaction();
+  }
+
+  private void listenToTransaction() {
+    if (!listeningToTransaction) {
+      listeningToTransaction = true;
+      transactionContext.runInTransaction(
+          () -> transactionContext.getCurrentTransaction().addTransactionListener(this));
+    }
+  }
+
+  private record Change(JobKeys jobKeys, long key, boolean added) {
+
+    void revert() {
+      if (added) {
+        jobKeys.remove(key);
+      } else {
+        jobKeys.add(key);
+      }
+    }
+  }
+
+  /**
+   * The keys of the activatable jobs of one type and tenant, in ascending order. New jobs have
+   * higher keys than the existing ones, and jobs are activated starting with the lowest key, which
+   * is why the keys are kept in an array with a moving head, so that both is done in constant time.
+   */
+  static final class JobKeys {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    /**
+     * @return true if the key was added, false if it was already contained
+     */
+    boolean add(final long key) {
+      if (head == tail) {
+        head = 0;
+        tail = 0;
+      }
+
+      if (head == tail || key > keys[tail - 1]) {
+        ensureCapacity();
+        keys[tail++] = key;
+        return true;
+      }
+
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index >= 0) {
+        return false;
+      }
+
+      if (-index - 1 == head && head > 0) {
+        keys[--head] = key;
+        return true;
+      }
+
+      // ensuring the capacity may move the keys to the start of the array
+      final int position = -index - 1 - head;
+      ensureCapacity();
+      final int insertionIndex = head + position;
+      System.arraycopy(keys, insertionIndex, keys, insertionIndex + 1, tail - insertionIndex);
+      keys[insertionIndex] = key;
+      tail++;
+      return true;
+    }
+
+    /**
+     * @return true if the key was removed, false if it wasn't contained
+     */
+    boolean remove(final long key) {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        return false;
+      }
+
+      if (index == head) {
+        head++;
+      } else {
+        System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+        tail--;
+      }
+      return true;
+    }
+
+    int size() {
+      return tail - head;
+    }
+
+    /**
+     * @return the position of the lowest key which is greater than the given key, which is equal to
+     *     {@link #size()} if there is none
+     */
+    int positionAfter(final long key) {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      final int nextIndex = index >= 0 ? index + 1 : -index - 1;
+      return nextIndex - head;
+    }
+
+    /**
+     * @return the key at the given position, in ascending order of the keys
+     */
+    long get(final int position) {
+      return keys[head + position];
+    }
+
+    private void ensureCapacity() {
+      if (tail < keys.length) {
+        return;
+      }
+
+      final int size = size();
+      final long[] target = size < keys.length / 2 ? keys : new long[keys.length * 2];
+      System.arraycopy(keys, head, target, 0, size);
+      keys = target;
+      head = 0;
+      tail = size;
+    }
+  }
+}
@@ -97,7 +97,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
     elementInstance = new ElementInstance();
     elementInstanceColumnFamily =
-        zeebeDb.createColumnFamily(
+        zeebeDb.createCachedColumnFamily(
             ZbColumnFamilies.ELEMENT_INSTANCE_KEY,
             transactionContext,
             elementInstanceKey,
@@ -20,20 +20,29 @@ import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.instance.ActivatableJobIndex.JobKeys;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  // activatable jobs are looked up in batches, instead of one by one
+  private static final int ACTIVATABLE_JOBS_BATCH_SIZE = 32;
 
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
@@ -42,6 +51,8 @@ public final class DbJobState implements JobState, MutableJobState {
   private final JobRecordValue jobRecordToWrite = new JobRecordValue();
 
   private final DbLong jobKey;
+  private final LongArrayList activatableJobKeys = new LongArrayList();
+  private final DbLong activatableJobKey = new DbLong();
   private final DbForeignKey<DbLong> fkJob;
   private final ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
 
@@ -58,6 +69,10 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
+  // mirrors the activatable column family, so that activatable jobs can be found without iterating
+  private final ActivatableJobIndex activatableJobIndex;
+  private final List<JobKeys> activatableJobKeysOfTenants = new ArrayList<>();
+  private final IntArrayList activatableJobPositions = new IntArrayList();
 
   // timeout => key
   private final DbLong deadlineKey;
@@ -77,11 +92,11 @@ public final class DbJobState implements JobState, MutableJobState {
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
     jobsColumnFamily =
-        zeebeDb.createColumnFamily(
+        zeebeDb.createCachedColumnFamily(
             ZbColumnFamilies.JOBS, transactionContext, jobKey, jobRecordToRead);
 
     statesJobColumnFamily =
-        zeebeDb.createColumnFamily(
+        zeebeDb.createCachedColumnFamily(
             ZbColumnFamilies.JOB_STATES, transactionContext, fkJob, jobState);
 
     jobTypeKey = new DbString();
@@ -94,6 +109,7 @@ public final class DbJobState implements JobState, MutableJobState {
             transactionContext,
             tenantAwareTypeJobKey,
             DbNil.INSTANCE);
+    activatableJobIndex = new ActivatableJobIndex(transactionContext);
 
     deadlineKey = new DbLong();
     deadlineJobKey = new DbCompositeKey<>(deadlineKey, fkJob);
@@ -127,7 +143,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     addJobDeadline(key, deadline);
   }
@@ -162,13 +178,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
+    makeJobNotActivatable(record.getTypeBuffer(), key, record.getTenantId());
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
   }
 
   @Override
@@ -181,7 +197,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     removeJobDeadline(key, record.getDeadline());
     removeJobBackoff(key, record.getRecurringTime());
@@ -198,7 +214,7 @@ public final class DbJobState implements JobState, MutableJobState {
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+      makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
     }
   }
 
@@ -350,20 +366,128 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    ensureActivatableJobIndexBuilt();
+
+    activatableJobKeysOfTenants.clear();
+    for (final String tenantId : tenantIds) {
+      final var jobKeys = activatableJobIndex.get(type, tenantId);
+      if (jobKeys != null && !activatableJobKeysOfTenants.contains(jobKeys)) {
+        activatableJobKeysOfTenants.add(jobKeys);
+      }
+    }
 
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((tenantAwareCompositeKey, zbNil) -> {
-          final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
-          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
+    // the keys are collected in batches, starting after the last visited key, which is why the
+    // callback may change the activatable jobs while visiting them
+    var shouldContinue = true;
+    var lastVisitedKey = Long.MIN_VALUE;
+    while (shouldContinue && collectActivatableJobKeys(lastVisitedKey)) {
+      lastVisitedKey = activatableJobKeys.getLong(activatableJobKeys.size() - 1);
+      shouldContinue = visitActivatableJobs(callback);
+    }
+  }
+
+  /**
+   * Collects the next batch of activatable job keys of the requested tenants, which are greater
+   * than the given key, in ascending order.
+   *
+   * @return true if any key was collected
+   */
+  private boolean collectActivatableJobKeys(final long afterKey) {
+    activatableJobKeys.clear();
+    activatableJobPositions.clear();
+    for (final var jobKeys : activatableJobKeysOfTenants) {
+      activatableJobPositions.addInt(jobKeys.positionAfter(afterKey));
+    }
+
+    while (activatableJobKeys.size() < ACTIVATABLE_JOBS_BATCH_SIZE) {
+      // merge the keys of the tenants, by taking the lowest next key of all of them
+      var nextTenant = -1;
+      var nextKey = Long.MAX_VALUE;
+      for (int tenant = 0; tenant < activatableJobKeysOfTenants.size(); tenant++) {
+        final var jobKeys = activatableJobKeysOfTenants.get(tenant);
+        final var position = activatableJobPositions.getInt(tenant);
+        if (position < jobKeys.size() && jobKeys.get(position) < nextKey) {
+          nextTenant = tenant;
+          nextKey = jobKeys.get(position);
+        }
+      }
+
+      if (nextTenant < 0) {
+        break;
+      }
+      activatableJobKeys.addLong(nextKey);
+      activatableJobPositions.setInt(nextTenant, activatableJobPositions.getInt(nextTenant) + 1);
+    }
 
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+    return !activatableJobKeys.isEmpty();
+  }
+
+  private void ensureActivatableJobIndexBuilt() {
+    if (activatableJobIndex.isBuilt()) {
+      return;
+    }
+
+    activatableJobIndex.build(
+        index ->
+            activatableColumnFamily.forEach(
+                (tenantAwareCompositeKey, nil) -> {
+                  final var compositeKey = tenantAwareCompositeKey.wrappedKey();
+                  index
+                      .getOrCreate(
+                          compositeKey.first().getBuffer(),
+                          tenantAwareCompositeKey.tenantKey().toString())
+                      .add(compositeKey.second().inner().getValue());
+                }));
+  }
+
+  /**
+   * Looks up all collected activatable jobs at once and visits them in order, until the callback
+   * returns false.
+   *
+   * @return true if all jobs were visited, i.e. the callback never returned false
+   */
+  private boolean visitActivatableJobs(final BiFunction<Long, JobRecord, Boolean> callback) {
+    final var shouldContinue = new MutableBoolean(true);
+    final var nextIndex = new MutableInteger(0);
+
+    jobsColumnFamily.multiGet(
+        () ->
+            new Iterator<>() {
+              private int index;
+
+              @Override
+              public boolean hasNext() {
+                return index < activatableJobKeys.size();
+              }
+
+              @Override
+              public DbLong next() {
+                activatableJobKey.wrapLong(activatableJobKeys.getLong(index++));
+                return activatableJobKey;
+              }
+            },
+        (key, job) -> {
+          final long jobKey = key.getValue();
+          while (activatableJobKeys.getLong(nextIndex.getAndIncrement()) != jobKey) {
+            logMissingActivatableJob(activatableJobKeys.getLong(nextIndex.get() - 1));
           }
-          // we want to continue with the iteration
-          return true;
-        }));
+
+          shouldContinue.set(callback.apply(jobKey, job.getRecord()));
+          return shouldContinue.get();
+        });
+
+    if (shouldContinue.get()) {
+      for (int i = nextIndex.get(); i < activatableJobKeys.size(); i++) {
+        logMissingActivatableJob(activatableJobKeys.getLong(i));
+      }
+    }
+
+    activatableJobKeys.clear();
+    return shouldContinue.get();
+  }
+
+  private void logMissingActivatableJob(final long jobKey) {
+    LOG.error("Expected to find job with key {}, but no job found", jobKey);
   }
 
   @Override
@@ -453,15 +577,19 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableJobIndex.add(type, tenantId, key);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
+  private void makeJobNotActivatable(
+      final DirectBuffer type, final long key, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
 
     jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    activatableJobIndex.remove(type, tenantId, key);
   }
 
   private void addJobDeadline(final long job, final long deadline) {
@@ -15,11 +15,13 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.state.variable.ParentScopeDocumentCache.CachedDocument;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -56,6 +58,10 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // collecting the variables of many child scopes of the same parent scopes
+  private final ParentScopeDocumentCache parentScopeDocumentCache = new ParentScopeDocumentCache();
+  private final ObjectHashSet<DirectBuffer> cachedDocumentVariables = new ObjectHashSet<>();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -99,6 +105,7 @@ public class DbVariableState implements MutableVariableState {
       final DirectBuffer value,
       final int valueOffset,
       final int valueLength) {
+    parentScopeDocumentCache.invalidate();
 
     newVariable.reset();
     newVariable.setValue(value, valueOffset, valueLength);
@@ -132,6 +139,7 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
+    parentScopeDocumentCache.invalidate();
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
@@ -194,6 +202,12 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    if (parentScopeDocumentCache.isEnabled()) {
+      final var parentScopeDocument = getParentScopeDocument(getParentScopeKey(scopeKey));
+      if (parentScopeDocument != null) {
+        return getVariablesAsDocument(scopeKey, parentScopeDocument);
+      }
+    }
 
     collectedVariables.clear();
     writer.wrap(documentResultBuffer, 0);
@@ -232,16 +246,19 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    collectVariablesLocal(scopeKey);
+    if (!variablesToCollect.isEmpty()) {
+      long currentScope = getParentScopeKey(scopeKey);
+      final var parentScopeDocument = getParentScopeDocument(currentScope);
+      if (parentScopeDocument != null) {
+        parentScopeDocument.copyEntries(writer, variablesToCollect::remove);
+      } else {
+        while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+          collectVariablesLocal(currentScope);
+          currentScope = getParentScopeKey(currentScope);
+        }
+      }
+    }
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -272,6 +289,21 @@ public class DbVariableState implements MutableVariableState {
     return resultView;
   }
 
+  @Override
+  public void cacheParentScopeVariables(final Runnable operation) {
+    if (parentScopeDocumentCache.isEnabled()) {
+      operation.run();
+      return;
+    }
+
+    parentScopeDocumentCache.enable();
+    try {
+      operation.run();
+    } finally {
+      parentScopeDocumentCache.disable();
+    }
+  }
+
   @Override
   public boolean isEmpty() {
     return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
@@ -307,6 +339,62 @@ public class DbVariableState implements MutableVariableState {
     return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
   }
 
+  /**
+   * Collects the variables of the given scope, and copies the variables which are passed on by its
+   * parent scope from the cached document, unless they are shadowed by a local variable.
+   */
+  private DirectBuffer getVariablesAsDocument(
+      final long scopeKey, final CachedDocument parentScopeDocument) {
+    collectedVariables.clear();
+    writer.wrap(documentResultBuffer, 0);
+
+    writer.reserveMapHeader();
+
+    visitVariablesLocal(
+        scopeKey,
+        name -> true,
+        (name, value) -> {
+          writer.writeString(name.getBuffer());
+          writer.writeRaw(value.getValue());
+          collectedVariables.add(BufferUtil.cloneBuffer(name.getBuffer()));
+        },
+        () -> false);
+    final int inheritedVariables =
+        parentScopeDocument.copyEntries(writer, name -> !collectedVariables.contains(name));
+
+    writer.writeReservedMapHeader(0, collectedVariables.size() + inheritedVariables);
+
+    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  /**
+   * @return the cached variables which the given scope passes on to its child scopes, or null if
+   *     they are not cached, e.g. because the scope was requested for the first time
+   */
+  private CachedDocument getParentScopeDocument(final long parentScopeKey) {
+    if (!parentScopeDocumentCache.isEnabled() || parentScopeKey < 0) {
+      return null;
+    }
+
+    final var cachedDocument = parentScopeDocumentCache.get(parentScopeKey);
+    if (cachedDocument != null || !parentScopeDocumentCache.shouldCache(parentScopeKey)) {
+      return cachedDocument;
+    }
+
+    final var document = parentScopeDocumentCache.add(parentScopeKey);
+    cachedDocumentVariables.clear();
+    visitVariables(
+        parentScopeKey,
+        name -> !cachedDocumentVariables.contains(name.getBuffer()),
+        (name, value) -> {
+          document.add(name.getBuffer(), value.getValue());
+          cachedDocumentVariables.add(BufferUtil.cloneBuffer(name.getBuffer()));
+        },
+        () -> false);
+    return document;
+  }
+
   private VariableInstance getVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     this.scopeKey.wrapLong(scopeKey);
@@ -316,6 +404,39 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Looks up all variables which are still to be collected in the given scope at once, writes the
+   * ones found to the document and removes them from the variables to collect. Looking them up by
+   * name avoids iterating over all variables of the scope when only a few are requested.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    this.scopeKey.wrapLong(scopeKey);
+    final var names = variablesToCollect.iterator();
+
+    variablesColumnFamily.multiGet(
+        () ->
+            new Iterator<>() {
+              @Override
+              public boolean hasNext() {
+                return names.hasNext();
+              }
+
+              @Override
+              public DbCompositeKey<DbLong, DbString> next() {
+                variableName.wrapBuffer(names.next());
+                return scopeKeyVariableNameKey;
+              }
+            },
+        (compositeKey, variable) -> {
+          final DirectBuffer name = compositeKey.second().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(variable.getValue());
+
+          variablesToCollect.remove(name);
+          return true;
+        });
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
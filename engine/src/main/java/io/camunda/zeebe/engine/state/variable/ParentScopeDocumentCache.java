@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the variables which a parent scope passes on to its child scopes, i.e. the variables of
+ * the parent scope and of all of its ancestors, while the variables of many child scopes are
+ * collected in a row. For example, when activating a batch of jobs of a multi-instance activity,
+ * the variables of the multi-instance body and of the process instance are then only collected once
+ * instead of once per job.
+ *
+ * <p>A document is only cached once its scope is requested for the second time, so that collecting
+ * the variables of unrelated scopes doesn't do any additional work. The cache is only enabled while
+ * collecting such a batch, and must be invalidated as soon as a variable or scope changes.
+ */
+final class ParentScopeDocumentCache {
+
+  static final int MAX_CACHED_DOCUMENTS = 16;
+
+  private final Long2ObjectHashMap<CachedDocument> documents = new Long2ObjectHashMap<>();
+  private final LongHashSet requestedScopes = new LongHashSet();
+  private final List<CachedDocument> unusedDocuments = new ArrayList<>();
+  private boolean enabled;
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  void enable() {
+    enabled = true;
+  }
+
+  void disable() {
+    enabled = false;
+    invalidate();
+  }
+
+  /**
+   * @return the cached document of the given scope, or null if it is not cached
+   */
+  CachedDocument get(final long scopeKey) {
+    return documents.get(scopeKey);
+  }
+
+  /**
+   * @return true if the document of the given scope should be cached, because it was requested
+   *     before and there is room for it
+   */
+  boolean shouldCache(final long scopeKey) {
+    return !requestedScopes.add(scopeKey) && documents.size() < MAX_CACHED_DOCUMENTS;
+  }
+
+  /**
+   * @return a new empty document which is cached for the given scope
+   */
+  CachedDocument add(final long scopeKey) {
+    final var document =
+        unusedDocuments.isEmpty()
+            ? new CachedDocument()
+            : unusedDocuments.remove(unusedDocuments.size() - 1);
+    document.reset();
+    documents.put(scopeKey, document);
+    return document;
+  }
+
+  void invalidate() {
+    if (!documents.isEmpty()) {
+      unusedDocuments.addAll(documents.values());
+      documents.clear();
+    }
+    requestedScopes.clear();
+  }
+
+  /**
+   * The variables of a scope and its ancestors, as MsgPack map entries without the map header. The
+   * buffer is reused when the document is cached again.
+   */
+  static final class CachedDocument {
+
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final MsgPackWriter writer = new MsgPackWriter();
+    private final MsgPackReader reader = new MsgPackReader();
+    private final DirectBuffer nameView = new UnsafeBuffer(0, 0);
+    private int count;
+
+    private void reset() {
+      writer.wrap(buffer, 0);
+      count = 0;
+    }
+
+    void add(final DirectBuffer name, final DirectBuffer value) {
+      writer.writeString(name);
+      writer.writeRaw(value);
+      count++;
+    }
+
+    /**
+     * Copies the entries whose name is accepted by the given filter as they are to the given
+     * writer, without decoding their values.
+     *
+     * @return the number of copied entries
+     */
+    int copyEntries(final MsgPackWriter target, final Predicate<DirectBuffer> nameFilter) {
+      reader.wrap(buffer, 0, writer.getOffset());
+
+      int copiedEntries = 0;
+      for (int i = 0; i < count; i++) {
+        final int entryOffset = reader.getOffset();
+        final int nameLength = reader.readStringLength();
+        nameView.wrap(buffer, reader.getOffset(), nameLength);
+        reader.skipBytes(nameLength);
+        reader.skipValue();
+
+        if (nameFilter.test(nameView)) {
+          target.writeRaw(buffer, entryOffset, reader.getOffset() - entryOffset);
+          copiedEntries++;
+        }
+      }
+      return copiedEntries;
+    }
+  }
+}
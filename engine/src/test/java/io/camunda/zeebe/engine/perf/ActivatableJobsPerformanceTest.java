@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Collects the activatable jobs of a job type, as done when activating a batch of jobs, while there
+ * are a million activatable jobs spread over a hundred job types. Looking the jobs up in the
+ * activatable jobs index should only depend on the number of jobs to collect, not on the number of
+ * activatable jobs.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActivatableJobsPerformanceTest {
+  private static final int TYPE_COUNT = 100;
+  private static final int JOB_COUNT = 1_000_000;
+  private static final int BATCH_SIZE = 10_000;
+  private static final int JOBS_TO_ACTIVATE = 32;
+  private static final List<String> TENANT_IDS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbJobState jobState;
+  private DirectBuffer[] types;
+  private int nextType;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("activatable-jobs");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    final var context = zeebeDb.createContext();
+    jobState = new DbJobState(zeebeDb, context);
+    types =
+        IntStream.range(0, TYPE_COUNT)
+            .mapToObj(i -> BufferUtil.wrapString("type-" + i))
+            .toArray(DirectBuffer[]::new);
+
+    final var jobRecord =
+        new JobRecord()
+            .setRetries(3)
+            .setDeadline(-1L)
+            .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    for (int offset = 0; offset < JOB_COUNT; offset += BATCH_SIZE) {
+      final int start = offset;
+      context.runInTransaction(
+          () -> {
+            for (int key = start; key < start + BATCH_SIZE; key++) {
+              jobRecord.setType(types[key % TYPE_COUNT]);
+              jobState.create(key, jobRecord);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureActivatableJobsLookup(final Blackhole blackhole) {
+    final var type = types[nextType++ % TYPE_COUNT];
+    final int[] remainingJobs = {JOBS_TO_ACTIVATE};
+    jobState.forEachActivatableJobs(
+        type,
+        TENANT_IDS,
+        (key, job) -> {
+          blackhole.consume(key);
+          return --remainingJobs[0] > 0;
+        });
+  }
+
+  @JMHTest("measureActivatableJobsLookup")
+  void shouldLookUpActivatableJobs(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 200;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
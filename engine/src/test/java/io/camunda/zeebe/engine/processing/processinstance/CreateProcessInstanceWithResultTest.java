@@ -18,11 +18,14 @@ import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceResultIntent;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Map;
 import java.util.Set;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
@@ -37,6 +40,7 @@ public final class CreateProcessInstanceWithResultTest {
   private static final BpmnModelInstance PROCESS =
       Bpmn.createExecutableProcess("PROCESS").startEvent().endEvent().done();
   private static ProcessInstanceResultRecord response;
+  private static ValueType responseValueType;
   private static CommandResponseWriter mockCommandResponseWriter;
 
   @Rule
@@ -163,12 +167,22 @@ public final class CreateProcessInstanceWithResultTest {
     doAnswer(
             (Answer<CommandResponseWriter>)
                 (invocation -> {
-                  final Object[] arguments = invocation.getArguments();
-                  if (arguments != null
-                      && arguments.length == 1
-                      && arguments[0] != null
-                      && arguments[0] instanceof ProcessInstanceResultRecord) {
-                    response = (ProcessInstanceResultRecord) arguments[0];
+                  responseValueType = invocation.getArgument(0);
+                  return mockCommandResponseWriter;
+                }))
+        .when(mockCommandResponseWriter)
+        .valueType(any());
+    doAnswer(
+            (Answer<CommandResponseWriter>)
+                (invocation -> {
+                  final BufferWriter valueWriter = invocation.getArgument(0);
+                  if (responseValueType == ValueType.PROCESS_INSTANCE_RESULT
+                      && valueWriter != null) {
+                    // the response value is written from its serialized form
+                    final var buffer = new UnsafeBuffer(new byte[valueWriter.getLength()]);
+                    valueWriter.write(buffer, 0);
+                    response = new ProcessInstanceResultRecord();
+                    response.wrap(buffer);
                   }
                   return mockCommandResponseWriter;
                 }))
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.TimerIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.FeatureFlags;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class TimerBacklogTimeBudgetTest {
+
+  private static final int TIMER_COUNT = 10;
+  private static final Duration BUDGET_WINDOW = Duration.ofMillis(100);
+
+  @Rule
+  public final EngineRule engine =
+      EngineRule.singlePartition()
+          // trigger the timers concurrently to the processing
+          .withFeatureFlags(new FeatureFlags(true, false, false, true, true, true))
+          // every run of the due date checker is asked to yield after its first timer
+          .scheduledTasksTimeBudget(Duration.ofNanos(1));
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldProcessUserCommandsWhileTimerBacklogIsTriggered() {
+    // given
+    engine
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("timers")
+                .startEvent()
+                .intermediateCatchEvent("timer", c -> c.timerWithDuration("PT1M"))
+                .endEvent()
+                .done())
+        .withXmlResource(Bpmn.createExecutableProcess("user").startEvent().endEvent().done())
+        .deploy();
+    IntStream.range(0, TIMER_COUNT)
+        .forEach(i -> engine.processInstance().ofBpmnProcessId("timers").create());
+    RecordingExporter.timerRecords(TimerIntent.CREATED).limit(TIMER_COUNT).await();
+
+    // when
+    engine.increaseTime(Duration.ofMinutes(1));
+    awaitTriggeredTimers(1);
+    final long userProcessInstanceKey = engine.processInstance().ofBpmnProcessId("user").create();
+
+    // then
+    awaitTriggeredTimers(TIMER_COUNT);
+
+    final var userProcessInstanceCompleted =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(userProcessInstanceKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst();
+    final var lastTimerTriggered =
+        RecordingExporter.timerRecords(TimerIntent.TRIGGERED).limit(TIMER_COUNT).getLast();
+    assertThat(userProcessInstanceCompleted.getPosition())
+        .describedAs("Expected the user command to be processed before the timer backlog is done")
+        .isLessThan(lastTimerTriggered.getPosition());
+  }
+
+  private void awaitTriggeredTimers(final int count) {
+    // other scheduled tasks may be due as well, each budget window only runs one of them
+    Awaitility.await("until " + count + " timers are triggered")
+        .pollInterval(Duration.ofMillis(10))
+        .untilAsserted(
+            () -> {
+              engine.increaseTime(BUDGET_WINDOW);
+              assertThat(countTriggeredTimers()).isGreaterThanOrEqualTo(count);
+            });
+  }
+
+  private static long countTriggeredTimers() {
+    return RecordingExporter.getRecords().stream()
+        .filter(record -> record.getRecordType() == RecordType.EVENT)
+        .filter(record -> record.getIntent() == TimerIntent.TRIGGERED)
+        .count();
+  }
+}
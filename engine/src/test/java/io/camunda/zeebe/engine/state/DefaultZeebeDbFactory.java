@@ -18,6 +18,8 @@ public final class DefaultZeebeDbFactory {
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory() {
     // enable consistency checks for tests
     final var consistencyChecks = new ConsistencyChecksSettings(true, true);
-    return new ZeebeRocksDbFactory<>(new RocksDbConfiguration(), consistencyChecks);
+    // enable caching for tests, with a small size to also exercise evictions
+    final var configuration = new RocksDbConfiguration().setColumnFamilyCacheSize(64 * 1024);
+    return new ZeebeRocksDbFactory<>(configuration, consistencyChecks);
   }
 }
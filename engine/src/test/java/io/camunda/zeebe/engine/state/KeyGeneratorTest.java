@@ -75,4 +75,102 @@ public final class KeyGeneratorTest {
 
     newDb.close();
   }
+
+  @Test
+  public void shouldContinueWithNextKeyAfterRestart() throws Exception {
+    // given
+    try (final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb()) {
+      final var context = db.createContext();
+      final long key = new DbKeyGenerator(1, db, context).nextKey();
+
+      // when
+      final var restartedKeyGenerator = new DbKeyGenerator(1, db, context);
+      final long keyAfterRestart = restartedKeyGenerator.nextKey();
+
+      // then
+      assertThat(keyAfterRestart).isEqualTo(key + 1);
+      assertThat(restartedKeyGenerator.getCurrentKey()).isEqualTo(keyAfterRestart);
+    }
+  }
+
+  @Test
+  public void shouldPersistLatestKeyWhenTransactionIsCommitted() throws Exception {
+    // given
+    try (final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb()) {
+      final var context = db.createContext();
+      final var keyGenerator = new DbKeyGenerator(1, db, context);
+      final var otherKeyGenerator = new DbKeyGenerator(1, db, db.createContext());
+      final long initialKey = otherKeyGenerator.getCurrentKey();
+      final var transaction = context.getCurrentTransaction();
+      keyGenerator.nextKey();
+      keyGenerator.nextKey();
+      final long lastKey = keyGenerator.nextKey();
+      assertThat(otherKeyGenerator.getCurrentKey()).isEqualTo(initialKey);
+
+      // when
+      transaction.commit();
+
+      // then
+      assertThat(otherKeyGenerator.getCurrentKey()).isEqualTo(lastKey);
+      assertThat(keyGenerator.nextKey()).isEqualTo(lastKey + 1);
+    }
+  }
+
+  @Test
+  public void shouldGenerateKeysAgainIfTransactionIsRolledBack() throws Exception {
+    // given
+    try (final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb()) {
+      final var context = db.createContext();
+      final var keyGenerator = new DbKeyGenerator(1, db, context);
+      final long committedKey = keyGenerator.nextKey();
+      final var transaction = context.getCurrentTransaction();
+      final long rolledBackKey = keyGenerator.nextKey();
+      keyGenerator.nextKey();
+      transaction.rollback();
+
+      // when
+      final long key = keyGenerator.nextKey();
+
+      // then
+      assertThat(key).isEqualTo(rolledBackKey).isEqualTo(committedKey + 1);
+      assertThat(keyGenerator.getCurrentKey()).isEqualTo(key);
+    }
+  }
+
+  @Test
+  public void shouldNotGenerateKeysLowerThanReplayedKey() throws Exception {
+    // given
+    try (final ZeebeDb<ZbColumnFamilies> db = stateRule.createNewDb()) {
+      final var context = db.createContext();
+      final var keyGenerator = new DbKeyGenerator(1, db, context);
+
+      // when
+      keyGenerator.setKeyIfHigher(Protocol.encodePartitionId(1, 1_050));
+      keyGenerator.setKeyIfHigher(Protocol.encodePartitionId(1, 10));
+
+      // then
+      assertThat(keyGenerator.getCurrentKey()).isEqualTo(Protocol.encodePartitionId(1, 1_050));
+      assertThat(keyGenerator.nextKey()).isEqualTo(Protocol.encodePartitionId(1, 1_051));
+    }
+  }
+
+  @Test
+  public void shouldReplayToSameStateAsGeneratingKeys() throws Exception {
+    // given
+    try (final ZeebeDb<ZbColumnFamilies> processingDb = stateRule.createNewDb();
+        final ZeebeDb<ZbColumnFamilies> replayDb = stateRule.createNewDb()) {
+      final var processingKeyGenerator =
+          new DbKeyGenerator(1, processingDb, processingDb.createContext());
+      final var replayKeyGenerator = new DbKeyGenerator(1, replayDb, replayDb.createContext());
+
+      for (int i = 0; i < 150; i++) {
+        // when
+        replayKeyGenerator.setKeyIfHigher(processingKeyGenerator.nextKey());
+
+        // then
+        assertThat(replayKeyGenerator.getCurrentKey())
+            .isEqualTo(processingKeyGenerator.getCurrentKey());
+      }
+    }
+  }
 }
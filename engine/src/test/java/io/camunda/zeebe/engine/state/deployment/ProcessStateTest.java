@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.deployment;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
@@ -771,6 +772,50 @@ public final class ProcessStateTest {
     assertThat(processState.getNextProcessVersion(processId, TENANT_ID)).isEqualTo(3);
   }
 
+  @Test
+  public void shouldGetProcessEvictedFromCache() {
+    // given
+    final var db = stateRule.createNewDb();
+    final var processState =
+        new DbProcessState(
+            db, db.createContext(), 1, new EngineConfiguration().setProcessCacheCapacity(1));
+    final var firstRecord = creatingProcessRecord(processingState, "first", 1);
+    final var secondRecord = creatingProcessRecord(processingState, "second", 1);
+    processState.putProcess(firstRecord.getKey(), firstRecord);
+    processState.putProcess(secondRecord.getKey(), secondRecord);
+    final var firstProcess = processState.getProcessByKeyAndTenant(firstRecord.getKey(), TENANT_ID);
+
+    // when
+    processState.getProcessByProcessIdAndVersion(wrapString("second"), 1, TENANT_ID);
+    final var reloadedProcess =
+        processState.getProcessByProcessIdAndVersion(wrapString("first"), 1, TENANT_ID);
+
+    // then
+    assertThat(reloadedProcess).isNotSameAs(firstProcess);
+    assertThat(reloadedProcess.getKey()).isEqualTo(firstRecord.getKey());
+    assertThat(reloadedProcess.getBpmnProcessId()).isEqualTo(wrapString("first"));
+  }
+
+  @Test
+  public void shouldShareExecutableProcessOfSameResource() {
+    // given
+    final var db = stateRule.createNewDb();
+    final var otherProcessState =
+        new DbProcessState(db, db.createContext(), 2, new EngineConfiguration());
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    otherProcessState.putProcess(processRecord.getKey(), processRecord);
+
+    // when
+    final var process = processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    final var otherProcess =
+        otherProcessState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(otherProcess).isNotSameAs(process);
+    assertThat(otherProcess.getProcess()).isSameAs(process.getProcess());
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(
       final MutableProcessingState processingState) {
     return creatingDeploymentRecord(processingState, "processId");
@@ -648,6 +648,98 @@ public final class JobStateTest {
     assertThat(jobKeys).isEmpty();
   }
 
+  @Test
+  public void shouldListActivatableJobsOfTenantsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord("tenant-a"));
+    jobState.create(2L, newJobRecord("tenant-b"));
+    jobState.create(3L, newJobRecord("tenant-c"));
+    jobState.create(4L, newJobRecord("tenant-a"));
+    jobState.create(5L, newJobRecord("tenant-b"));
+
+    // when
+    final List<Long> jobKeys = getActivatableKeys(type, "tenant-a", "tenant-b");
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 4L, 5L);
+  }
+
+  @Test
+  public void shouldListAllActivatableJobsInOrder() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final List<Long> expectedKeys = new ArrayList<>();
+    for (long key = 1; key <= 100; key++) {
+      jobState.create(key, newJobRecord());
+      expectedKeys.add(key);
+    }
+    getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // when
+    final JobRecord timedOutJob = newJobRecord();
+    jobState.activate(50L, timedOutJob);
+    jobState.timeout(50L, timedOutJob);
+    jobState.create(101L, newJobRecord());
+    expectedKeys.add(101L);
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactlyElementsOf(expectedKeys);
+  }
+
+  @Test
+  public void shouldNotListActivatableJobCreatedInRolledBackTransaction() throws Exception {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord());
+    getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    jobState.create(2L, newJobRecord());
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldListActivatableJobActivatedInRolledBackTransaction() throws Exception {
+    // given
+    final DirectBuffer type = wrapString("test");
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, newJobRecord());
+    getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    jobState.activate(1L, jobRecord);
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldNotListActivatableJobCreatedInRolledBackTransactionOfFirstListing()
+      throws Exception {
+    // given
+    final DirectBuffer type = wrapString("test");
+    jobState.create(1L, newJobRecord());
+
+    // when
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    jobState.create(2L, newJobRecord());
+    getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(type, TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L);
+  }
+
   @Test
   public void shouldReturnNullIfJobDoesNotExist() {
     // given
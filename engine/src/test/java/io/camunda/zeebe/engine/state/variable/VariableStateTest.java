@@ -23,9 +23,11 @@ import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
@@ -241,6 +243,92 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldCollectVariablesWithCachedParentScopeVariables() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+    setVariableLocal(child2, wrapString("c"), asMsgPack("4"));
+
+    // when
+    final List<String> variablesDocuments = new ArrayList<>();
+    variableState.cacheParentScopeVariables(
+        () -> {
+          for (final long scopeKey : List.of(child, child2, child, child2)) {
+            variablesDocuments.add(
+                MsgPackConverter.convertToJson(variableState.getVariablesAsDocument(scopeKey)));
+          }
+        });
+
+    // then
+    assertThat(variablesDocuments)
+        .containsExactly(
+            "{\"b\":3,\"a\":1}",
+            "{\"c\":4,\"a\":1,\"b\":2}",
+            "{\"b\":3,\"a\":1}",
+            "{\"c\":4,\"a\":1,\"b\":2}");
+  }
+
+  @Test
+  public void shouldCollectVariablesByNameWithCachedParentScopeVariables() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+    final List<DirectBuffer> names = List.of(wrapString("b"), wrapString("a"), wrapString("x"));
+
+    // when
+    final List<String> variablesDocuments = new ArrayList<>();
+    variableState.cacheParentScopeVariables(
+        () -> {
+          for (final long scopeKey : List.of(child, child2, child, child2)) {
+            variablesDocuments.add(
+                MsgPackConverter.convertToJson(
+                    variableState.getVariablesAsDocument(scopeKey, names)));
+          }
+        });
+
+    // then
+    assertThat(variablesDocuments)
+        .containsExactly(
+            "{\"b\":3,\"a\":1}", "{\"a\":1,\"b\":2}", "{\"b\":3,\"a\":1}", "{\"a\":1,\"b\":2}");
+  }
+
+  @Test
+  public void shouldNotCollectChangedVariablesFromCachedParentScopeVariables() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(parent, child2);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    final List<String> variablesDocuments = new ArrayList<>();
+
+    // when
+    variableState.cacheParentScopeVariables(
+        () -> {
+          variableState.getVariablesAsDocument(child);
+          variableState.getVariablesAsDocument(child2);
+          setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+          variablesDocuments.add(
+              MsgPackConverter.convertToJson(variableState.getVariablesAsDocument(child)));
+          variablesDocuments.add(
+              MsgPackConverter.convertToJson(variableState.getVariablesAsDocument(child2)));
+        });
+
+    // then
+    assertThat(variablesDocuments).containsExactly("{\"a\":2}", "{\"a\":2}");
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
@@ -412,6 +412,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule scheduledTasksTimeBudget(final Duration timeBudget) {
+    environmentRule.scheduledTasksTimeBudget(timeBudget);
+    return this;
+  }
+
   public void interceptInterPartitionCommands(final CommandInterceptor interceptor) {
     if (interPartitionCommandSenders == null) {
       throw new IllegalStateException(
@@ -32,6 +32,7 @@ import io.camunda.zeebe.util.FileUtil;
 import io.camunda.zeebe.util.allocation.DirectBufferAllocator;
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.junit.rules.ExternalResource;
@@ -63,6 +64,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
   private ListLogStorage sharedStorage = null;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private Duration scheduledTasksTimeBudget = Duration.ZERO;
 
   public StreamProcessorRule() {
     this(new TemporaryFolder());
@@ -256,6 +258,10 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void scheduledTasksTimeBudget(final Duration timeBudget) {
+    scheduledTasksTimeBudget = timeBudget;
+  }
+
   private class SetupRule extends ExternalResource {
 
     private final int startPartitionId;
@@ -271,6 +277,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
       streams = new TestStreams(tempFolder, closeables, actorSchedulerRule.get());
       streams.withStreamProcessorMode(streamProcessorMode);
       streams.maxCommandsInBatch(maxCommandsInBatch);
+      streams.scheduledTasksTimeBudget(scheduledTasksTimeBudget);
 
       int partitionId = startPartitionId;
       for (int i = 0; i < partitionCount; i++) {
@@ -88,6 +88,7 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private Duration scheduledTasksTimeBudget = Duration.ZERO;
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -259,6 +260,7 @@ public final class TestStreams {
             .recordProcessors(List.of(new Engine(wrappedFactory, new EngineConfiguration())))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
+            .setScheduledTasksTimeBudget(scheduledTasksTimeBudget)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
     final StreamProcessor streamProcessor = builder.build();
@@ -317,6 +319,10 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void scheduledTasksTimeBudget(final Duration timeBudget) {
+    scheduledTasksTimeBudget = timeBudget;
+  }
+
   public static class FluentLogWriter {
 
     protected final RecordMetadata metadata = new RecordMetadata();
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.syntaxtree.Val;
+
+/**
+ * The state of the evaluation of a {@link CompiledExpression}. It is reused for all evaluations of
+ * an expression language, so it must not be shared between threads.
+ */
+final class CompiledEvaluationContext {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MessagePackValueMapper valueMapper = new MessagePackValueMapper();
+  private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+  private EvaluationContext variables;
+
+  CompiledEvaluationContext wrap(final EvaluationContext variables) {
+    this.variables = variables;
+    return this;
+  }
+
+  /**
+   * @return the value of the variable with the given name, or {@code null} if it doesn't exist
+   */
+  DirectBuffer getVariable(final String name) {
+    return variables.getVariable(name);
+  }
+
+  MsgPackReader getReader() {
+    return reader;
+  }
+
+  /**
+   * Transforms the given MessagePack value into a FEEL value, in the same way as the FEEL engine
+   * transforms the values of variables.
+   */
+  Val toVal(final DirectBuffer buffer, final int offset, final int length) {
+    valueView.wrap(buffer, offset, length);
+    return valueMapper.toVal(valueView, null).get();
+  }
+}
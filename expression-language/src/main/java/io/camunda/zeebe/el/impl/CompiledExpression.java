@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import org.camunda.feel.syntaxtree.Val;
+
+/**
+ * A FEEL expression which is evaluated directly against the MessagePack encoded variables, instead
+ * of by the FEEL engine. See {@link FeelExpressionCompiler} for the supported expressions.
+ *
+ * <p>Compiled expressions are immutable, they can be shared between threads. The state of an
+ * evaluation is kept in the given {@link CompiledEvaluationContext}.
+ */
+interface CompiledExpression {
+
+  /**
+   * @return the result of the expression, or {@code null} if the expression can't be evaluated
+   *     directly with the given variables, in which case it must be evaluated by the FEEL engine
+   */
+  Val evaluate(CompiledEvaluationContext context);
+}
@@ -17,9 +17,15 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final CompiledExpression compiledExpression;
 
   public FeelExpression(final ParsedExpression expression) {
+    this(expression, null);
+  }
+
+  FeelExpression(final ParsedExpression expression, final CompiledExpression compiledExpression) {
     this.expression = expression;
+    this.compiledExpression = compiledExpression;
   }
 
   @Override
@@ -63,6 +69,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the expression compiled into a fast path, or {@code null} if it can only be evaluated
+   *     by the FEEL engine
+   */
+  CompiledExpression getCompiledExpression() {
+    return compiledExpression;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgpackReaderException;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.Conjunction;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNull$;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Disjunction;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+import org.camunda.feel.syntaxtree.Ref;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValBoolean;
+import org.camunda.feel.syntaxtree.ValNull$;
+import org.camunda.feel.syntaxtree.ValNumber;
+import org.camunda.feel.syntaxtree.ValString;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Compiles a subset of FEEL into {@link CompiledExpression}s, which are evaluated directly against
+ * the MessagePack encoded variables, without building a FEEL context for them. Most expressions of
+ * a process, like {@code = orderId} or {@code = amount > 100}, are part of this subset:
+ *
+ * <ul>
+ *   <li>variables, and paths into variables, e.g. {@code order.customer.id}
+ *   <li>string, number, boolean and null literals
+ *   <li>comparisons, i.e. {@code =, !=, <, <=, >, >=} and {@code between}
+ *   <li>boolean logic, i.e. {@code and} and {@code or}
+ * </ul>
+ *
+ * <p>A compiled expression only returns a result if the FEEL engine returns the same result without
+ * any warnings. Otherwise, e.g. if a variable doesn't exist or if a comparison mixes types, it
+ * returns no result, and the expression is evaluated by the FEEL engine, which takes care of the
+ * details of FEEL's semantics.
+ */
+final class FeelExpressionCompiler {
+
+  private FeelExpressionCompiler() {}
+
+  /**
+   * @return the compiled expression, or {@code null} if the expression is not part of the supported
+   *     subset of FEEL
+   */
+  static CompiledExpression compile(final Exp expression) {
+    if (expression instanceof final ConstString constant) {
+      return new Constant(new ValString(constant.value()));
+    } else if (expression instanceof final ConstNumber constant) {
+      return new Constant(new ValNumber(constant.value()));
+    } else if (expression instanceof final ConstBool constant) {
+      return new Constant(new ValBoolean(constant.value()));
+    } else if (expression == ConstNull$.MODULE$) {
+      return new Constant(ValNull$.MODULE$);
+    } else if (expression instanceof final Ref ref) {
+      return Variable.of(CollectionConverters.asJava(ref.names()).toArray(String[]::new));
+    } else if (expression instanceof final Equal equal) {
+      return compile(equal.x(), equal.y(), FeelExpressionCompiler::equal);
+    } else if (expression instanceof final LessThan lessThan) {
+      return compile(lessThan.x(), lessThan.y(), ordering(order -> order < 0));
+    } else if (expression instanceof final LessOrEqual lessOrEqual) {
+      return compile(lessOrEqual.x(), lessOrEqual.y(), ordering(order -> order <= 0));
+    } else if (expression instanceof final GreaterThan greaterThan) {
+      return compile(greaterThan.x(), greaterThan.y(), ordering(order -> order > 0));
+    } else if (expression instanceof final GreaterOrEqual greaterOrEqual) {
+      return compile(greaterOrEqual.x(), greaterOrEqual.y(), ordering(order -> order >= 0));
+    } else if (expression instanceof final Conjunction conjunction) {
+      return compile(conjunction.x(), conjunction.y(), logic((x, y) -> x && y));
+    } else if (expression instanceof final Disjunction disjunction) {
+      return compile(disjunction.x(), disjunction.y(), logic((x, y) -> x || y));
+    } else if (expression instanceof final Not not) {
+      final var operand = compile(not.x());
+      return operand == null ? null : new Negation(operand);
+    }
+
+    return null;
+  }
+
+  private static CompiledExpression compile(
+      final Exp x, final Exp y, final BiFunction<Val, Val, Val> operator) {
+    final var compiledX = compile(x);
+    final var compiledY = compile(y);
+    if (compiledX == null || compiledY == null) {
+      return null;
+    }
+    return new BinaryOperation(compiledX, compiledY, operator);
+  }
+
+  private static Val equal(final Val x, final Val y) {
+    if (x == ValNull$.MODULE$ || y == ValNull$.MODULE$) {
+      return new ValBoolean(x == y);
+    } else if (x instanceof final ValNumber numberX && y instanceof final ValNumber numberY) {
+      return new ValBoolean(numberX.value().compare(numberY.value()) == 0);
+    } else if (x instanceof final ValString stringX && y instanceof final ValString stringY) {
+      return new ValBoolean(stringX.value().equals(stringY.value()));
+    } else if (x instanceof final ValBoolean booleanX && y instanceof final ValBoolean booleanY) {
+      return new ValBoolean(booleanX.value() == booleanY.value());
+    }
+    return null;
+  }
+
+  private static BiFunction<Val, Val, Val> ordering(final IntPredicate predicate) {
+    return (x, y) -> {
+      if (x instanceof final ValNumber numberX && y instanceof final ValNumber numberY) {
+        return new ValBoolean(predicate.test(numberX.value().compare(numberY.value())));
+      } else if (x instanceof final ValString stringX && y instanceof final ValString stringY) {
+        return new ValBoolean(predicate.test(stringX.value().compareTo(stringY.value())));
+      }
+      return null;
+    };
+  }
+
+  private static BiFunction<Val, Val, Val> logic(final BooleanOperator operator) {
+    return (x, y) ->
+        x instanceof final ValBoolean booleanX && y instanceof final ValBoolean booleanY
+            ? new ValBoolean(operator.apply(booleanX.value(), booleanY.value()))
+            : null;
+  }
+
+  private record Constant(Val value) implements CompiledExpression {
+
+    @Override
+    public Val evaluate(final CompiledEvaluationContext context) {
+      return value;
+    }
+  }
+
+  /**
+   * A variable, or a path into a variable. Instead of transforming the whole variable, only the
+   * value at the end of the path is transformed.
+   */
+  private record Variable(String name, DirectBuffer[] path) implements CompiledExpression {
+
+    private static Variable of(final String[] names) {
+      final var path = new DirectBuffer[names.length - 1];
+      for (int i = 0; i < path.length; i++) {
+        path[i] = BufferUtil.wrapString(names[i + 1]);
+      }
+      return new Variable(names[0], path);
+    }
+
+    @Override
+    public Val evaluate(final CompiledEvaluationContext context) {
+      final var variable = context.getVariable(name);
+      if (variable == null || variable.capacity() == 0) {
+        // the FEEL engine reports the missing variable
+        return null;
+      }
+
+      final var reader = context.getReader();
+      reader.wrap(variable, 0, variable.capacity());
+      try {
+        for (final var key : path) {
+          if (!moveToEntry(reader, key)) {
+            return null;
+          }
+        }
+
+        final int valueOffset = reader.getOffset();
+        reader.skipValue();
+        return context.toVal(variable, valueOffset, reader.getOffset() - valueOffset);
+
+      } catch (final MsgpackReaderException e) {
+        // leave it to the FEEL engine to deal with an invalid document
+        return null;
+      }
+    }
+
+    /**
+     * Moves the reader to the value of the entry with the given key, if the current value is a map
+     * which contains it.
+     *
+     * @return true if the reader was moved to the value, false otherwise
+     */
+    private static boolean moveToEntry(final MsgPackReader reader, final DirectBuffer key) {
+      final var mapToken = reader.readToken();
+      if (mapToken.getType() != MsgPackType.MAP) {
+        return false;
+      }
+
+      final int size = mapToken.getSize();
+      int valueOffset = -1;
+      for (int i = 0; i < size; i++) {
+        final var keyToken = reader.readToken();
+        if (keyToken.getType() != MsgPackType.STRING) {
+          return false;
+        }
+        // like in the FEEL engine, the last entry wins if the key is contained more than once
+        if (BufferUtil.equals(keyToken.getValueBuffer(), key)) {
+          valueOffset = reader.getOffset();
+        }
+        reader.skipValue();
+      }
+
+      if (valueOffset < 0) {
+        return false;
+      }
+      reader.reset();
+      reader.skipBytes(valueOffset);
+      return true;
+    }
+  }
+
+  private record BinaryOperation(
+      CompiledExpression x, CompiledExpression y, BiFunction<Val, Val, Val> operator)
+      implements CompiledExpression {
+
+    @Override
+    public Val evaluate(final CompiledEvaluationContext context) {
+      // both operands are always evaluated, so that no warning of the FEEL engine is missed
+      final var valueX = x.evaluate(context);
+      final var valueY = y.evaluate(context);
+      if (valueX == null || valueY == null) {
+        return null;
+      }
+      return operator.apply(valueX, valueY);
+    }
+  }
+
+  private record Negation(CompiledExpression operand) implements CompiledExpression {
+
+    @Override
+    public Val evaluate(final CompiledEvaluationContext context) {
+      return operand.evaluate(context) instanceof final ValBoolean value
+          ? new ValBoolean(!value.value())
+          : null;
+    }
+  }
+
+  @FunctionalInterface
+  private interface BooleanOperator {
+    boolean apply(boolean x, boolean y);
+  }
+}
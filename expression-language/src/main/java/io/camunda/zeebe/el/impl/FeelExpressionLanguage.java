@@ -43,6 +43,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  private final CompiledEvaluationContext compiledEvaluationContext =
+      new CompiledEvaluationContext();
+
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
@@ -62,7 +65,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      // the same expressions are parsed by every partition, they are shared between them
+      return SharedFeelExpressionCache.INSTANCE.getOrParse(
+          unpackedExpression, () -> parseFeelExpression(unpackedExpression));
     } else {
       return new StaticExpression(expression);
     }
@@ -100,7 +105,8 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     } else {
       final var parsedExpression = parseResult.right().get();
-      return new FeelExpression(parsedExpression);
+      final var compiledExpression = FeelExpressionCompiler.compile(parsedExpression.expression());
+      return new FeelExpression(parsedExpression, compiledExpression);
     }
   }
 
@@ -109,6 +115,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var compiledExpression = feelExpression.getCompiledExpression();
+    if (compiledExpression != null) {
+      final var result = compiledExpression.evaluate(compiledEvaluationContext.wrap(context));
+      if (result != null) {
+        return new FeelEvaluationResult(
+            expression, result, new ArrayList<>(), messagePackTransformer::toMessagePack);
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
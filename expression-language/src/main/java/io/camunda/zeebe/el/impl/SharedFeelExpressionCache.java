@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.camunda.zeebe.el.Expression;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Shares the parsed FEEL expressions between all expression languages of a broker. The same
+ * processes are deployed to every partition, which is why each partition parses the same
+ * expressions, and would otherwise keep them in memory once per partition.
+ *
+ * <p>The expressions are identified by their text. The cache is bounded by the total length of the
+ * cached expressions, as the size of a parsed expression grows with its length. Parsed expressions,
+ * valid or not, are never modified, which is why they can be evaluated by several partitions
+ * concurrently.
+ */
+final class SharedFeelExpressionCache {
+
+  /** The maximum total length of the cached expressions, in characters. */
+  static final long MAX_EXPRESSIONS_LENGTH = 1024 * 1024;
+
+  static final SharedFeelExpressionCache INSTANCE = new SharedFeelExpressionCache();
+
+  private final SharedFeelExpressionCacheMetrics metrics = new SharedFeelExpressionCacheMetrics();
+  private final Cache<String, Expression> expressions =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_EXPRESSIONS_LENGTH)
+          .weigher((String expression, Expression parsedExpression) -> expression.length())
+          .removalListener(this::onExpressionRemoved)
+          .build();
+
+  private SharedFeelExpressionCache() {}
+
+  /**
+   * @return the parsed expression, which is parsed by the given parser if it is not cached yet;
+   *     concurrent callers wait for the same expression to be parsed only once
+   */
+  Expression getOrParse(final String expression, final Supplier<Expression> parser) {
+    final var cachedExpression = expressions.getIfPresent(expression);
+    if (cachedExpression != null) {
+      metrics.countHit();
+      return cachedExpression;
+    }
+
+    metrics.countMiss();
+    try {
+      return expressions.get(expression, parser::get);
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      throw new IllegalStateException(
+          "Expected to parse the expression '%s', but failed unexpectedly".formatted(expression),
+          e.getCause());
+    }
+  }
+
+  private void onExpressionRemoved(final RemovalNotification<String, Expression> notification) {
+    if (notification.wasEvicted()) {
+      metrics.countEviction();
+    }
+  }
+}
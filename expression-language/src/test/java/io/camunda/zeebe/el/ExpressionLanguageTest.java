@@ -73,6 +73,20 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).isNull();
   }
 
+  @Test
+  public void shouldShareParsedExpressionBetweenExpressionLanguages() {
+    // given
+    final var otherExpressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+    final var expression = expressionLanguage.parseExpression("=x.y + 1");
+
+    // when
+    final var otherExpression = otherExpressionLanguage.parseExpression("=x.y + 1");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+  }
+
   @Test
   public void shouldParseMultilineExpression() {
     final var expression = expressionLanguage.parseExpression("={\nx:1\n}");
@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class FeelExpressionCompilerTest {
+
+  private static final Map<String, String> VARIABLES =
+      Map.of(
+          "orderId",
+          "\"order-1\"",
+          "amount",
+          "150",
+          "price",
+          "9.99",
+          "approved",
+          "true",
+          "nothing",
+          "null",
+          "items",
+          "[1, 2, 3]",
+          "order",
+          "{'id': 'order-1', 'total': 42, 'customer': {'name': 'Zee', 'vip': false}, 'note': null}");
+
+  private static final EvaluationContext CONTEXT =
+      name -> VARIABLES.containsKey(name) ? asMsgPack(VARIABLES.get(name)) : null;
+
+  @Parameter(0)
+  public String expression;
+
+  @Parameter(1)
+  public boolean evaluatedDirectly;
+
+  private final FeelExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new TestFeelEngineClock());
+
+  @Parameters(name = "{0}")
+  public static Collection<Object[]> expressions() {
+    return List.of(
+        // evaluated directly
+        new Object[] {"= orderId", true},
+        new Object[] {"= amount", true},
+        new Object[] {"= price", true},
+        new Object[] {"= nothing", true},
+        new Object[] {"= items", true},
+        new Object[] {"= order", true},
+        new Object[] {"= order.customer.name", true},
+        new Object[] {"= order.note", true},
+        new Object[] {"= \"text\"", true},
+        new Object[] {"= 1.50", true},
+        new Object[] {"= null", true},
+        new Object[] {"= amount > 100", true},
+        new Object[] {"= amount >= 150.0", true},
+        new Object[] {"= price < 10", true},
+        new Object[] {"= price <= 9.98", true},
+        new Object[] {"= amount between 100 and 200", true},
+        new Object[] {"= orderId = \"order-1\"", true},
+        new Object[] {"= orderId != order.id", true},
+        new Object[] {"= orderId < \"order-2\"", true},
+        new Object[] {"= order.total = 42", true},
+        new Object[] {"= approved = true", true},
+        new Object[] {"= nothing = null", true},
+        new Object[] {"= amount = null", true},
+        new Object[] {"= order.customer.vip != null", true},
+        new Object[] {"= approved and amount > 100", true},
+        new Object[] {"= order.customer.vip or price > 10", true},
+        new Object[] {"= approved and (amount < 100 or order.customer.name = \"Zee\")", true},
+        // evaluated by the FEEL engine
+        new Object[] {"= missing", false},
+        new Object[] {"= order.missing", false},
+        new Object[] {"= orderId.id", false},
+        new Object[] {"= missing = null", false},
+        new Object[] {"= amount = \"150\"", false},
+        new Object[] {"= approved < true", false},
+        new Object[] {"= nothing < 1", false},
+        new Object[] {"= approved and 1", false},
+        new Object[] {"= false and missing", false},
+        new Object[] {"= items = [1, 2, 3]", false},
+        new Object[] {"= amount + 1", false},
+        new Object[] {"= not(approved)", false});
+  }
+
+  @Test
+  public void shouldEvaluateLikeFeelEngine() {
+    // given
+    final var compiledExpression = (FeelExpression) expressionLanguage.parseExpression(expression);
+    final var feelExpression = new FeelExpression(compiledExpression.getParsedExpression());
+
+    // when
+    final var compiledResult = evaluate(compiledExpression);
+    final var feelResult = evaluate(feelExpression);
+
+    // then
+    assertThat(compiledResult).usingRecursiveComparison().isEqualTo(feelResult);
+  }
+
+  @Test
+  public void shouldEvaluateDirectlyIfSupported() {
+    // given
+    final var expression = (FeelExpression) expressionLanguage.parseExpression(this.expression);
+
+    // when
+    final var compiledExpression = expression.getCompiledExpression();
+
+    // then
+    final var directResult =
+        compiledExpression == null
+            ? null
+            : compiledExpression.evaluate(new CompiledEvaluationContext().wrap(CONTEXT));
+    assertThat(directResult != null)
+        .describedAs("Expect that the expression is evaluated directly")
+        .isEqualTo(evaluatedDirectly);
+  }
+
+  private Result evaluate(final FeelExpression expression) {
+    final var result = expressionLanguage.evaluateExpression(expression, CONTEXT);
+    return Result.of(result);
+  }
+
+  private record Result(
+      boolean failure, String failureMessage, Object type, String value, List<String> warnings) {
+
+    private static Result of(final EvaluationResult result) {
+      return new Result(
+          result.isFailure(),
+          result.getFailureMessage(),
+          result.getType(),
+          result.isFailure() ? null : BufferUtil.bufferAsHexString(result.toBuffer()),
+          result.getWarnings().stream()
+              .map(warning -> warning.getType() + ": " + warning.getMessage())
+              .toList());
+    }
+  }
+}
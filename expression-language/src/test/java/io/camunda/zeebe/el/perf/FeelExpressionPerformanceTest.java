@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.perf;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.impl.FeelExpression;
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the evaluation of a typical gateway condition by the compiled fast path with its
+ * evaluation by the FEEL engine. The condition reads a few values of an order document with a
+ * nested customer and a list of items, as it is found in many processes.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class FeelExpressionPerformanceTest {
+  private static final String CONDITION =
+      "= order.total > 100 and order.customer.tier = \"gold\" and approved";
+  private static final int ITEM_COUNT = 20;
+
+  private ExpressionLanguage expressionLanguage;
+  private Expression compiledExpression;
+  private Expression feelExpression;
+  private EvaluationContext context;
+
+  @Setup
+  public void setup() {
+    expressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock());
+    compiledExpression = expressionLanguage.parseExpression(CONDITION);
+    // the same expression, without the compiled fast path
+    feelExpression =
+        new FeelExpression(((FeelExpression) compiledExpression).getParsedExpression());
+
+    final var items =
+        IntStream.range(0, ITEM_COUNT)
+            .mapToObj(
+                i ->
+                    Map.<String, Object>of(
+                        "sku", "sku-" + i, "quantity", i + 1, "price", 9.99 + i, "gift", i % 2))
+            .toList();
+    final Map<String, Object> order =
+        Map.of(
+            "id",
+            "order-4711",
+            "createdAt",
+            "2023-11-14T10:15:30Z",
+            "customer",
+            Map.of(
+                "id",
+                "customer-42",
+                "name",
+                "Zee Be",
+                "tier",
+                "gold",
+                "address",
+                Map.of("street", "Zeebe Street 1", "city", "Berlin", "country", "DE")),
+            "items",
+            items,
+            "total",
+            1234.56,
+            "currency",
+            "EUR");
+
+    final Map<String, DirectBuffer> variables = new HashMap<>();
+    variables.put("order", asMsgPack(order));
+    variables.put("approved", asMsgPack("true"));
+    variables.put("tags", asMsgPack("['express', 'fragile']"));
+    context = variables::get;
+  }
+
+  @Benchmark
+  public boolean measureCompiledEvaluation() {
+    return expressionLanguage.evaluateExpression(compiledExpression, context).getBoolean();
+  }
+
+  @Benchmark
+  public boolean measureFeelEngineEvaluation() {
+    return expressionLanguage.evaluateExpression(feelExpression, context).getBoolean();
+  }
+
+  @JMHTest("measureCompiledEvaluation")
+  void shouldEvaluateCompiledExpression(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally on a single core; it was not yet
+    // measured in CI, so update it with the score of the first CI run
+    final var referenceScore = 350_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureFeelEngineEvaluation")
+  void shouldEvaluateWithFeelEngine(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally on a single core; it was not yet
+    // measured in CI, so update it with the score of the first CI run
+    final var referenceScore = 20_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
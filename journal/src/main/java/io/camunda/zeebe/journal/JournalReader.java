@@ -104,6 +104,19 @@ public interface JournalReader extends Iterator<JournalRecord>, AutoCloseable {
    */
   long seekToAsqn(long asqn, long indexUpperBound);
 
+  /**
+   * Keeps all records from the given index on valid while the reader moves on, even across several
+   * segments and even if these are deleted in the meantime. Replaces the previously retained index,
+   * such that segments which only contain records before the given index can be released. The
+   * retained index is reset on every seek.
+   *
+   * <p>Without a retained index, only the record which was returned last before the reader moved on
+   * to the next segment remains valid.
+   *
+   * @param index the index of the oldest record which is still in use
+   */
+  void retainFrom(long index);
+
   @Override
   void close();
 }
@@ -71,6 +71,52 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge JOURNAL_INDEX_LOAD_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_index_load_time")
+          .help(
+              "Time taken to restore the persisted index of all segments and to index the last"
+                  + " segment when opening the journal")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_INDEX_LOAD_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_index_load_count")
+          .help(
+              "Number of segments whose index was either restored from disk or rebuilt by scanning"
+                  + " the segment when opening the journal")
+          .labelNames(PARTITION_LABEL, "result")
+          .register();
+
+  private static final Gauge SEGMENT_POOL_DEPTH =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("segment_pool_depth")
+          .help("Number of segments which are prepared, or being prepared, ahead of time")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_ROLLOVER_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_rollover_count")
+          .help(
+              "Number of times the journal rolled over to a new segment, by whether the segment was"
+                  + " already prepared, still being prepared, or had to be created on rollover")
+          .labelNames(PARTITION_LABEL, "result")
+          .register();
+
+  private static final Counter SEGMENT_RECYCLED_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_recycled_count")
+          .help("Number of new segments which reused the file of a deleted segment")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Histogram SEGMENT_ALLOCATION_TIME =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -118,6 +164,14 @@ final class JournalMetrics {
   private final Histogram.Child journalFlushTime;
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
+  private final Gauge.Child journalIndexLoadTime;
+  private final Counter.Child segmentIndexRestoredCount;
+  private final Counter.Child segmentIndexRebuiltCount;
+  private final Gauge.Child segmentPoolDepth;
+  private final Counter.Child segmentRolloverPreparedCount;
+  private final Counter.Child segmentRolloverPendingCount;
+  private final Counter.Child segmentRolloverCreatedCount;
+  private final Counter.Child segmentRecycledCount;
   private final Histogram.Child segmentAllocationTime;
   private final Histogram.Child appendLatency;
   private final Counter.Child appendRate;
@@ -131,6 +185,14 @@ final class JournalMetrics {
     journalFlushTime = JOURNAL_FLUSH_TIME.labels(partitionId);
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
+    journalIndexLoadTime = JOURNAL_INDEX_LOAD_DURATION.labels(partitionId);
+    segmentIndexRestoredCount = SEGMENT_INDEX_LOAD_COUNT.labels(partitionId, "restored");
+    segmentIndexRebuiltCount = SEGMENT_INDEX_LOAD_COUNT.labels(partitionId, "rebuilt");
+    segmentPoolDepth = SEGMENT_POOL_DEPTH.labels(partitionId);
+    segmentRolloverPreparedCount = SEGMENT_ROLLOVER_COUNT.labels(partitionId, "prepared");
+    segmentRolloverPendingCount = SEGMENT_ROLLOVER_COUNT.labels(partitionId, "pending");
+    segmentRolloverCreatedCount = SEGMENT_ROLLOVER_COUNT.labels(partitionId, "created");
+    segmentRecycledCount = SEGMENT_RECYCLED_COUNT.labels(partitionId);
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
     appendLatency = APPEND_LATENCY.labels(partitionId);
     appendRate = APPEND_RATE.labels(partitionId);
@@ -158,6 +220,18 @@ final class JournalMetrics {
     return journalOpenTime.startTimer();
   }
 
+  Timer startJournalIndexLoadDurationTimer() {
+    return journalIndexLoadTime.startTimer();
+  }
+
+  void incSegmentIndexRestored() {
+    segmentIndexRestoredCount.inc();
+  }
+
+  void incSegmentIndexRebuilt() {
+    segmentIndexRebuiltCount.inc();
+  }
+
   void incSegmentCount() {
     segmentCount.inc();
   }
@@ -166,6 +240,26 @@ final class JournalMetrics {
     segmentCount.dec();
   }
 
+  void setSegmentPoolDepth(final int depth) {
+    segmentPoolDepth.set(depth);
+  }
+
+  void incSegmentRolloverPrepared() {
+    segmentRolloverPreparedCount.inc();
+  }
+
+  void incSegmentRolloverPending() {
+    segmentRolloverPendingCount.inc();
+  }
+
+  void incSegmentRolloverCreated() {
+    segmentRolloverCreatedCount.inc();
+  }
+
+  void incSegmentRecycled() {
+    segmentRecycledCount.inc();
+  }
+
   Histogram.Timer observeSegmentAllocation() {
     return segmentAllocationTime.startTimer();
   }
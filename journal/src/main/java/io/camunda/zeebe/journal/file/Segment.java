@@ -49,7 +49,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
+  private final SegmentSync sync;
   private final JournalMetrics metrics;
+  private final SegmentFileRecycler recycler;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
@@ -60,14 +62,18 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final SegmentFile file,
       final SegmentDescriptor descriptor,
       final MappedByteBuffer buffer,
+      final SegmentFlushMode flushMode,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentFileRecycler recycler) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
+    sync = SegmentSync.of(flushMode, file.file().toPath(), buffer);
     this.index = index;
     this.metrics = metrics;
+    this.recycler = recycler;
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -111,7 +117,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
    * with a message about being unable to allocate memory. There are no other exceptions (other than
    * the usual suspects, like null pointers) possible, so it's safe to assume that if we get such an
    * error on calling {@link MappedByteBuffer#force()}, but the segment is closed/deleted, then we
-   * can safely ignore it (as flushing doesn't matter in that case).
+   * can safely ignore it (as flushing doesn't matter in that case). The same applies when flushing
+   * through a {@link SegmentFlushMode#FDATASYNC channel} which was already closed.
    *
    * <p>{@inheritDoc}
    *
@@ -122,7 +129,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     final long lastIndex = lastIndex();
 
     try (final var ignored = metrics.observeSegmentFlush()) {
-      buffer.force();
+      sync.sync();
     } catch (final UncheckedIOException e) {
       if (isOpen()) {
         throw e;
@@ -228,12 +235,14 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
+    closeSync();
     IoUtil.unmap(buffer);
   }
 
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndexFile();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -248,8 +257,11 @@ final class Segment implements AutoCloseable, FlushableSegment {
               readers.size()));
     }
     try {
+      closeSync();
       IoUtil.unmap(buffer);
-      Files.deleteIfExists(file.getFileMarkedForDeletion());
+      if (!recycler.offer(file.getFileMarkedForDeletion())) {
+        Files.deleteIfExists(file.getFileMarkedForDeletion());
+      }
     } catch (final IOException e) {
       LOG.warn(
           "Could not delete segment {}. File to delete {}. This can lead to increased disk usage.",
@@ -259,6 +271,41 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
   }
 
+  /**
+   * Scans the complete segment, indexing all of its entries. Useful when the index must be
+   * complete, e.g. before persisting it.
+   */
+  void rebuildIndex() {
+    writer.rebuildIndex();
+  }
+
+  /**
+   * Indexes the entries following the given, already indexed entry. See {@link
+   * SegmentWriter#indexAfter(long, int, long)}.
+   */
+  boolean indexAfter(final long index, final int position, final long checksum) {
+    return writer.indexAfter(index, position, checksum);
+  }
+
+  /** Deletes the persisted index of this segment, if any. See {@link SegmentIndexFile}. */
+  private void deleteIndexFile() {
+    final var indexFile = file.indexFile();
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete index file {} of segment {}, it will be ignored", indexFile, this, e);
+    }
+  }
+
+  private void closeSync() {
+    try {
+      sync.close();
+    } catch (final UncheckedIOException e) {
+      LOG.warn("Failed to release the resources used to flush segment {}", this, e);
+    }
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this).add("id", id()).add("index", index()).toString();
@@ -285,6 +332,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   }
 
   void resetLastEntryInDescriptor() {
+    // the persisted index does not match the segment anymore once it is truncated
+    deleteIndexFile();
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
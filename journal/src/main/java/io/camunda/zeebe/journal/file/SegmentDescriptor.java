@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal.file;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import java.util.Objects;
@@ -43,11 +44,17 @@ import org.slf4j.LoggerFactory;
  *
  * <p>{@code maxSegmentSize} (32-bit unsigned integer) - The maximum number of bytes allowed in the
  * segment.
+ *
+ * <p>{@code checksumAlgorithm} (8-bit unsigned integer) - The {@link ChecksumAlgorithm} used to
+ * compute the checksums of the records in the segment. Segments written before this field was
+ * introduced use {@link ChecksumAlgorithm#CRC32C}. The checksum of the descriptor itself is always
+ * computed with {@link ChecksumAlgorithm#CRC32C}, as the algorithm is only known after reading it.
  */
 final class SegmentDescriptor {
   // current descriptor version containing: header, metadata, header and descriptor. descriptor
   // contains lastIndex and lastPosition. Version 2 with sbeSchemaVersion 1 does not contain
-  // lastIndex and lastPosition.
+  // lastIndex and lastPosition, and version 2 with sbeSchemaVersion 2 does not contain
+  // checksumAlgorithm.
   static final byte CUR_VERSION = 2;
   // First version containing: header and descriptor. We remove support for VERSION 1 as this was
   // introduced long ago.
@@ -69,6 +76,7 @@ final class SegmentDescriptor {
   private final long id;
   private final long index;
   private final int maxSegmentSize;
+  private final ChecksumAlgorithm checksumAlgorithm;
   private final int encodedLength;
   // index of the last entry in this segment. Can be 0 if not set, even if an entry exists.
   private long lastIndex;
@@ -81,6 +89,7 @@ final class SegmentDescriptor {
       final long id,
       final long index,
       final int maxSegmentSize,
+      final ChecksumAlgorithm checksumAlgorithm,
       final long lastIndex,
       final int lastPosition,
       final int encodedLength) {
@@ -89,6 +98,7 @@ final class SegmentDescriptor {
     this.id = id;
     this.index = index;
     this.maxSegmentSize = maxSegmentSize;
+    this.checksumAlgorithm = checksumAlgorithm;
     this.lastIndex = lastIndex;
     this.lastPosition = lastPosition;
     this.encodedLength = encodedLength;
@@ -158,6 +168,15 @@ final class SegmentDescriptor {
     return maxSegmentSize;
   }
 
+  /**
+   * Returns the algorithm used to compute the checksums of the records in the segment.
+   *
+   * @return The checksum algorithm of the segment.
+   */
+  ChecksumAlgorithm checksumAlgorithm() {
+    return checksumAlgorithm;
+  }
+
   /**
    * Copies the descriptor to a new buffer. The number of bytes written will be equal to {@link
    * SegmentDescriptor#getEncodingLength()}
@@ -178,7 +197,8 @@ final class SegmentDescriptor {
         .index(index)
         .maxSegmentSize(maxSegmentSize)
         .lastIndex(lastIndex)
-        .lastPosition(lastPosition);
+        .lastPosition(lastPosition)
+        .checksumAlgorithm(checksumAlgorithm.id());
 
     final long checksum =
         checksumGen.compute(
@@ -218,6 +238,8 @@ final class SegmentDescriptor {
         + index
         + ", maxSegmentSize="
         + maxSegmentSize
+        + ", checksumAlgorithm="
+        + checksumAlgorithm
         + ", lastIndex="
         + lastIndex
         + ", lastPosition="
@@ -264,6 +286,7 @@ final class SegmentDescriptor {
     private long id;
     private long index;
     private int maxSegmentSize;
+    private ChecksumAlgorithm checksumAlgorithm = ChecksumAlgorithm.CRC32C;
 
     /**
      * Sets the segment identifier.
@@ -301,6 +324,18 @@ final class SegmentDescriptor {
       return this;
     }
 
+    /**
+     * Sets the algorithm used to compute the checksums of the records in the segment.
+     *
+     * @param checksumAlgorithm The checksum algorithm of the segment.
+     * @return The segment descriptor builder.
+     */
+    Builder withChecksumAlgorithm(final ChecksumAlgorithm checksumAlgorithm) {
+      this.checksumAlgorithm =
+          Objects.requireNonNull(checksumAlgorithm, "must specify a checksum algorithm");
+      return this;
+    }
+
     /**
      * Builds the segment descriptor.
      *
@@ -313,6 +348,7 @@ final class SegmentDescriptor {
           id,
           index,
           maxSegmentSize,
+          checksumAlgorithm,
           0,
           0,
           getEncodingLength());
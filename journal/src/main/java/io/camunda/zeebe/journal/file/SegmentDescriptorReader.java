@@ -8,6 +8,7 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.DirectBuffer;
@@ -19,10 +20,12 @@ final class SegmentDescriptorReader {
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   private final ChecksumGenerator checksumGen = new ChecksumGenerator();
   private final DirectBuffer directBuffer = new UnsafeBuffer();
+  private ByteBuffer byteBuffer;
   private int actingSchemaVersion = segmentDescriptorDecoder.sbeSchemaVersion();
   private long id;
   private long index;
   private int maxSegmentSize;
+  private ChecksumAlgorithm checksumAlgorithm;
   // index of the last entry in this segment. Can be 0 if not set, even if an entry exists.
   private long lastIndex;
   // position of the last entry in this segment. Can be 0 if not set, even if an entry exists.
@@ -31,6 +34,7 @@ final class SegmentDescriptorReader {
   private long checksum;
 
   SegmentDescriptor readFrom(final ByteBuffer buffer) {
+    byteBuffer = buffer;
     directBuffer.wrap(buffer);
     final byte version;
     try {
@@ -55,6 +59,7 @@ final class SegmentDescriptorReader {
         id,
         index,
         maxSegmentSize,
+        checksumAlgorithm,
         lastIndex,
         lastPosition,
         encodedLength);
@@ -83,14 +88,15 @@ final class SegmentDescriptorReader {
 
     // length of the header + descriptor
     final int descriptorLength = totalLength - descHeaderOffset;
-    validateChecksum(buffer, descHeaderOffset, descriptorLength);
+    validateChecksum(descHeaderOffset, descriptorLength);
+
+    // only interpret the algorithm once we know the descriptor is not corrupted
+    checksumAlgorithm = readChecksumAlgorithm();
   }
 
-  private void validateChecksum(
-      final DirectBuffer buffer, final int descHeaderOffset, final int descriptorLength) {
-    final ByteBuffer slice = ByteBuffer.allocate(descriptorLength);
-    buffer.getBytes(descHeaderOffset, slice, descriptorLength);
-    final long computedChecksum = checksumGen.compute(slice, 0, descriptorLength);
+  private void validateChecksum(final int descHeaderOffset, final int descriptorLength) {
+    final long computedChecksum =
+        checksumGen.compute(byteBuffer, descHeaderOffset, descriptorLength);
 
     if (computedChecksum != checksum) {
       throw new CorruptedJournalException(
@@ -124,6 +130,26 @@ final class SegmentDescriptorReader {
     return encodedLength;
   }
 
+  /**
+   * Returns the checksum algorithm of the segment. Segments written before the algorithm was stored
+   * in the descriptor all use {@link ChecksumAlgorithm#CRC32C}.
+   */
+  private ChecksumAlgorithm readChecksumAlgorithm() {
+    final short algorithmId = segmentDescriptorDecoder.checksumAlgorithm();
+    if (algorithmId == SegmentDescriptorDecoder.checksumAlgorithmNullValue()) {
+      return ChecksumAlgorithm.CRC32C;
+    }
+
+    try {
+      return ChecksumAlgorithm.ofId(algorithmId);
+    } catch (final IllegalArgumentException e) {
+      throw new UnknownVersionException(
+          String.format(
+              "Expected a known checksum algorithm, but read unknown algorithm with id %d.",
+              algorithmId));
+    }
+  }
+
   /**
    * Loads the metadata's checksum field.
    *
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the files of deleted segments around, such that they can be reused when preparing new
+ * segments, instead of unlinking them and creating and allocating new files. At most {@code
+ * capacity} files are kept; any further file is deleted as usual.
+ *
+ * <p>Files are offered once they are safe to reuse, i.e. when no reader refers to their segment
+ * anymore, which may happen on any thread. Kept files still have the name of a segment marked for
+ * deletion, so they are cleaned up if the journal is closed before they are reused.
+ */
+final class SegmentFileRecycler {
+  private final Queue<Path> files = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final int capacity;
+
+  SegmentFileRecycler(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /** Returns a recycler which does not keep any file, i.e. all files are deleted. */
+  static SegmentFileRecycler disabled() {
+    return new SegmentFileRecycler(0);
+  }
+
+  /**
+   * Offers the file of a deleted segment for reuse.
+   *
+   * @param file the file of the deleted segment
+   * @return true if the file is kept for reuse, false if the caller should delete it
+   */
+  boolean offer(final Path file) {
+    if (size.incrementAndGet() > capacity) {
+      size.decrementAndGet();
+      return false;
+    }
+
+    files.add(file);
+    return true;
+  }
+
+  /**
+   * Takes a previously kept file for reuse.
+   *
+   * @return a file which can be reused, or null if there is none
+   */
+  Path poll() {
+    final var file = files.poll();
+    if (file != null) {
+      size.decrementAndGet();
+    }
+
+    return file;
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Defines which system call is used to make the modified pages of a segment durable when the
+ * journal is flushed. This only affects flushing: in both modes, records are still appended to the
+ * segment's memory mapped buffer.
+ */
+public enum SegmentFlushMode {
+  /**
+   * Flushes the segment via {@link MappedByteBuffer#force()}, i.e. {@code msync} over the complete
+   * mapped region of the segment. This is the default.
+   */
+  MSYNC,
+
+  /**
+   * Flushes the segment via {@link FileChannel#force(boolean)} on a channel which is kept open for
+   * the lifetime of the segment, i.e. {@code fdatasync}. The kernel then only writes back the dirty
+   * pages of the file, instead of walking the complete mapped region as {@code msync} does.
+   *
+   * <p>File metadata is not flushed, which is only safe because segment files have their final size
+   * from the moment they are created.
+   */
+  FDATASYNC
+}
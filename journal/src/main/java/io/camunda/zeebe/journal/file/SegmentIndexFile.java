@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A compact copy of the {@link JournalIndex} entries of a single segment, persisted next to the
+ * segment file. Restoring it when the journal is opened avoids having to index the segment again by
+ * scanning it, except for the entries appended after it was persisted.
+ *
+ * <p>The file is laid out as follows, all values being little endian:
+ *
+ * <ul>
+ *   <li>header: version (int), segment id (long), first index (long), last index (long), position
+ *       of the last entry (int), checksum of the last entry (long), entry count (int)
+ *   <li>entries: for each entry its index (long), position (int) and asqn (long)
+ *   <li>footer: CRC32C checksum of the header and the entries (long)
+ * </ul>
+ *
+ * <p>The file is only a cache: if it is missing, corrupted, or does not match the segment it
+ * belongs to, it is ignored and the segment is indexed as if it was never persisted.
+ */
+final class SegmentIndexFile {
+  static final int VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int HEADER_LENGTH = 3 * Integer.BYTES + 4 * Long.BYTES;
+  private static final int ENTRY_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+  private static final int FOOTER_LENGTH = Long.BYTES;
+
+  private final long segmentId;
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final long lastChecksum;
+  private final long[] indexes;
+  private final int[] positions;
+  private final long[] asqns;
+
+  private SegmentIndexFile(
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final long lastChecksum,
+      final long[] indexes,
+      final int[] positions,
+      final long[] asqns) {
+    this.segmentId = segmentId;
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.lastChecksum = lastChecksum;
+    this.indexes = indexes;
+    this.positions = positions;
+    this.asqns = asqns;
+  }
+
+  /**
+   * Collects the entries of the given segment from the journal index.
+   *
+   * @param segment the segment to collect the entries of
+   * @param journalIndex the index containing the segment's entries
+   * @return the collected entries, or nothing if the segment is empty
+   */
+  static Optional<SegmentIndexFile> of(final Segment segment, final JournalIndex journalIndex) {
+    final var writer = segment.writer();
+    final JournalRecord lastEntry = writer.getLastEntry();
+    if (lastEntry == null) {
+      return Optional.empty();
+    }
+
+    final var indexes = new LongArrayList();
+    final var positions = new IntArrayList();
+    final var asqns = new LongArrayList();
+    journalIndex.forEach(
+        segment.index(),
+        lastEntry.index(),
+        (index, position, asqn) -> {
+          indexes.addLong(index);
+          positions.addInt(position);
+          asqns.addLong(asqn);
+        });
+
+    return Optional.of(
+        new SegmentIndexFile(
+            segment.id(),
+            segment.index(),
+            lastEntry.index(),
+            writer.getLastEntryPosition(),
+            lastEntry.checksum(),
+            indexes.toLongArray(),
+            positions.toIntArray(),
+            asqns.toLongArray()));
+  }
+
+  /**
+   * Reads a previously persisted segment index.
+   *
+   * @param path the path of the index file
+   * @return the persisted entries, or nothing if the file does not exist or is not valid
+   * @throws IOException if the file exists but cannot be read
+   */
+  static Optional<SegmentIndexFile> read(final Path path) throws IOException {
+    if (!Files.exists(path)) {
+      return Optional.empty();
+    }
+
+    final var buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ENDIANNESS);
+    if (buffer.remaining() < HEADER_LENGTH + FOOTER_LENGTH) {
+      LOG.debug("Ignoring segment index {}, as it is too short to be valid", path);
+      return Optional.empty();
+    }
+
+    final int version = buffer.getInt(0);
+    if (version != VERSION) {
+      LOG.debug("Ignoring segment index {} with unknown version {}", path, version);
+      return Optional.empty();
+    }
+
+    final int entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    final long expectedLength = HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH + FOOTER_LENGTH;
+    if (entryCount < 0 || buffer.remaining() != expectedLength) {
+      LOG.debug("Ignoring segment index {}, as its length does not match its entries", path);
+      return Optional.empty();
+    }
+
+    final int checksumOffset = HEADER_LENGTH + entryCount * ENTRY_LENGTH;
+    if (computeChecksum(buffer, checksumOffset) != buffer.getLong(checksumOffset)) {
+      LOG.debug("Ignoring segment index {}, as its checksum does not match", path);
+      return Optional.empty();
+    }
+
+    buffer.position(Integer.BYTES);
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final long lastChecksum = buffer.getLong();
+    buffer.getInt();
+
+    final var indexes = new long[entryCount];
+    final var positions = new int[entryCount];
+    final var asqns = new long[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      indexes[i] = buffer.getLong();
+      positions[i] = buffer.getInt();
+      asqns[i] = buffer.getLong();
+    }
+
+    return Optional.of(
+        new SegmentIndexFile(
+            segmentId,
+            firstIndex,
+            lastIndex,
+            lastPosition,
+            lastChecksum,
+            indexes,
+            positions,
+            asqns));
+  }
+
+  /**
+   * Writes the entries to the given path, replacing any existing file. The file is not flushed, as
+   * a partially written file is detected via its checksum when reading it.
+   *
+   * @param path the path of the index file
+   * @throws IOException if the file cannot be written
+   */
+  void write(final Path path) throws IOException {
+    final int checksumOffset = HEADER_LENGTH + entryCount() * ENTRY_LENGTH;
+    final var buffer = ByteBuffer.allocate(checksumOffset + FOOTER_LENGTH).order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(segmentId)
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(lastPosition)
+        .putLong(lastChecksum)
+        .putInt(entryCount());
+    for (int i = 0; i < entryCount(); i++) {
+      buffer.putLong(indexes[i]).putInt(positions[i]).putLong(asqns[i]);
+    }
+    buffer.putLong(computeChecksum(buffer, checksumOffset));
+    buffer.flip();
+
+    try (final var channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /**
+   * Adds all entries to the given journal index, and indexes the entries which were appended to the
+   * segment since they were collected. As the persisted entries are already indexed, only the part
+   * of the segment after the last of them is scanned.
+   *
+   * <p>Nothing is restored if the entries were not collected from the given segment, or if the
+   * segment does not contain the last collected entry anymore, e.g. because it was truncated.
+   *
+   * @return true if the entries were restored, false otherwise
+   */
+  boolean restoreInto(final Segment segment, final JournalIndex journalIndex) {
+    if (segmentId != segment.id()
+        || firstIndex != segment.index()
+        || !segment.indexAfter(lastIndex, lastPosition, lastChecksum)) {
+      return false;
+    }
+
+    for (int i = 0; i < entryCount(); i++) {
+      journalIndex.restore(indexes[i], positions[i], asqns[i]);
+    }
+    return true;
+  }
+
+  int entryCount() {
+    return indexes.length;
+  }
+
+  private static long computeChecksum(final ByteBuffer buffer, final int length) {
+    final var crc = new CRC32C();
+    crc.update(buffer.array(), buffer.arrayOffset(), length);
+    return crc.getValue();
+  }
+}
@@ -19,6 +19,7 @@ import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
@@ -28,8 +29,13 @@ import org.slf4j.LoggerFactory;
 final class SegmentLoader {
   private static final Logger LOGGER = LoggerFactory.getLogger(SegmentLoader.class);
   private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  // the descriptor and the frame header of the first entry
+  private static final int RECYCLED_HEADER_LENGTH =
+      SegmentDescriptor.getEncodingLength() + FrameUtil.getLength();
 
   private final SegmentAllocator allocator;
+  private final SegmentFlushMode flushMode;
+  private final SegmentFileRecycler recycler;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
 
@@ -39,9 +45,28 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, SegmentFlushMode.MSYNC);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentFlushMode flushMode) {
+    this(minFreeDiskSpace, metrics, allocator, flushMode, SegmentFileRecycler.disabled());
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final SegmentFlushMode flushMode,
+      final SegmentFileRecycler recycler) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.flushMode = flushMode;
+    this.recycler = recycler;
   }
 
   Segment createSegment(
@@ -83,12 +108,21 @@ final class SegmentLoader {
     return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
   }
 
+  /**
+   * Creates a new segment file without a descriptor, ready to be initialized once it is used. If a
+   * file of a deleted segment was kept for reuse, that file is reused instead of creating and
+   * allocating a new one.
+   */
   UninitializedSegment createUninitializedSegment(
       final Path segmentFile, final SegmentDescriptor descriptor, final JournalIndex journalIndex) {
     final MappedByteBuffer mappedSegment;
 
     try {
-      mappedSegment = mapNewSegment(segmentFile, descriptor);
+      final var recycledFile = recycler.poll();
+      mappedSegment =
+          recycledFile != null
+              ? mapRecycledSegment(recycledFile, segmentFile, descriptor)
+              : mapNewSegment(segmentFile, descriptor);
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to create new segment file %s", segmentFile), e);
@@ -109,7 +143,9 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
-        journalIndex);
+        flushMode,
+        journalIndex,
+        recycler);
   }
 
   Segment loadExistingSegment(
@@ -142,7 +178,15 @@ final class SegmentLoader {
       final long lastWrittenAsqn,
       final JournalIndex journalIndex) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile,
+        descriptor,
+        buffer,
+        flushMode,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        recycler);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -191,6 +235,50 @@ final class SegmentLoader {
     }
   }
 
+  /**
+   * Reuses the file of a deleted segment for a new segment. Only the descriptor and the header of
+   * the first entry are erased, which is enough to never read a record of the deleted segment as
+   * part of the new one: the first entry is invalid until it is written, the writer invalidates the
+   * entry following each entry it appends, and every record is checked for its expected index and
+   * checksum when read. If the file cannot be reused, e.g. because it has the wrong size, a new
+   * file is created instead.
+   */
+  private MappedByteBuffer mapRecycledSegment(
+      final Path recycledFile, final Path segmentPath, final SegmentDescriptor descriptor)
+      throws IOException {
+    final var maxSegmentSize = descriptor.maxSegmentSize();
+
+    try (final var channel =
+        FileChannel.open(recycledFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      if (channel.size() != maxSegmentSize) {
+        LOGGER.debug(
+            "Expected reused file {} to have size {}, but has {}; creating new segment instead",
+            recycledFile,
+            maxSegmentSize,
+            channel.size());
+        channel.close();
+        Files.delete(recycledFile);
+        return mapNewSegment(segmentPath, descriptor);
+      }
+
+      // erase the header before moving the file into place, such that the old descriptor can never
+      // be read under the new segment's name
+      IoUtil.fill(channel, 0, RECYCLED_HEADER_LENGTH, (byte) 0);
+      channel.force(false);
+      try {
+        Files.move(recycledFile, segmentPath, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final IOException e) {
+        LOGGER.debug("Failed to reuse file {}, creating new segment instead", recycledFile, e);
+        channel.close();
+        Files.deleteIfExists(recycledFile);
+        return mapNewSegment(segmentPath, descriptor);
+      }
+
+      metrics.incSegmentRecycled();
+      return mapSegment(channel, maxSegmentSize);
+    }
+  }
+
   private void checkDiskSpace(final Path segmentPath, final int maxSegmentSize) {
     final var available = segmentPath.getParent().toFile().getUsableSpace();
     final var required = Math.max(maxSegmentSize, minFreeDiskSpace);
@@ -38,7 +38,8 @@ final class SegmentReader implements Iterator<JournalRecord> {
     this.index = index;
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
-    recordReader = new JournalRecordReaderUtil(new SBESerializer());
+    recordReader =
+        new JournalRecordReaderUtil(new SBESerializer(), segment.descriptor().checksumAlgorithm());
     this.buffer = buffer;
     reset();
   }
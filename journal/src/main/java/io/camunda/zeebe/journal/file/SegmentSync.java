@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** Syncs the contents of a single segment to disk, according to a {@link SegmentFlushMode}. */
+interface SegmentSync extends AutoCloseable {
+
+  /**
+   * Ensures all modified pages of the segment are written to the underlying storage.
+   *
+   * @throws UncheckedIOException if the pages could not be written
+   */
+  void sync();
+
+  /** Releases any resources held to sync the segment; does not sync it. */
+  @Override
+  void close();
+
+  /**
+   * Returns a sync for the given segment file and its mapped buffer.
+   *
+   * @param mode how the segment should be synced
+   * @param file the path to the segment file
+   * @param buffer the segment's mapped buffer
+   * @throws JournalException if the underlying resources could not be opened
+   */
+  static SegmentSync of(
+      final SegmentFlushMode mode, final Path file, final MappedByteBuffer buffer) {
+    return switch (mode) {
+      case MSYNC -> new MsyncSegmentSync(buffer);
+      case FDATASYNC -> FdatasyncSegmentSync.open(file);
+    };
+  }
+
+  /** Syncs via {@code msync} over the complete mapped buffer. */
+  final class MsyncSegmentSync implements SegmentSync {
+    private final MappedByteBuffer buffer;
+
+    private MsyncSegmentSync(final MappedByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void sync() {
+      buffer.force();
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  /**
+   * Syncs via {@code fdatasync} on a channel which is kept open until the segment is closed. Since
+   * the channel is bound to the file descriptor and not the path, it stays valid even after the
+   * segment file is renamed when marked for deletion.
+   */
+  final class FdatasyncSegmentSync implements SegmentSync {
+    private final FileChannel channel;
+
+    private FdatasyncSegmentSync(final FileChannel channel) {
+      this.channel = channel;
+    }
+
+    private static FdatasyncSegmentSync open(final Path file) {
+      try {
+        return new FdatasyncSegmentSync(FileChannel.open(file, StandardOpenOption.WRITE));
+      } catch (final IOException e) {
+        throw new JournalException(
+            String.format("Failed to open channel to flush segment %s", file), e);
+      }
+    }
+
+    @Override
+    public void sync() {
+      try {
+        channel.force(false);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void close() {
+      try {
+        channel.close();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
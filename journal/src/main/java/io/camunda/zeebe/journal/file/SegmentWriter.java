@@ -54,7 +54,7 @@ final class SegmentWriter {
   private JournalRecord lastEntry;
   private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
-  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final ChecksumGenerator checksumGenerator;
   private final JournalRecordSerializer serializer = new SBESerializer();
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
@@ -68,7 +68,9 @@ final class SegmentWriter {
       final JournalMetrics metrics) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
-    recordUtil = new JournalRecordReaderUtil(serializer);
+    final var checksumAlgorithm = segment.descriptor().checksumAlgorithm();
+    checksumGenerator = new ChecksumGenerator(checksumAlgorithm);
+    recordUtil = new JournalRecordReaderUtil(serializer, checksumAlgorithm);
     this.index = index;
     firstIndex = segment.index();
     this.buffer = buffer;
@@ -100,6 +102,10 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  JournalRecord getLastEntry() {
+    return lastEntry;
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -346,6 +352,51 @@ final class SegmentWriter {
     buffer.mark();
   }
 
+  /** Scans the complete segment, indexing all of its entries. */
+  void rebuildIndex() {
+    reset(0, false);
+  }
+
+  /**
+   * Indexes the entries following the given one, which is expected to be indexed already, e.g.
+   * because the index was restored from disk. Only the part of the segment after the given entry is
+   * scanned.
+   *
+   * @param index the index of the last indexed entry
+   * @param position the position of the last indexed entry
+   * @param checksum the checksum of the last indexed entry
+   * @return false, without indexing anything, if the given entry is not part of this segment
+   */
+  boolean indexAfter(final long index, final int position, final long checksum) {
+    if (lastEntry == null || index > lastEntry.index() || position < descriptorLength) {
+      return false;
+    }
+
+    // scan on a view of the buffer, so as to not move the position of the writer
+    final var scanBuffer = buffer.duplicate().order(buffer.order());
+    try {
+      scanBuffer.position(position);
+      FrameUtil.readVersion(scanBuffer);
+      if (recordUtil.read(scanBuffer, index).checksum() != checksum) {
+        return false;
+      }
+
+      for (long nextIndex = index + 1; nextIndex <= lastEntry.index(); nextIndex++) {
+        final int nextPosition = scanBuffer.position();
+        FrameUtil.readVersion(scanBuffer);
+        this.index.index(recordUtil.read(scanBuffer, nextIndex), nextPosition);
+      }
+    } catch (final BufferUnderflowException
+        | IllegalArgumentException
+        | CorruptedJournalException
+        | InvalidIndex e) {
+      LOG.debug("Failed to index the entries after index {} at position {}", index, position, e);
+      return false;
+    }
+
+    return true;
+  }
+
   private void reset(final long index, final boolean detectCorruption) {
     long nextIndex = firstIndex;
 
@@ -365,12 +416,19 @@ final class SegmentWriter {
         throw e;
       }
       resetPartiallyWrittenEntry(e, position);
+    } catch (final InvalidIndex e) {
+      // a valid record which does not follow the previous one can only be a leftover of a deleted
+      // segment whose file was reused, i.e. it is not part of this segment
+      if (detectCorruption) {
+        throw e;
+      }
+      resetPartiallyWrittenEntry(e, position);
     } finally {
       buffer.reset();
     }
   }
 
-  private void resetPartiallyWrittenEntry(final CorruptedJournalException e, final int position) {
+  private void resetPartiallyWrittenEntry(final RuntimeException e, final int position) {
     LOG.debug(
         "{} Found a corrupted or partially written entry at position {}. Considering it as a partially written entry and resetting the position.",
         e.getMessage(),
@@ -32,6 +32,9 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final SegmentFlushMode DEFAULT_FLUSH_MODE = SegmentFlushMode.MSYNC;
+  private static final boolean DEFAULT_PERSIST_JOURNAL_INDEX = false;
+  private static final int DEFAULT_SEGMENT_POOL_SIZE = 1;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +46,9 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private SegmentFlushMode flushMode = DEFAULT_FLUSH_MODE;
+  private boolean persistJournalIndex = DEFAULT_PERSIST_JOURNAL_INDEX;
+  private int segmentPoolSize = DEFAULT_SEGMENT_POOL_SIZE;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +146,51 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how segments are flushed to disk. By default, segments are flushed via their memory mapped
+   * buffer, see {@link SegmentFlushMode#MSYNC}.
+   *
+   * @param flushMode how segments are flushed to disk
+   * @return this builder for chaining
+   * @throws NullPointerException if {@code flushMode} is {@code null}
+   */
+  public SegmentedJournalBuilder withFlushMode(final SegmentFlushMode flushMode) {
+    this.flushMode = checkNotNull(flushMode, "flushMode cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index is persisted. If true, the index entries of a segment are
+   * written to a file next to it once the journal rolls over to the next segment, or is closed.
+   * When opening the journal, these files are used to restore the index instead of having to scan
+   * the segments again; only the entries appended after a file was written are still scanned.
+   *
+   * @param persistJournalIndex true to persist the index of each segment, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistJournalIndex(final boolean persistJournalIndex) {
+    this.persistJournalIndex = persistJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time, i.e. created, allocated and mapped in the
+   * background, such that rolling over to the next segment does not have to wait for it. If segment
+   * files are pre-allocated (see {@link #withPreallocateSegmentFiles(boolean)}), up to as many
+   * files of deleted segments are kept and reused for new segments, instead of deleting them and
+   * allocating new files. By default, a single segment is prepared ahead of time.
+   *
+   * @param segmentPoolSize the number of segments to prepare ahead of time; 0 to always create new
+   *     segments when rolling over
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if {@code segmentPoolSize} is negative
+   */
+  public SegmentedJournalBuilder withSegmentPoolSize(final int segmentPoolSize) {
+    checkArgument(segmentPoolSize >= 0, "segmentPoolSize must be positive or zero");
+    this.segmentPoolSize = segmentPoolSize;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -166,7 +217,13 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentRecycler =
+        preallocateSegmentFiles
+            ? new SegmentFileRecycler(segmentPoolSize)
+            : SegmentFileRecycler.disabled();
+    final var segmentLoader =
+        new SegmentLoader(
+            freeDiskSpace, journalMetrics, segmentAllocator, flushMode, segmentRecycler);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -175,7 +232,9 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            persistJournalIndex,
+            segmentPoolSize);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -20,13 +20,35 @@ import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.NoSuchElementException;
 
+/**
+ * Reads the records of the journal, segment by segment. The returned records wrap the mapped memory
+ * of their segment directly, without copying it.
+ *
+ * <p>A segment is only unmapped once all its readers are closed, even if it is deleted before. When
+ * moving on to the next segment, this reader keeps its reader of the previous segment open until it
+ * moves on again. Callers commonly read one record ahead while still using the last record, e.g. to
+ * find the end of a batch, so the record which was returned last before crossing into a new segment
+ * must remain valid, even if its segment is compacted concurrently.
+ *
+ * <p>Callers which may read ahead across more than one segment while still using an older record,
+ * e.g. when skipping records they are not interested in, retain the index of that record via {@link
+ * #retainFrom(long)}. The readers of all segments with records from that index on are then kept
+ * open, until a higher index is retained or the reader seeks.
+ */
 class SegmentedJournalReader implements JournalReader {
 
+  private static final long NO_RETAINED_INDEX = Long.MIN_VALUE;
+
   private final SegmentedJournal journal;
   private Segment currentSegment;
   private SegmentReader currentReader;
+  // readers of segments this reader moved on from, ordered from the oldest to the newest
+  private final Deque<SegmentReader> previousReaders = new ArrayDeque<>();
+  private long retainedIndex = NO_RETAINED_INDEX;
   private final JournalMetrics metrics;
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
@@ -162,13 +184,27 @@ class SegmentedJournalReader implements JournalReader {
     }
   }
 
+  @Override
+  public void retainFrom(final long index) {
+    final var stamp = journal.acquireReadlock();
+    try {
+      retainedIndex = index;
+      releasePreviousReaders();
+    } finally {
+      journal.releaseReadlock(stamp);
+    }
+  }
+
   @Override
   public void close() {
+    previousReaders.forEach(SegmentReader::close);
+    previousReaders.clear();
     currentReader.close();
     journal.closeReader(this);
   }
 
   long unsafeSeek(final long index) {
+    resetRetainedIndex();
     if (!currentSegment.isOpen()) {
       unsafeSeekToFirst();
     }
@@ -185,6 +221,7 @@ class SegmentedJournalReader implements JournalReader {
   }
 
   private long unsafeSeekToFirst() {
+    resetRetainedIndex();
     replaceCurrentSegment(journal.getFirstSegment());
     return journal.getFirstIndex();
   }
@@ -246,8 +283,37 @@ class SegmentedJournalReader implements JournalReader {
       return;
     }
 
-    currentReader.close();
+    // keep the previous segment mapped, as the last returned record may still be in use
+    previousReaders.addLast(currentReader);
+    releasePreviousReaders();
     currentSegment = nextSegment;
     currentReader = currentSegment.createReader();
   }
+
+  /** Records returned before a seek are not in use anymore, so the retained index is reset. */
+  private void resetRetainedIndex() {
+    if (retainedIndex != NO_RETAINED_INDEX) {
+      retainedIndex = NO_RETAINED_INDEX;
+      releasePreviousReaders();
+    }
+  }
+
+  private void releasePreviousReaders() {
+    if (retainedIndex == NO_RETAINED_INDEX) {
+      // only the reader of the segment which was left last may still be in use
+      while (previousReaders.size() > 1) {
+        previousReaders.removeFirst().close();
+      }
+    } else {
+      // a reader has only returned records before its next index
+      previousReaders.removeIf(
+          reader -> {
+            if (reader.getNextIndex() > retainedIndex) {
+              return false;
+            }
+            reader.close();
+            return true;
+          });
+    }
+  }
 }
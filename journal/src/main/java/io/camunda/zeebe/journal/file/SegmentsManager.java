@@ -17,11 +17,13 @@ import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +45,12 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger LOG = LoggerFactory.getLogger(SegmentsManager.class);
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  // segments prepared ahead of time, in the order in which they will be used
+  private final Deque<CompletableFuture<UninitializedSegment>> preparedSegments =
+      new ArrayDeque<>();
+  private long lastPreparedSegmentId;
+  // index files are written in the background, one after the other
+  private CompletableFuture<Void> pendingIndexWrites = CompletableFuture.completedFuture(null);
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -52,6 +59,8 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final boolean persistIndex;
+  private final int segmentPoolSize;
 
   private volatile Segment currentSegment;
 
@@ -63,6 +72,28 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        false,
+        1);
+  }
+
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final boolean persistIndex,
+      final int segmentPoolSize) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -70,10 +101,19 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.persistIndex = persistIndex;
+    this.segmentPoolSize = segmentPoolSize;
   }
 
   @Override
   public void close() {
+    if (persistIndex && currentSegment != null) {
+      // persisting the index of the current segment allows to only scan what is appended to it
+      // after the next restart
+      persistIndex(currentSegment);
+    }
+    awaitIndexWrites();
+
     segments
         .values()
         .forEach(
@@ -82,15 +122,15 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
+    for (final var preparedSegment : preparedSegments) {
       try {
-        nextSegment.join();
+        preparedSegment.join();
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
       }
-      nextSegment = null;
     }
+    preparedSegments.clear();
 
     currentSegment = null;
   }
@@ -116,6 +156,9 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    if (persistIndex) {
+      persistIndexAsync(currentSegment);
+    }
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -126,19 +169,28 @@ final class SegmentsManager implements AutoCloseable {
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
-    if (nextSegment != null) {
+    final var preparedSegment = preparedSegments.poll();
+    if (preparedSegment != null) {
       try {
+        if (preparedSegment.isDone()) {
+          journalMetrics.incSegmentRolloverPrepared();
+        } else {
+          journalMetrics.incSegmentRolloverPending();
+        }
+
         currentSegment =
-            nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+            preparedSegment
+                .join()
+                .initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
     } else {
+      journalMetrics.incSegmentRolloverCreated();
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -186,6 +238,9 @@ final class SegmentsManager implements AutoCloseable {
       return false;
     }
 
+    // ensures no index file is written after the segment it belongs to was deleted
+    awaitIndexWrites();
+
     LOG.debug(
         "{} - Deleting log up from {} up to {} (removing {} segments)",
         name,
@@ -219,6 +274,7 @@ final class SegmentsManager implements AutoCloseable {
     // there is "nothing" written, even if we cannot read the descriptor (e.g. if we crash after
     // creating the segment but before writing its descriptor)
     metaStore.resetLastFlushedIndex();
+    awaitIndexWrites();
 
     // delete the segments in reverse order, such that if the operation is interrupted (e.g. crash)
     // in the middle, there are no gaps in the log (or between the log and snapshot)
@@ -252,6 +308,7 @@ final class SegmentsManager implements AutoCloseable {
    * @param segment The segment to remove.
    */
   void removeSegment(final Segment segment) {
+    awaitIndexWrites();
     //noinspection resource
     segments.remove(segment.index());
     journalMetrics.decSegmentCount();
@@ -304,6 +361,11 @@ final class SegmentsManager implements AutoCloseable {
       segments.put(1L, currentSegment);
       journalMetrics.incSegmentCount();
     }
+
+    if (persistIndex) {
+      loadIndex();
+    }
+
     // observe the journal open duration
     openDurationTimer.close();
 
@@ -313,14 +375,116 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /**
+   * Restores the persisted index of every segment for which it is still valid, scanning only the
+   * entries appended after it was persisted. Segments without a valid persisted index are indexed
+   * lazily when reading them, except for the current segment: this one is scanned completely, so
+   * that its index is complete when it is persisted once the journal rolls over to the next
+   * segment.
+   */
+  private void loadIndex() {
+    try (final var ignored = journalMetrics.startJournalIndexLoadDurationTimer()) {
+      for (final Segment segment : segments.values()) {
+        if (restoreIndex(segment)) {
+          journalMetrics.incSegmentIndexRestored();
+        } else if (segment == currentSegment) {
+          segment.rebuildIndex();
+          journalMetrics.incSegmentIndexRebuilt();
+        }
+      }
+    }
+  }
+
+  private boolean restoreIndex(final Segment segment) {
+    final var indexFile = segment.file().indexFile();
+    try {
+      final var persistedIndex = SegmentIndexFile.read(indexFile);
+      if (persistedIndex.isEmpty()) {
+        return false;
+      }
+
+      if (!persistedIndex.get().restoreInto(segment, journalIndex)) {
+        LOG.debug("Ignoring persisted index of segment {}, as it does not match", segment);
+        return false;
+      }
+
+      LOG.trace(
+          "Restored {} index entries of segment {}", persistedIndex.get().entryCount(), segment);
+      return true;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read persisted index {} of segment {}", indexFile, segment, e);
+      return false;
+    }
+  }
+
+  /**
+   * Persists the index of the given segment without blocking the caller. The entries are collected
+   * right away, as the in-memory index is only modified by the caller's thread, but the file is
+   * written in the background, so that rolling over to the next segment does not wait for it.
+   */
+  private void persistIndexAsync(final Segment segment) {
+    final var persistedIndex = SegmentIndexFile.of(segment, journalIndex);
+    if (persistedIndex.isEmpty()) {
+      return;
+    }
+
+    final var indexFile = segment.file().indexFile();
+    pendingIndexWrites =
+        pendingIndexWrites.handleAsync(
+            (ignored, error) -> {
+              writeIndex(segment, persistedIndex.get(), indexFile);
+              return null;
+            });
+  }
+
+  private void persistIndex(final Segment segment) {
+    final var persistedIndex = SegmentIndexFile.of(segment, journalIndex);
+    persistedIndex.ifPresent(index -> writeIndex(segment, index, segment.file().indexFile()));
+  }
+
+  private void writeIndex(
+      final Segment segment, final SegmentIndexFile persistedIndex, final Path indexFile) {
+    try {
+      persistedIndex.write(indexFile);
+    } catch (final IOException e) {
+      // the index is only an optimization, so this is not a reason to fail the append; a partially
+      // written file is ignored when reading it, as its checksum will not match
+      LOG.warn("Failed to persist index of segment {} to {}", segment, indexFile, e);
+    }
+  }
+
+  private void awaitIndexWrites() {
+    try {
+      pendingIndexWrites.join();
+    } catch (final CompletionException e) {
+      LOG.warn("Failed to persist the index of a segment, ignoring it", e);
+    }
+  }
+
+  /**
+   * Fills the pool of prepared segments up to its size. Segments are prepared one after the other
+   * in the background, so that allocating them does not compete for the disk with the writer more
+   * than necessary. A failure to prepare one segment does not prevent preparing the next ones.
+   */
+  private void prepareNextSegments() {
+    while (preparedSegments.size() < segmentPoolSize) {
+      lastPreparedSegmentId = Math.max(lastPreparedSegmentId, currentSegment.id()) + 1;
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(lastPreparedSegmentId)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+
+      final var previous = preparedSegments.peekLast();
+      final CompletableFuture<UninitializedSegment> preparedSegment =
+          previous == null
+              ? CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor))
+              : previous.handleAsync((ignored, error) -> createUninitializedSegment(descriptor));
+      preparedSegments.add(preparedSegment);
+    }
+
+    journalMetrics.setSegmentPoolDepth(preparedSegments.size());
   }
 
   Collection<Segment> getTailSegments(final long index) {
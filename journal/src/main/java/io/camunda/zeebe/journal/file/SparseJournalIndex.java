@@ -38,15 +38,36 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
-      }
+      restore(index, position, indexedEntry.asqn());
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    indexToPosition.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqnToIndex.put(asqn, index);
+      indexToAsqn.put(index, asqn);
     }
   }
 
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    if (fromIndex > toIndex) {
+      return;
+    }
+
+    indexToPosition
+        .subMap(fromIndex, true, toIndex, true)
+        .forEach(
+            (index, position) ->
+                consumer.accept(
+                    index,
+                    position,
+                    indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE)));
+  }
+
   @Override
   public IndexInfo lookup(final long index) {
     final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
@@ -18,7 +18,9 @@ public record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    SegmentFlushMode flushMode,
+    JournalIndex journalIndex,
+    SegmentFileRecycler recycler) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -33,6 +35,14 @@ public record UninitializedSegment(
             .withMaxSegmentSize(maxSegmentSize)
             .build();
     updatedDescriptor.copyTo(buffer);
-    return new Segment(file, updatedDescriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        file,
+        updatedDescriptor,
+        buffer,
+        flushMode,
+        lastWrittenAsqn,
+        journalIndex,
+        metrics,
+        recycler);
   }
 }
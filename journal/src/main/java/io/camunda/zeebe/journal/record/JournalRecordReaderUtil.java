@@ -10,6 +10,7 @@ package io.camunda.zeebe.journal.record;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -18,10 +19,18 @@ import org.agrona.concurrent.UnsafeBuffer;
 public final class JournalRecordReaderUtil {
 
   private final JournalRecordSerializer serializer;
-  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final ChecksumGenerator checksumGenerator;
+  // reused to decode each record in place; the returned records wrap the memory on their own
+  private final UnsafeBuffer directBuffer = new UnsafeBuffer();
 
   public JournalRecordReaderUtil(final JournalRecordSerializer serializer) {
+    this(serializer, ChecksumAlgorithm.CRC32C);
+  }
+
+  public JournalRecordReaderUtil(
+      final JournalRecordSerializer serializer, final ChecksumAlgorithm checksumAlgorithm) {
     this.serializer = serializer;
+    checksumGenerator = new ChecksumGenerator(checksumAlgorithm);
   }
 
   /**
@@ -40,7 +49,7 @@ public final class JournalRecordReaderUtil {
 
     final int startPosition = buffer.position();
 
-    final UnsafeBuffer directBuffer = new UnsafeBuffer(buffer.slice());
+    directBuffer.wrap(buffer, startPosition, buffer.limit() - startPosition);
 
     final RecordMetadata metadata = serializer.readMetadata(directBuffer, 0);
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.util;
+
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * The algorithms which can be used to compute the checksum of journal records. The algorithm used
+ * by a segment is stored in its descriptor via its {@link #id()}, so that segments remain readable
+ * if the default algorithm changes.
+ *
+ * <p>Note that the checksum of a record is replicated along with the record, and verified by the
+ * followers when appending it. All members of a cluster must therefore use the same algorithm.
+ */
+public enum ChecksumAlgorithm {
+  /**
+   * CRC-32C (Castagnoli). The JVM implementation is intrinsified on common platforms (e.g. using
+   * SSE 4.2 on x86, or the CRC32 instructions on aarch64), and computes checksums of direct and
+   * mapped buffers directly from memory.
+   */
+  CRC32C((short) 1, CRC32C::new);
+
+  private final short id;
+  private final Supplier<Checksum> factory;
+
+  ChecksumAlgorithm(final short id, final Supplier<Checksum> factory) {
+    this.id = id;
+    this.factory = factory;
+  }
+
+  /** Returns the identifier of the algorithm, as stored in the segment descriptor. */
+  public short id() {
+    return id;
+  }
+
+  /** Returns a new, non thread-safe instance computing checksums with this algorithm. */
+  public Checksum newChecksum() {
+    return factory.get();
+  }
+
+  /**
+   * Returns the algorithm with the given identifier.
+   *
+   * @param id the identifier of the algorithm, as returned by {@link #id()}
+   * @return the algorithm with the given identifier
+   * @throws IllegalArgumentException if no algorithm with this identifier is known
+   */
+  public static ChecksumAlgorithm ofId(final short id) {
+    for (final var algorithm : values()) {
+      if (algorithm.id == id) {
+        return algorithm;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown checksum algorithm with id " + id);
+  }
+}
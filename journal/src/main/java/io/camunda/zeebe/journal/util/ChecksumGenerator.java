@@ -8,17 +8,54 @@
 package io.camunda.zeebe.journal.util;
 
 import java.nio.ByteBuffer;
-import java.util.zip.CRC32C;
+import java.util.Objects;
+import java.util.zip.Checksum;
 
+/**
+ * Computes checksums of a region of a buffer, using a given {@link ChecksumAlgorithm}. The checksum
+ * is computed directly over the given buffer, without copying or allocating, which for direct and
+ * mapped buffers means directly from memory.
+ *
+ * <p>Instances are not thread-safe, and should not be shared.
+ */
 public final class ChecksumGenerator {
 
-  private final CRC32C crc32 = new CRC32C();
+  private final ChecksumAlgorithm algorithm;
+  private final Checksum checksum;
+
+  public ChecksumGenerator() {
+    this(ChecksumAlgorithm.CRC32C);
+  }
+
+  public ChecksumGenerator(final ChecksumAlgorithm algorithm) {
+    this.algorithm = Objects.requireNonNull(algorithm, "must specify a checksum algorithm");
+    checksum = algorithm.newChecksum();
+  }
 
-  /** Compute checksum of given ByteBuffer */
+  /**
+   * Compute checksum of given ByteBuffer. The buffer's position and limit are used to delimit the
+   * region, but are restored before returning, so the buffer must not be used concurrently.
+   *
+   * @param buffer the buffer to compute the checksum of
+   * @param offset the absolute offset in the buffer at which the region starts
+   * @param length the length of the region
+   * @return the checksum of the region
+   */
   public long compute(final ByteBuffer buffer, final int offset, final int length) {
-    final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
-    crc32.reset();
-    crc32.update(slice.limit(length));
-    return crc32.getValue();
+    final int position = buffer.position();
+    final int limit = buffer.limit();
+
+    try {
+      buffer.limit(offset + length).position(offset);
+      checksum.reset();
+      checksum.update(buffer);
+      return checksum.getValue();
+    } finally {
+      buffer.limit(limit).position(position);
+    }
+  }
+
+  public ChecksumAlgorithm algorithm() {
+    return algorithm;
   }
 }
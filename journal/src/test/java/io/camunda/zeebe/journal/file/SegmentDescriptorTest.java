@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
 import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -49,9 +50,42 @@ class SegmentDescriptorTest {
     assertThat(descriptorRead.maxSegmentSize()).isEqualTo(1024);
     assertThat(descriptorRead.lastIndex()).isEqualTo(10);
     assertThat(descriptorRead.lastPosition()).isEqualTo(100);
+    assertThat(descriptorRead.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32C);
     assertThat(descriptorRead.length()).isEqualTo(SegmentDescriptor.getEncodingLength());
   }
 
+  @Test
+  void shouldFailOnUnknownChecksumAlgorithm() {
+    // given
+    final ByteBuffer buffer = ByteBuffer.allocate(SegmentDescriptor.getEncodingLength());
+    final UnsafeBuffer directBuffer = new UnsafeBuffer();
+    directBuffer.wrap(buffer);
+    final SegmentDescriptor descriptor =
+        SegmentDescriptor.builder().withId(2).withIndex(100).withMaxSegmentSize(1024).build();
+    descriptor.copyTo(buffer);
+
+    // when - overwrite the algorithm and fix the checksum, to only fail because of the algorithm
+    final int descHeaderOffset =
+        SegmentDescriptor.VERSION_LENGTH
+            + MessageHeaderEncoder.ENCODED_LENGTH
+            + DescriptorMetadataEncoder.BLOCK_LENGTH;
+    new SegmentDescriptorEncoder()
+        .wrap(directBuffer, descHeaderOffset + MessageHeaderEncoder.ENCODED_LENGTH)
+        .checksumAlgorithm((short) 100);
+    final long checksum =
+        new ChecksumGenerator()
+            .compute(
+                buffer,
+                descHeaderOffset,
+                MessageHeaderEncoder.ENCODED_LENGTH + SegmentDescriptorEncoder.BLOCK_LENGTH);
+    new DescriptorMetadataEncoder()
+        .wrap(directBuffer, SegmentDescriptor.VERSION_LENGTH + MessageHeaderEncoder.ENCODED_LENGTH)
+        .checksum(checksum);
+
+    // then
+    assertThatThrownBy(() -> readDescriptor(buffer)).isInstanceOf(UnknownVersionException.class);
+  }
+
   @ParameterizedTest
   @ValueSource(ints = {-1, 0, 100})
   void shouldValidateDescriptorHeader(final int invalidVersion) {
@@ -100,6 +134,7 @@ class SegmentDescriptorTest {
     assertThat(descriptorRead.maxSegmentSize()).isEqualTo(1024);
     assertThat(descriptorRead.lastIndex()).isZero();
     assertThat(descriptorRead.lastPosition()).isZero();
+    assertThat(descriptorRead.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32C);
   }
 
   @Test
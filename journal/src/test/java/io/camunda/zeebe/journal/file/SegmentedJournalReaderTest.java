@@ -23,9 +23,13 @@ import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -56,6 +60,8 @@ class SegmentedJournalReaderTest {
             .withMaxSegmentSize(
                 entrySize * ENTRIES_PER_SEGMENT + SegmentDescriptor.getEncodingLength())
             .withJournalIndexDensity(ENTRIES_PER_SEGMENT / 2)
+            // delete the files of deleted segments right away, instead of keeping them for reuse
+            .withSegmentPoolSize(0)
             .withMetaStore(new MockJournalMetastore())
             .build();
     reader = journal.openReader();
@@ -84,6 +90,91 @@ class SegmentedJournalReaderTest {
     assertThat(reader.next().index()).isEqualTo(indexToCompact);
   }
 
+  @Test
+  void shouldKeepPreviousSegmentOfReaderAfterCompact() {
+    // given - a reader which read the last record of the first segment and then the next one
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    for (int i = 1; i < ENTRIES_PER_SEGMENT; i++) {
+      reader.next();
+    }
+    final var lastRecordOfFirstSegment = reader.next();
+    reader.next();
+
+    // when
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // then
+    assertThat(lastRecordOfFirstSegment.index()).isEqualTo(ENTRIES_PER_SEGMENT);
+    assertThat(lastRecordOfFirstSegment.data()).isEqualTo(data);
+    assertThat(getSegmentFilesMarkedForDeletion()).hasSize(1);
+  }
+
+  @Test
+  void shouldReleasePreviousSegmentWhenMovingToNextSegment() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT + 1; i++) {
+      reader.next();
+    }
+    journal.deleteUntil(ENTRIES_PER_SEGMENT + 1);
+
+    // when
+    while (reader.hasNext()) {
+      reader.next();
+    }
+
+    // then
+    assertThat(getSegmentFilesMarkedForDeletion()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepSegmentsFromRetainedIndexWhenReadingAcrossSegments() {
+    // given - a reader which retains the last record of the first segment and reads on across two
+    // segment rollovers
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 4; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    for (int i = 1; i < ENTRIES_PER_SEGMENT; i++) {
+      reader.next();
+    }
+    final var retainedRecord = reader.next();
+    reader.retainFrom(retainedRecord.index());
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT + 1; i++) {
+      reader.next();
+    }
+
+    // when
+    journal.deleteUntil(ENTRIES_PER_SEGMENT * 2 + 1);
+
+    // then
+    assertThat(retainedRecord.index()).isEqualTo(ENTRIES_PER_SEGMENT);
+    assertThat(retainedRecord.data()).isEqualTo(data);
+    assertThat(getSegmentFilesMarkedForDeletion()).hasSize(2);
+  }
+
+  @Test
+  void shouldReleaseSegmentsBeforeRetainedIndex() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 4; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    reader.retainFrom(1);
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 2 + 1; i++) {
+      reader.next();
+    }
+    journal.deleteUntil(ENTRIES_PER_SEGMENT * 2 + 1);
+
+    // when
+    reader.retainFrom(ENTRIES_PER_SEGMENT * 2 + 1);
+
+    // then
+    assertThat(getSegmentFilesMarkedForDeletion()).isEmpty();
+  }
+
   @Test
   void shouldSeekToAnyIndexInMultipleSegments() {
     // given
@@ -170,6 +261,17 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  private List<Path> getSegmentFilesMarkedForDeletion() {
+    try (final var files = Files.list(directory.resolve("data"))) {
+      return files
+          .filter(
+              file -> SegmentFile.isDeletedSegmentFile("journal", file.getFileName().toString()))
+          .toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
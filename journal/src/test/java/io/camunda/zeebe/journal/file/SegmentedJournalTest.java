@@ -30,7 +30,9 @@ import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Objects;
@@ -716,6 +718,191 @@ class SegmentedJournalTest {
     PosixPathAssert.assertThat(firstSegment).hasRealSizeLessThan(segmentSize);
   }
 
+  @Test
+  void shouldFlushAndReadAfterRestartWithFdatasyncFlushMode(final @TempDir Path tmpDir) {
+    // given
+    final var metaStore = new MockJournalMetastore();
+    final var builder =
+        SegmentedJournal.builder()
+            .withFlushMode(SegmentFlushMode.FDATASYNC)
+            .withMaxSegmentSize(1024)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(metaStore);
+    final var data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
+    final long lastIndex;
+
+    // when - append enough entries to span multiple segments
+    try (final var journal = builder.build()) {
+      for (int i = 1; i <= 100; i++) {
+        journal.append(i, new DirectBufferWriter().wrap(data));
+      }
+      journal.flush();
+      lastIndex = journal.getLastIndex();
+    }
+
+    // then
+    assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(lastIndex);
+    try (final var journal = builder.build();
+        final var reader = journal.openReader()) {
+      assertThat(journal.getLastIndex()).isEqualTo(lastIndex);
+      assertThat(reader.seekToLast()).isEqualTo(lastIndex);
+
+      final var record = reader.next();
+      assertThat(record.asqn()).isEqualTo(100);
+      assertThat(record.data()).isEqualTo(data);
+    }
+  }
+
+  @Test
+  void shouldRestorePersistedIndexAfterRestart(final @TempDir Path tmpDir) {
+    // given
+    final var builder =
+        SegmentedJournal.builder()
+            .withPersistJournalIndex(true)
+            .withJournalIndexDensity(5)
+            .withMaxSegmentSize(1024)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final var data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
+    try (final var journal = builder.build()) {
+      for (int i = 1; i <= 100; i++) {
+        journal.append(i, new DirectBufferWriter().wrap(data));
+      }
+      journal.flush();
+      assertThat(journal.getFirstSegment()).isNotEqualTo(journal.getLastSegment());
+    }
+
+    // when
+    try (final var journal = builder.build();
+        final var reader = journal.openReader()) {
+
+      // then - entries of the first segment are indexed without having been read
+      final var firstSegment = journal.getFirstSegment();
+      assertThat(firstSegment.file().indexFile()).exists();
+      assertThat(journal.getJournalIndex().lookup(5).index()).isEqualTo(5);
+      assertThat(journal.getJournalIndex().lookupAsqn(7)).isEqualTo(5);
+
+      assertThat(reader.seekToAsqn(7)).isEqualTo(7);
+      assertThat(reader.next().asqn()).isEqualTo(7);
+    }
+  }
+
+  @Test
+  void shouldOnlyScanEntriesAppendedAfterIndexWasPersisted(final @TempDir Path tmpDir)
+      throws IOException {
+    // given - the index of the current segment persisted with every entry indexed
+    final var builder =
+        SegmentedJournal.builder()
+            .withPersistJournalIndex(true)
+            .withJournalIndexDensity(1)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final var data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
+    final Path indexFile;
+    try (final var journal = builder.build()) {
+      for (int i = 1; i <= 10; i++) {
+        journal.append(i, new DirectBufferWriter().wrap(data));
+      }
+      journal.flush();
+      indexFile = journal.getLastSegment().file().indexFile();
+    }
+    final var persistedIndex = Files.readAllBytes(indexFile);
+
+    // when - more entries are appended, but the index is not persisted again
+    builder.withJournalIndexDensity(5);
+    try (final var journal = builder.build()) {
+      for (int i = 11; i <= 20; i++) {
+        journal.append(i, new DirectBufferWriter().wrap(data));
+      }
+      journal.flush();
+    }
+    Files.write(indexFile, persistedIndex);
+
+    // then - the persisted entries are restored and only the remaining entries are indexed
+    try (final var journal = builder.build();
+        final var reader = journal.openReader()) {
+      assertThat(journal.getJournalIndex().lookup(3).index()).isEqualTo(3);
+      assertThat(journal.getJournalIndex().lookup(17).index()).isEqualTo(15);
+      assertThat(journal.getJournalIndex().lookupAsqn(20)).isEqualTo(20);
+
+      assertThat(reader.seekToAsqn(17)).isEqualTo(17);
+      assertThat(reader.next().asqn()).isEqualTo(17);
+    }
+  }
+
+  @Test
+  void shouldIgnorePersistedIndexOfTruncatedSegment(final @TempDir Path tmpDir) {
+    // given
+    final var builder =
+        SegmentedJournal.builder()
+            .withPersistJournalIndex(true)
+            .withJournalIndexDensity(1)
+            .withMaxSegmentSize(1024)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final var data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
+    final var otherData = new UnsafeBuffer("other data".getBytes(StandardCharsets.UTF_8));
+    try (final var journal = builder.build()) {
+      for (int i = 1; i <= 100; i++) {
+        journal.append(i, new DirectBufferWriter().wrap(data));
+      }
+      journal.flush();
+    }
+
+    // when - truncate within the first segment, and write entries of a different size
+    try (final var journal = builder.build()) {
+      journal.deleteAfter(2);
+      assertThat(journal.getFirstSegment().file().indexFile()).doesNotExist();
+      for (int i = 3; i <= 100; i++) {
+        journal.append(i, new DirectBufferWriter().wrap(otherData));
+      }
+      journal.flush();
+    }
+
+    // then
+    try (final var journal = builder.build();
+        final var reader = journal.openReader()) {
+      assertThat(reader.seekToAsqn(50)).isEqualTo(50);
+      final var record = reader.next();
+      assertThat(record.index()).isEqualTo(50);
+      assertThat(record.data()).isEqualTo(otherData);
+    }
+  }
+
+  @Test
+  void shouldIgnoreCorruptedPersistedIndex(final @TempDir Path tmpDir) throws IOException {
+    // given
+    final var builder =
+        SegmentedJournal.builder()
+            .withPersistJournalIndex(true)
+            .withJournalIndexDensity(5)
+            .withMaxSegmentSize(1024)
+            .withDirectory(tmpDir.toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final var data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
+    final Path indexFile;
+    try (final var journal = builder.build()) {
+      for (int i = 1; i <= 100; i++) {
+        journal.append(i, new DirectBufferWriter().wrap(data));
+      }
+      journal.flush();
+      indexFile = journal.getFirstSegment().file().indexFile();
+    }
+
+    // when
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile, content);
+
+    // then - the first segment is not indexed, but can still be read
+    try (final var journal = builder.build();
+        final var reader = journal.openReader()) {
+      assertThat(journal.getJournalIndex().lookup(5)).isNull();
+      assertThat(reader.seekToAsqn(7)).isEqualTo(7);
+      assertThat(reader.next().asqn()).isEqualTo(7);
+    }
+  }
+
   @Test
   void shouldValidateAsqnBeforeCreatingNewSegment() {
     // given
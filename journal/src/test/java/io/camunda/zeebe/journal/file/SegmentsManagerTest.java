@@ -16,8 +16,10 @@ import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Objects;
 import org.agrona.CloseHelper;
@@ -293,6 +295,117 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareSegmentsAheadOfTime() {
+    // given
+    segments = journalFactory.segmentsManager(directory, journalFactory.segmentLoader(), 3);
+
+    // when - roll over once
+    try (final var journal = journalFactory.journal(segments)) {
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+    }
+
+    // then - the two used segments and the three prepared ones exist
+    final File logDirectory = directory.resolve("data").toFile();
+    assertThat(logDirectory.listFiles(f -> SegmentFile.isSegmentFile(JOURNAL_NAME, f)))
+        .extracting(File::getName)
+        .containsExactlyInAnyOrder(
+            "journal-1.log", "journal-2.log", "journal-3.log", "journal-4.log", "journal-5.log");
+  }
+
+  @Test
+  void shouldNotPrepareSegmentsIfPoolIsEmpty() {
+    // given
+    segments = journalFactory.segmentsManager(directory, journalFactory.segmentLoader(), 0);
+
+    // when
+    try (final var journal = journalFactory.journal(segments)) {
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+      journal.append(3, journalFactory.entry());
+
+      // then
+      assertThat(journal.getLastSegment().id()).isEqualTo(3);
+    }
+
+    final File logDirectory = directory.resolve("data").toFile();
+    assertThat(logDirectory.listFiles(f -> SegmentFile.isSegmentFile(JOURNAL_NAME, f))).hasSize(3);
+  }
+
+  @Test
+  void shouldReuseFileOfDeletedSegment() throws IOException {
+    // given
+    final var loader =
+        new SegmentLoader(
+            2L * journalFactory.maxSegmentSize(),
+            journalFactory.metrics(),
+            SegmentAllocator.fill(),
+            SegmentFlushMode.MSYNC,
+            new SegmentFileRecycler(1));
+    segments = journalFactory.segmentsManager(directory, loader, 1);
+    final File logDirectory = directory.resolve("data").toFile();
+
+    try (final var journal = journalFactory.journal(segments)) {
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+      journal.append(3, journalFactory.entry());
+
+      // when - delete two segments, and roll over to prepare a new segment
+      journal.deleteUntil(3);
+      assertThat(
+              logDirectory.listFiles(
+                  f -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, f.getName())))
+          .hasSize(1);
+      journal.append(4, journalFactory.entry());
+    }
+
+    // then - the kept file was reused for the prepared segment, and only its header was erased
+    assertThat(
+            logDirectory.listFiles(
+                f -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, f.getName())))
+        .isEmpty();
+    final var preparedSegment = logDirectory.toPath().resolve("journal-5.log");
+    final var content = Files.readAllBytes(preparedSegment);
+    final var headerLength = SegmentDescriptor.getEncodingLength() + FrameUtil.getLength();
+    assertThat(Arrays.copyOfRange(content, 0, headerLength)).containsOnly(0);
+    assertThat(Arrays.copyOfRange(content, headerLength, content.length))
+        .isNotEqualTo(new byte[content.length - headerLength]);
+  }
+
+  @Test
+  void shouldNotReadLeftoverEntriesOfReusedFile() {
+    // given - two entries per segment
+    final var factory = new TestJournalFactory("test", 2);
+    final var loader =
+        new SegmentLoader(
+            2L * factory.maxSegmentSize(),
+            factory.metrics(),
+            SegmentAllocator.fill(),
+            SegmentFlushMode.MSYNC,
+            new SegmentFileRecycler(1));
+    try (final var journal = factory.journal(factory.segmentsManager(directory, loader, 1))) {
+      for (int i = 1; i <= 6; i++) {
+        journal.append(i, factory.entry());
+      }
+      journal.deleteUntil(5);
+
+      // when - the segment of the next rollover reuses a full file, but gets a single entry
+      for (int i = 7; i <= 9; i++) {
+        journal.append(i, factory.entry());
+      }
+    }
+
+    // then
+    try (final var journal = factory.journal(factory.segmentsManager(directory));
+        final var reader = journal.openReader()) {
+      assertThat(journal.getLastIndex()).isEqualTo(9);
+      assertThat(reader.seek(9)).isEqualTo(9);
+      assertThat(reader.next().index()).isEqualTo(9);
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
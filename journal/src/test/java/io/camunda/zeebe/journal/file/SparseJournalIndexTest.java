@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -265,4 +267,35 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldRestoreEntryRegardlessOfDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+
+    // when
+    index.restore(3, 6, 3);
+
+    // then
+    assertEquals(new IndexInfo(3, 6), index.lookup(4));
+    assertEquals(3, index.lookupAsqn(4));
+  }
+
+  @Test
+  void shouldVisitIndexedEntriesInRange() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, SegmentedJournal.ASQN_IGNORE), 8);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(8, 80), 16);
+    final var visited = new ArrayList<List<Long>>();
+
+    // when
+    index.forEach(3, 6, (i, position, asqn) -> visited.add(List.of(i, (long) position, asqn)));
+
+    // then
+    assertThat(visited)
+        .containsExactly(List.of(4L, 8L, SegmentedJournal.ASQN_IGNORE), List.of(6L, 12L, 60L));
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.perf;
+
+import io.camunda.zeebe.journal.util.ChecksumAlgorithm;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the checksum throughput of each {@link ChecksumAlgorithm} for different record sizes,
+ * over heap and direct buffers. Segments are mapped, so the direct buffers reflect what the journal
+ * does when appending and reading records. Run it directly via JMH to compare all combinations.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ChecksumPerformanceTest {
+  // the record is written at an offset, as records are never at the start of a segment
+  private static final int OFFSET = 64;
+
+  @Param({"CRC32C"})
+  private ChecksumAlgorithm algorithm;
+
+  @Param({"64", "512", "4096", "65536"})
+  private int recordSize;
+
+  @Param({"true", "false"})
+  private boolean direct;
+
+  private ChecksumGenerator generator;
+  private ByteBuffer buffer;
+
+  @Setup
+  public void setup() {
+    final var data = new byte[OFFSET + recordSize];
+    ThreadLocalRandom.current().nextBytes(data);
+
+    buffer = direct ? ByteBuffer.allocateDirect(data.length) : ByteBuffer.allocate(data.length);
+    buffer.put(data).clear();
+    generator = new ChecksumGenerator(algorithm);
+  }
+
+  @Benchmark
+  public long measureChecksum() {
+    return generator.compute(buffer, OFFSET, recordSize);
+  }
+
+  @JMHTest("measureChecksum")
+  void shouldComputeChecksumOfDirectBuffer(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2_000_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.param("algorithm", ChecksumAlgorithm.CRC32C.name()))
+            .withOptions(options -> options.param("recordSize", "4096"))
+            .withOptions(options -> options.param("direct", "true"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
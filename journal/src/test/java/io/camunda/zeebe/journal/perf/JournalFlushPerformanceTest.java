@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.perf;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentFlushMode;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the append + flush latency distribution of the different {@link SegmentFlushMode}. Run
+ * it directly via JMH to get the latency percentiles of both modes side by side.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 25, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalFlushPerformanceTest {
+  private static final int SEGMENT_SIZE = 128 * 1024 * 1024;
+
+  @Param({"MSYNC", "FDATASYNC"})
+  private SegmentFlushMode flushMode;
+
+  @Param({"1024"})
+  private int entrySize;
+
+  @Param({"8"})
+  private int entriesPerFlush;
+
+  private Path directory;
+  private SegmentedJournal journal;
+  private DirectBufferWriter entry;
+  private long asqn;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-flush");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withFreeDiskSpace(0)
+            .withFlushMode(flushMode)
+            .withMetaStore(new MockJournalMetastore())
+            .build();
+
+    final var data = new byte[entrySize];
+    ThreadLocalRandom.current().nextBytes(data);
+    entry = new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    journal.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public JournalRecord measureAppendAndFlush() {
+    JournalRecord record = null;
+    for (int i = 0; i < entriesPerFlush; i++) {
+      record = journal.append(++asqn, entry);
+    }
+
+    journal.flush();
+    return record;
+  }
+
+  @JMHTest("measureAppendAndFlush")
+  void shouldAppendAndFlushWithChannel(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS))
+            .withOptions(options -> options.param("flushMode", SegmentFlushMode.FDATASYNC.name()))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ChecksumGeneratorTest {
+  private static final byte[] DATA = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldComputeChecksumOfRegion(final boolean direct) {
+    // given
+    final var buffer = allocate(direct, DATA.length);
+    buffer.put(DATA).clear();
+    final var expected = new CRC32C();
+    expected.update(DATA, 4, 8);
+
+    // when
+    final long checksum = new ChecksumGenerator().compute(buffer, 4, 8);
+
+    // then
+    assertThat(checksum).isEqualTo(expected.getValue());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldNotModifyBuffer(final boolean direct) {
+    // given
+    final var buffer = allocate(direct, DATA.length);
+    buffer.put(DATA).position(2).limit(6).mark();
+
+    // when
+    new ChecksumGenerator().compute(buffer, 8, 8);
+
+    // then
+    assertThat(buffer.position()).isEqualTo(2);
+    assertThat(buffer.limit()).isEqualTo(6);
+    assertThat(buffer.reset().position()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldComputeSameChecksumForReadOnlyBuffer(final boolean direct) {
+    // given
+    final var buffer = allocate(direct, DATA.length);
+    buffer.put(DATA).clear();
+    final var generator = new ChecksumGenerator();
+
+    // when
+    final long checksum = generator.compute(buffer.asReadOnlyBuffer(), 0, DATA.length);
+
+    // then
+    assertThat(checksum).isEqualTo(generator.compute(buffer, 0, DATA.length));
+  }
+
+  private ByteBuffer allocate(final boolean direct, final int capacity) {
+    return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+}
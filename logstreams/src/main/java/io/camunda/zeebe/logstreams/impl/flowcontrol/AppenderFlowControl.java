@@ -18,7 +18,13 @@ import org.slf4j.LoggerFactory;
 public final class AppenderFlowControl {
   private static final Logger LOG = LoggerFactory.getLogger(AppenderFlowControl.class);
   private static final Map<String, BackpressureCfg> ALGORITHM_CFG =
-      Map.of("vegas", new BackpressureCfgVegas(), "gradient2", new BackpressureCfgGradient2());
+      Map.of(
+          "vegas",
+          new BackpressureCfgVegas(),
+          "gradient2",
+          new BackpressureCfgGradient2(),
+          "latency",
+          new BackpressureCfgLatency());
 
   private final AppendErrorHandler errorHandler;
   private final Limiter<Void> limiter;
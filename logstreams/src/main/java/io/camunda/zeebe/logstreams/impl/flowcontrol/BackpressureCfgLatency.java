@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static io.camunda.zeebe.logstreams.impl.flowcontrol.BackpressureConstants.ENV_BP_APPENDER_LATENCY_BACKOFF_RATIO;
+import static io.camunda.zeebe.logstreams.impl.flowcontrol.BackpressureConstants.ENV_BP_APPENDER_LATENCY_INIT_LIMIT;
+import static io.camunda.zeebe.logstreams.impl.flowcontrol.BackpressureConstants.ENV_BP_APPENDER_LATENCY_MAX_LIMIT;
+import static io.camunda.zeebe.logstreams.impl.flowcontrol.BackpressureConstants.ENV_BP_APPENDER_LATENCY_MIN_LIMIT;
+import static io.camunda.zeebe.logstreams.impl.flowcontrol.BackpressureConstants.ENV_BP_APPENDER_LATENCY_TARGET_MS;
+
+import com.netflix.concurrency.limits.limit.AIMDLimit;
+import com.netflix.concurrency.limits.limit.AbstractLimit;
+import io.camunda.zeebe.util.Environment;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Targets a commit latency instead of inferring the capacity of the log from latency changes, like
+ * Vegas and Gradient2 do. Whenever an append takes longer than the target to be committed, or is
+ * dropped, the limit is reduced by the backoff ratio; otherwise it grows by one while the limit is
+ * at least half used. This keeps the commit latency close to the target, which makes it suitable as
+ * a service level objective.
+ *
+ * <p>This class should be later be located in the broker configs - due to the primitive usage
+ * currently we are not able to access the BrokerCfg, this is the reason why the configuration is
+ * only based on environment variables.
+ */
+final class BackpressureCfgLatency implements BackpressureCfg {
+
+  private int initialLimit = 1024;
+  private int minLimit = 16;
+  private int maxLimit = 1024 * 32;
+  private long targetLatencyMs = 100;
+  private double backoffRatio = 0.9;
+
+  @Override
+  public void applyEnvironment(final Environment environment) {
+    environment.getInt(ENV_BP_APPENDER_LATENCY_INIT_LIMIT).ifPresent(this::setInitialLimit);
+    environment.getInt(ENV_BP_APPENDER_LATENCY_MIN_LIMIT).ifPresent(this::setMinLimit);
+    environment.getInt(ENV_BP_APPENDER_LATENCY_MAX_LIMIT).ifPresent(this::setMaxLimit);
+    environment.getLong(ENV_BP_APPENDER_LATENCY_TARGET_MS).ifPresent(this::setTargetLatencyMs);
+    environment.getDouble(ENV_BP_APPENDER_LATENCY_BACKOFF_RATIO).ifPresent(this::setBackoffRatio);
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public BackpressureCfgLatency setInitialLimit(final int initialLimit) {
+    this.initialLimit = initialLimit;
+    return this;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public BackpressureCfgLatency setMinLimit(final int minLimit) {
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public BackpressureCfgLatency setMaxLimit(final int maxLimit) {
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  public long getTargetLatencyMs() {
+    return targetLatencyMs;
+  }
+
+  public BackpressureCfgLatency setTargetLatencyMs(final long targetLatencyMs) {
+    this.targetLatencyMs = targetLatencyMs;
+    return this;
+  }
+
+  public double getBackoffRatio() {
+    return backoffRatio;
+  }
+
+  public BackpressureCfgLatency setBackoffRatio(final double backoffRatio) {
+    this.backoffRatio = backoffRatio;
+    return this;
+  }
+
+  @Override
+  public AbstractLimit get() {
+    return AIMDLimit.newBuilder()
+        .initialLimit(initialLimit)
+        .minLimit(minLimit)
+        .maxLimit(maxLimit)
+        .timeout(targetLatencyMs, TimeUnit.MILLISECONDS)
+        .backoffRatio(backoffRatio)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return "BackpressureCfgLatency{"
+        + "initialLimit="
+        + initialLimit
+        + ", minLimit="
+        + minLimit
+        + ", maxLimit="
+        + maxLimit
+        + ", targetLatencyMs="
+        + targetLatencyMs
+        + ", backoffRatio="
+        + backoffRatio
+        + '}';
+  }
+}
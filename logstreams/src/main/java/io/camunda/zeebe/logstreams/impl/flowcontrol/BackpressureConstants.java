@@ -44,4 +44,16 @@ final class BackpressureConstants {
       "ZEEBE_BP_APPENDER_GRADIENT2_LONG_WINDOW";
   public static final String ENV_BP_APPENDER_GRADIENT2_RTT_TOLERANCE =
       "ZEEBE_BP_APPENDER_GRADIENT2_RTT_TOLERANCE";
+
+  // APPEND LIMITER - LATENCY ALGORITHM
+  public static final String ENV_BP_APPENDER_LATENCY_INIT_LIMIT =
+      "ZEEBE_BP_APPENDER_LATENCY_INIT_LIMIT";
+  public static final String ENV_BP_APPENDER_LATENCY_MIN_LIMIT =
+      "ZEEBE_BP_APPENDER_LATENCY_MIN_LIMIT";
+  public static final String ENV_BP_APPENDER_LATENCY_MAX_LIMIT =
+      "ZEEBE_BP_APPENDER_LATENCY_MAX_LIMIT";
+  public static final String ENV_BP_APPENDER_LATENCY_TARGET_MS =
+      "ZEEBE_BP_APPENDER_LATENCY_TARGET_MS";
+  public static final String ENV_BP_APPENDER_LATENCY_BACKOFF_RATIO =
+      "ZEEBE_BP_APPENDER_LATENCY_BACKOFF_RATIO";
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Consecutive {@link SequencedBatch sequenced batches}, which are appended to the log storage as a
+ * single block. Each batch keeps its own timestamp and source position, so the serialized block is
+ * the same as if all batches were appended one after another.
+ */
+record CoalescedBatch(List<SequencedBatch> batches, int length) implements BufferWriter {
+
+  long firstPosition() {
+    return batches.get(0).firstPosition();
+  }
+
+  long lastPosition() {
+    final var lastBatch = batches.get(batches.size() - 1);
+    return lastBatch.firstPosition() + lastBatch.entries().size() - 1;
+  }
+
+  @Override
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    int currentOffset = offset;
+    for (final var batch : batches) {
+      batch.write(buffer, currentOffset);
+      currentOffset += batch.length();
+    }
+  }
+}
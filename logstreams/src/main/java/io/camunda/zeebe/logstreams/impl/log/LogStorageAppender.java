@@ -126,32 +126,34 @@ final class LogStorageAppender extends Actor implements HealthMonitorable, Appen
   }
 
   private void writeBatch(final InFlightAppend append) {
-    final var sequencedBatch = sequencer.tryRead();
-    if (sequencedBatch == null) {
+    // drain all batches which are ready and fit into one block, so that many small batches of
+    // concurrent writers don't need one append and one in-flight slot each
+    final var coalescedBatch = sequencer.tryReadCoalesced();
+    if (coalescedBatch == null) {
       append.discard();
       return;
     }
 
-    final var lowestPosition = sequencedBatch.firstPosition();
-    final var highestPosition =
-        sequencedBatch.firstPosition() + sequencedBatch.entries().size() - 1;
+    final var lowestPosition = coalescedBatch.firstPosition();
+    final var highestPosition = coalescedBatch.lastPosition();
     // extract only the required metadata for metrics from the batch to avoid capturing the whole
     // batch and holding onto its memory longer than necessary.
-    final List<LogAppendEntryMetadata> metricsMetadata = copyMetricsMetadata(sequencedBatch);
+    final List<LogAppendEntryMetadata> metricsMetadata = copyMetricsMetadata(coalescedBatch);
     append.start(highestPosition);
     logStorage.append(
         lowestPosition,
         highestPosition,
-        sequencedBatch,
+        coalescedBatch,
         new InstrumentedAppendListener(append, metricsMetadata, metrics));
     actor.submit(this::tryWriteBatch);
   }
 
-  private List<LogAppendEntryMetadata> copyMetricsMetadata(final SequencedBatch sequencedBatch) {
-    final var entries = sequencedBatch.entries();
-    final List<LogAppendEntryMetadata> metricsMetadata = new ArrayList<>(entries.size());
-    for (final LogAppendEntry entry : entries) {
-      metricsMetadata.add(new LogAppendEntryMetadata(entry));
+  private List<LogAppendEntryMetadata> copyMetricsMetadata(final CoalescedBatch coalescedBatch) {
+    final List<LogAppendEntryMetadata> metricsMetadata = new ArrayList<>();
+    for (final SequencedBatch sequencedBatch : coalescedBatch.batches()) {
+      for (final LogAppendEntry entry : sequencedBatch.entries()) {
+        metricsMetadata.add(new LogAppendEntryMetadata(entry));
+      }
     }
 
     return metricsMetadata;
@@ -10,17 +10,17 @@ package io.camunda.zeebe.logstreams.impl.log;
 import static io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor.FRAME_ALIGNMENT;
 
 import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.scheduler.ActorCondition;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,21 +33,39 @@ import org.slf4j.LoggerFactory;
  * <p>The sequencer assigns all entries a position and makes that position available to its
  * consumer. The sequencer does not copy or serialize entries, it only keeps a reference to them
  * until they are handed off to the consumer.
+ *
+ * <p>Writers don't block each other: the queue is a linked list of batches, and a writer appends
+ * its batch by swapping the tail of the list with a single compare-and-set. Each node knows the
+ * position which follows its batch, so the position of a batch is reserved by the same
+ * compare-and-set which enqueues it, and batches are always queued in the order of their positions.
+ * A writer links the previous tail to its node only after the swap, so the consumer may briefly not
+ * see a batch whose position was already returned to its writer. The writer signals the consumer
+ * once the batch is linked.
+ *
+ * <p>Writes on behalf of client requests may only fill half of the queue, while follow-up writes,
+ * e.g. of the stream processor, may fill all of it. When the consumer falls behind, e.g. because
+ * the appender limits its in-flight appends to keep the commit latency low, new client commands are
+ * rejected first, and the work which is already in progress can still be completed.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  private static final int QUEUE_CAPACITY = 128;
+  private static final int CLIENT_QUEUE_CAPACITY = QUEUE_CAPACITY / 2;
   private final int maxFragmentSize;
 
-  private volatile long position;
   private volatile boolean isClosed = false;
   private volatile ActorCondition consumer;
-  private final Queue<SequencedBatch> queue = new ArrayBlockingQueue<>(128);
-  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicReference<Node> tail;
   private final SequencerMetrics metrics;
 
+  // only accessed by the consumer, except for the read index which bounds the queue
+  private Node head;
+  private volatile long readIndex;
+
   Sequencer(final long initialPosition, final int maxFragmentSize, final SequencerMetrics metrics) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
-    position = initialPosition;
+    head = new Node(null, 0, initialPosition);
+    tail = new AtomicReference<>(head);
     this.maxFragmentSize = maxFragmentSize;
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
   }
@@ -82,43 +100,92 @@ final class Sequencer implements LogStreamWriter, Closeable {
       return Either.left(WriteFailure.INVALID_ARGUMENT);
     }
 
-    final long currentPosition;
-    final boolean isEnqueued;
-    lock.lock();
-    try {
-      currentPosition = position;
+    final boolean isClientWrite = isClientWrite(appendEntries, sourcePosition);
+    final int capacity = isClientWrite ? CLIENT_QUEUE_CAPACITY : QUEUE_CAPACITY;
+    final int batchLength = SequencedBatchSerializer.calculateBatchSize(appendEntries);
+    final long timestamp = ActorClock.currentTimeMillis();
+    Node previous;
+    Node node;
+    do {
+      previous = tail.get();
+      if (previous.index - readIndex >= capacity) {
+        node = null;
+        break;
+      }
+
       final var sequencedBatch =
           new SequencedBatch(
-              ActorClock.currentTimeMillis(), currentPosition, sourcePosition, appendEntries);
-      isEnqueued = queue.offer(sequencedBatch);
-      if (isEnqueued) {
-        metrics.observeBatchLengthBytes(sequencedBatch.length());
-        position = currentPosition + batchSize;
-      }
-    } finally {
-      lock.unlock();
+              timestamp, previous.nextPosition, sourcePosition, appendEntries, batchLength);
+      node = new Node(sequencedBatch, previous.index + 1, previous.nextPosition + batchSize);
+    } while (!tail.compareAndSet(previous, node));
+
+    if (node != null) {
+      previous.next = node;
     }
 
     if (consumer != null) {
       consumer.signal();
     }
-    metrics.setQueueSize(queue.size());
-    if (isEnqueued) {
+    metrics.setQueueSize((int) (tail.get().index - readIndex));
+    if (node != null) {
+      metrics.observeBatchLengthBytes(batchLength);
       metrics.observeBatchSize(batchSize);
-      return Either.right(currentPosition + batchSize - 1);
+      return Either.right(node.nextPosition - 1);
     } else {
       LOG.trace("Rejecting write of {}, sequencer queue is full", appendEntries);
+      metrics.increaseRejectedWrites(isClientWrite);
       return Either.left(WriteFailure.FULL);
     }
   }
 
   /**
-   * Retrieves, but does not remove, the first item in the sequenced batch queue.
+   * Retrieves and removes the first item in the sequenced batch queue. Must only be called by the
+   * consumer.
    *
    * @return A {@link SequencedBatch} or null if none is available
    */
   SequencedBatch tryRead() {
-    return queue.poll();
+    final var next = head.next;
+    if (next == null) {
+      return null;
+    }
+
+    final var batch = next.batch;
+    // the new head stays in the queue to link the following batch, but its batch is not needed
+    next.batch = null;
+    head = next;
+    readIndex = next.index;
+    metrics.observeQueueWait(ActorClock.currentTimeMillis() - batch.timestamp());
+    return batch;
+  }
+
+  /**
+   * Retrieves and removes the first item in the sequenced batch queue, together with as many of the
+   * following items as are available and fit into a single fragment. Appending them at once allows
+   * the consumer to catch up with many writers of small batches. Must only be called by the
+   * consumer.
+   *
+   * @return A {@link CoalescedBatch} or null if none is available
+   */
+  CoalescedBatch tryReadCoalesced() {
+    final var first = tryRead();
+    if (first == null) {
+      return null;
+    }
+
+    final List<SequencedBatch> batches = new ArrayList<>();
+    batches.add(first);
+    int length = first.length();
+    for (var next = head.next;
+        next != null && length + next.batch.length() <= maxFragmentSize;
+        next = head.next) {
+      final var batch = tryRead();
+      batches.add(batch);
+      length += batch.length();
+    }
+
+    metrics.observeCoalescedBatches(batches.size());
+    return new CoalescedBatch(batches, length);
   }
 
   /**
@@ -135,10 +202,41 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.consumer = consumer;
   }
 
+  /**
+   * Client requests are written without a source position, with the request id in the metadata, so
+   * that the response can be sent once the command is processed.
+   */
+  private boolean isClientWrite(
+      final List<LogAppendEntry> appendEntries, final long sourcePosition) {
+    if (sourcePosition >= 0) {
+      return false;
+    }
+
+    for (final var entry : appendEntries) {
+      if (entry.recordMetadata().getRequestId() >= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean isEntryValid(final LogAppendEntry entry) {
-    return entry.recordValue() != null
-        && entry.recordValue().getLength() > 0
+    return entry.recordValueWriter() != null
+        && entry.recordValueWriter().getLength() > 0
         && entry.recordMetadata() != null
         && entry.recordMetadata().getLength() > 0;
   }
+
+  private static final class Node {
+    private final long index;
+    private final long nextPosition;
+    private SequencedBatch batch;
+    private volatile Node next;
+
+    private Node(final SequencedBatch batch, final long index, final long nextPosition) {
+      this.batch = batch;
+      this.index = index;
+      this.nextPosition = nextPosition;
+    }
+  }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.logstreams.impl.log;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
@@ -38,15 +39,51 @@ final class SequencerMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram COALESCED_BATCHES =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_coalesced_batches")
+          .help("Histogram over the number of batches which are appended together as one block")
+          .buckets(1, 2, 3, 5, 10, 25, 50, 100)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram QUEUE_WAIT =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_queue_wait")
+          .help(
+              "Time between a batch being written to the sequencer and it being read by the appender (in seconds)")
+          .buckets(.001, .005, .01, .025, .05, .1, .25, .5, 1, 5)
+          .labelNames("partition")
+          .register();
+
+  private static final Counter REJECTED_WRITES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("sequencer_rejected_writes_total")
+          .help(
+              "Number of writes rejected because the queue was full, by whether the write was on behalf of a client request")
+          .labelNames("partition", "client")
+          .register();
+
   private final Gauge.Child queueSize;
   private final Histogram.Child batchSize;
   private final Histogram.Child batchLengthBytes;
+  private final Histogram.Child coalescedBatches;
+  private final Histogram.Child queueWait;
+  private final Counter.Child rejectedClientWrites;
+  private final Counter.Child rejectedInternalWrites;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     queueSize = QUEUE_SIZE.labels(partitionLabel);
     batchSize = BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
+    coalescedBatches = COALESCED_BATCHES.labels(partitionLabel);
+    queueWait = QUEUE_WAIT.labels(partitionLabel);
+    rejectedClientWrites = REJECTED_WRITES.labels(partitionLabel, "true");
+    rejectedInternalWrites = REJECTED_WRITES.labels(partitionLabel, "false");
   }
 
   void setQueueSize(final int length) {
@@ -61,4 +98,20 @@ final class SequencerMetrics {
     final int batchLengthKiloBytes = Math.floorDiv(lengthBytes, 1024);
     batchLengthBytes.observe(batchLengthKiloBytes);
   }
+
+  void observeCoalescedBatches(final int count) {
+    coalescedBatches.observe(count);
+  }
+
+  void observeQueueWait(final long waitMillis) {
+    queueWait.observe(Math.max(0, waitMillis) / 1_000D);
+  }
+
+  void increaseRejectedWrites(final boolean isClientWrite) {
+    if (isClientWrite) {
+      rejectedClientWrites.inc();
+    } else {
+      rejectedInternalWrites.inc();
+    }
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.logstreams.log;
 import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Objects;
 
 /** Represents an unmodifiable application record entry to be appended on the log. */
@@ -36,6 +37,17 @@ public interface LogAppendEntry {
    */
   UnifiedRecordValue recordValue();
 
+  /**
+   * Returns the writer which is used to write the record value to the log. Implementations which
+   * already hold the serialized record value can return a writer which copies it, to avoid
+   * serializing the record value again, or creating the record value at all.
+   *
+   * @return the writer of the serialized record value, defaults to the record value itself
+   */
+  default BufferWriter recordValueWriter() {
+    return recordValue();
+  }
+
   /**
    * @return the length of the entry, used by writers to determine whether this entry can be written
    */
@@ -45,7 +57,7 @@ public interface LogAppendEntry {
         Integer.BYTES
         + // source Index
         recordMetadata().getLength()
-        + recordValue().getLength();
+        + recordValueWriter().getLength();
   }
 
   /**
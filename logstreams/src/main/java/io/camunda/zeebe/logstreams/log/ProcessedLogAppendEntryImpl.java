@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.log;
 
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 
 record ProcessedLogAppendEntryImpl(LogAppendEntry entry) implements LogAppendEntry {
 
@@ -32,6 +33,11 @@ record ProcessedLogAppendEntryImpl(LogAppendEntry entry) implements LogAppendEnt
     return entry.recordValue();
   }
 
+  @Override
+  public BufferWriter recordValueWriter() {
+    return entry.recordValueWriter();
+  }
+
   @Override
   public boolean isProcessed() {
     // this class only purpose is to mark the entry as processed
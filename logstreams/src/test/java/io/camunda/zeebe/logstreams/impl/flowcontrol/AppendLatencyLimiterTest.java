@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.flowcontrol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.concurrency.limits.Limiter.Listener;
+import com.netflix.concurrency.limits.limit.AbstractLimit;
+import io.camunda.zeebe.util.Environment;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class AppendLatencyLimiterTest {
+
+  @Test
+  void shouldUseDefaultValues() {
+    // given - when
+    final BackpressureCfgLatency latencyCfg = new BackpressureCfgLatency();
+
+    // then
+    assertThat(latencyCfg.getInitialLimit()).isEqualTo(1024);
+    assertThat(latencyCfg.getMinLimit()).isEqualTo(16);
+    assertThat(latencyCfg.getMaxLimit()).isEqualTo(1024 * 32);
+    assertThat(latencyCfg.getTargetLatencyMs()).isEqualTo(100);
+    assertThat(latencyCfg.getBackoffRatio()).isEqualTo(0.9);
+  }
+
+  @Test
+  void shouldConfigure() {
+    // given
+    final Map<String, String> cfgMap =
+        Map.of(
+            BackpressureConstants.ENV_BP_APPENDER_LATENCY_INIT_LIMIT,
+            "12",
+            BackpressureConstants.ENV_BP_APPENDER_LATENCY_MIN_LIMIT,
+            "2",
+            BackpressureConstants.ENV_BP_APPENDER_LATENCY_MAX_LIMIT,
+            "24",
+            BackpressureConstants.ENV_BP_APPENDER_LATENCY_TARGET_MS,
+            "50",
+            BackpressureConstants.ENV_BP_APPENDER_LATENCY_BACKOFF_RATIO,
+            "0.5");
+    final Environment environment = new Environment(cfgMap);
+    final BackpressureCfgLatency latencyCfg = new BackpressureCfgLatency();
+
+    // when
+    latencyCfg.applyEnvironment(environment);
+
+    // then
+    assertThat(latencyCfg.getInitialLimit()).isEqualTo(12);
+    assertThat(latencyCfg.getMinLimit()).isEqualTo(2);
+    assertThat(latencyCfg.getMaxLimit()).isEqualTo(24);
+    assertThat(latencyCfg.getTargetLatencyMs()).isEqualTo(50);
+    assertThat(latencyCfg.getBackoffRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  void shouldDecreaseLimitWhenExceedingTargetLatency() {
+    // given
+    final AbstractLimit limit = new BackpressureCfgLatency().setTargetLatencyMs(10).get();
+
+    // when
+    limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(20), 1024, false);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(921);
+  }
+
+  @Test
+  void shouldIncreaseLimitWithinTargetLatency() {
+    // given
+    final AbstractLimit limit = new BackpressureCfgLatency().setTargetLatencyMs(10).get();
+
+    // when
+    limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(5), 1024, false);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(1025);
+  }
+
+  @Test
+  void shouldAdjustLimitToCommitLatency() {
+    // given
+    final var clock = new AtomicLong();
+    final var limiter = limiter(clock);
+
+    // when - appends are committed slower than the target
+    commit(limiter, clock, 5, 20);
+    final int reducedLimit = limiter.getLimit();
+
+    // and - appends are committed within the target again
+    commit(limiter, clock, reducedLimit, 5);
+
+    // then
+    assertThat(reducedLimit).isLessThan(10);
+    assertThat(limiter.getLimit()).isGreaterThan(reducedLimit);
+  }
+
+  @Test
+  void shouldNotRaiseLimitIfMostlyUnused() {
+    // given
+    final var clock = new AtomicLong();
+    final var limiter = limiter(clock);
+
+    // when - a single append is committed within the target
+    commit(limiter, clock, 1, 5);
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldReduceLimitWhenAppendIsDropped() {
+    // given
+    final var clock = new AtomicLong();
+    final var limiter = limiter(clock);
+
+    // when
+    limiter.acquire(null).orElseThrow().onDropped();
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(9);
+  }
+
+  @Test
+  void shouldKeepLimitWithinBounds() {
+    // given
+    final var clock = new AtomicLong();
+    final var limiter = limiter(clock);
+
+    // when - the latency stays above the target
+    for (int i = 0; i < 50; i++) {
+      commit(limiter, clock, 1, 20);
+    }
+    final int lowestLimit = limiter.getLimit();
+
+    // and - the latency stays within the target for long
+    for (int i = 0; i < 50; i++) {
+      commit(limiter, clock, limiter.getLimit(), 5);
+    }
+
+    // then
+    assertThat(lowestLimit).isEqualTo(2);
+    assertThat(limiter.getLimit()).isEqualTo(12);
+  }
+
+  @Test
+  void shouldRejectAppendsOnceLimitIsReached() {
+    // given
+    final var clock = new AtomicLong();
+    final var limiter = limiter(clock);
+    commit(limiter, clock, 5, 20);
+
+    // when
+    for (int i = 0; i < limiter.getLimit(); i++) {
+      assertThat(limiter.acquire(null)).isPresent();
+    }
+
+    // then
+    assertThat(limiter.acquire(null)).isEmpty();
+  }
+
+  private AppendLimiter limiter(final AtomicLong clock) {
+    final var limit =
+        new BackpressureCfgLatency()
+            .setInitialLimit(10)
+            .setMinLimit(2)
+            .setMaxLimit(12)
+            .setTargetLatencyMs(10)
+            .get();
+    return AppendLimiter.builder()
+        .limit(limit)
+        .clock(clock::get)
+        .metrics(new AppenderMetrics(1))
+        .build();
+  }
+
+  /** Acquires the given number of appends at once, and commits them after the given latency. */
+  private void commit(
+      final AppendLimiter limiter,
+      final AtomicLong clock,
+      final int appendCount,
+      final long latencyMs) {
+    final var listeners = new ArrayList<Listener>();
+    for (int i = 0; i < appendCount; i++) {
+      listeners.add(limiter.acquire(null).orElseThrow());
+    }
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+    listeners.forEach(Listener::onSuccess);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of concurrent writers to the {@link Sequencer}, while a single consumer
+ * drains it and serializes the coalesced batches, like the {@link LogStorageAppender} does. A write
+ * which is rejected because the queue is full is retried until it succeeds, so the score is the
+ * number of accepted writes. Run it directly via JMH with {@code -t 1} up to {@code -t 16} to
+ * compare different numbers of concurrent writers.
+ *
+ * <p>This class lives in the same package as the sequencer, as the sequencer is not public.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SequencerPerformanceTest {
+  private static final int MAX_FRAGMENT_SIZE = 4 * 1024 * 1024;
+
+  private final LogAppendEntry entry = TestEntry.ofKey(1);
+  private Sequencer sequencer;
+  private Thread consumer;
+  private volatile boolean isRunning;
+
+  @Setup
+  public void setup() {
+    sequencer = new Sequencer(1, MAX_FRAGMENT_SIZE, new SequencerMetrics(1));
+    isRunning = true;
+    consumer = new Thread(this::consume, "sequencer-consumer");
+    consumer.start();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    isRunning = false;
+    consumer.join();
+    sequencer.close();
+  }
+
+  @Benchmark
+  public long measureContendedWrite() {
+    while (true) {
+      final var result = sequencer.tryWrite(entry);
+      if (result.isRight()) {
+        return result.get();
+      }
+
+      Thread.onSpinWait();
+    }
+  }
+
+  @JMHTest("measureContendedWrite")
+  void shouldWriteConcurrently(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult = testCase.withOptions(options -> options.threads(8)).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void consume() {
+    final var buffer = new UnsafeBuffer(new byte[MAX_FRAGMENT_SIZE]);
+    while (isRunning) {
+      final var batch = sequencer.tryReadCoalesced();
+      if (batch == null) {
+        Thread.onSpinWait();
+      } else {
+        batch.write(buffer, 0);
+      }
+    }
+  }
+}
@@ -10,6 +10,8 @@ package io.camunda.zeebe.logstreams.impl.log;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
 import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorCondition;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import java.time.Duration;
@@ -84,6 +86,92 @@ final class SequencerTest {
     Assertions.assertThat(read.entries()).containsAnyElementsOf(entries);
   }
 
+  @Test
+  void canReadCoalescedBatches() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    final var first = TestEntry.ofKey(1);
+    final var second = List.<LogAppendEntry>of(TestEntry.ofKey(2), TestEntry.ofKey(3));
+    sequencer.tryWrite(first);
+    sequencer.tryWrite(second);
+
+    // when
+    final var read = sequencer.tryReadCoalesced();
+
+    // then
+    Assertions.assertThat(read.batches())
+        .extracting(SequencedBatch::entries)
+        .containsExactly(List.of(first), second);
+    Assertions.assertThat(read.firstPosition()).isEqualTo(1);
+    Assertions.assertThat(read.lastPosition()).isEqualTo(3);
+    Assertions.assertThat(read.getLength())
+        .isEqualTo(read.batches().get(0).length() + read.batches().get(1).length());
+    Assertions.assertThat(sequencer.tryReadCoalesced()).isNull();
+  }
+
+  @Test
+  void doesNotCoalesceBatchesBeyondMaxFragmentSize() {
+    // given
+    final var batchLength = new SequencedBatch(0, 1, -1, List.of(TestEntry.ofKey(1))).length();
+    final var sequencer = new Sequencer(1, 2 * batchLength, new SequencerMetrics(1));
+    sequencer.tryWrite(TestEntry.ofKey(1));
+    sequencer.tryWrite(TestEntry.ofKey(1));
+    sequencer.tryWrite(TestEntry.ofKey(1));
+
+    // when
+    final var first = sequencer.tryReadCoalesced();
+    final var second = sequencer.tryReadCoalesced();
+
+    // then
+    Assertions.assertThat(first.batches()).hasSize(2);
+    Assertions.assertThat(first.lastPosition()).isEqualTo(2);
+    Assertions.assertThat(second.batches()).hasSize(1);
+    Assertions.assertThat(second.firstPosition()).isEqualTo(3);
+  }
+
+  @Test
+  void acceptsWritesAgainAfterRead() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    Awaitility.await("sequencer rejects writes")
+        .pollInSameThread()
+        .pollInterval(Duration.ZERO)
+        .until(
+            () -> sequencer.tryWrite(TestEntry.ofDefaults()),
+            result -> result.isLeft() && result.getLeft() == WriteFailure.FULL);
+
+    // when
+    sequencer.tryRead();
+    final var result = sequencer.tryWrite(TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(result).isRight();
+  }
+
+  @Test
+  void rejectsClientWritesBeforeInternalWrites() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    final var clientEntry =
+        TestEntry.builder()
+            .withRecordMetadata(new RecordMetadata().intent(Intent.UNKNOWN).requestId(1))
+            .build();
+    Awaitility.await("sequencer rejects client writes")
+        .pollInSameThread()
+        .pollInterval(Duration.ZERO)
+        .until(
+            () -> sequencer.tryWrite(clientEntry),
+            result -> result.isLeft() && result.getLeft() == WriteFailure.FULL);
+
+    // when
+    final var internalWrite = sequencer.tryWrite(TestEntry.ofDefaults(), 1);
+    final var processingWrite = sequencer.tryWrite(clientEntry, 1);
+
+    // then
+    EitherAssert.assertThat(internalWrite).isRight();
+    EitherAssert.assertThat(processingWrite).isRight();
+  }
+
   @Test
   void cannotReadEmpty() {
     // given
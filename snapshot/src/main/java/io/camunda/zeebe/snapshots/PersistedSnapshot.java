@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot {
@@ -48,6 +49,21 @@ public interface PersistedSnapshot {
    */
   SnapshotChunkReader newChunkReader();
 
+  /**
+   * Returns a new snapshot chunk reader for this snapshot, which omits the content of files the
+   * receiver already has, i.e. immutable files with the same name and checksum. The chunks of these
+   * files are marked as {@link SnapshotChunk#isReused() reused}.
+   *
+   * <p>If the receiver does not have the files after all, it fails to apply the reused chunks; the
+   * snapshot then has to be sent again via {@link #newChunkReader()}.
+   *
+   * @param receiverChecksums the checksums of the files the receiver has, by file name
+   * @return a new snapshot chunk reader
+   */
+  default SnapshotChunkReader newChunkReader(final Map<String, Long> receiverChecksums) {
+    return newChunkReader();
+  }
+
   /**
    * @return a path to the snapshot location
    */
@@ -39,4 +39,14 @@ public interface SnapshotChunk {
    * @return the checksum of the entire snapshot
    */
   long getSnapshotChecksum();
+
+  /**
+   * A reused chunk has no content: the receiver is expected to already have a file with the same
+   * name and checksum in its latest snapshot, which it reuses instead.
+   *
+   * @return true if the content of the chunk was omitted, as the receiver already has it
+   */
+  default boolean isReused() {
+    return false;
+  }
 }
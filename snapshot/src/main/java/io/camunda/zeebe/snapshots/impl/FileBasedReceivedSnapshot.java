@@ -22,6 +22,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +41,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private SfvChecksumImpl checksumCollection;
+  // checksums of the files of the local snapshot which reused chunks are linked from
+  private PersistedSnapshot reusableSnapshot;
+  private Map<String, Long> reusableChecksums = Map.of();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -96,7 +100,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isReused()) {
+      checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -113,12 +119,19 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
               "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
     }
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
+
+    if (snapshotChunk.isReused()) {
+      LOGGER.trace("Reuse snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+      linkReusedSnapshotChunk(snapshotChunk, snapshotFile);
+      return;
+    }
+
+    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+
     checksumCollection.updateFromBytes(
         snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
@@ -131,6 +144,72 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Links the file of a reused chunk from the latest local snapshot, which shares the immutable
+   * files it has in common with the received snapshot. The linked file is read once to update the
+   * snapshot checksum, which also verifies that it has the expected content.
+   */
+  private void linkReusedSnapshotChunk(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var expectedChecksum = snapshotChunk.getChecksum();
+    final var existingFile = findReusableFile(chunkName, expectedChecksum);
+
+    try {
+      try {
+        Files.createLink(snapshotFile, existingFile);
+      } catch (final UnsupportedOperationException | IOException e) {
+        LOGGER.debug("Failed to link {}, copying it instead", existingFile, e);
+        Files.copy(existingFile, snapshotFile);
+      }
+
+      checksumCollection.updateFromFile(snapshotFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot chunk %s from %s", chunkName, existingFile), e);
+    }
+
+    final var actualChecksum = checksumCollection.getChecksums().get(chunkName);
+    if (actualChecksum != expectedChecksum) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected reused snapshot chunk %s (%s) to have checksum %d, but calculated %d",
+              chunkName, snapshotId, expectedChecksum, actualChecksum));
+    }
+  }
+
+  private Path findReusableFile(final String chunkName, final long expectedChecksum)
+      throws SnapshotWriteException {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+    if (latestSnapshot == null) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse snapshot chunk %s from the latest snapshot, but there is none",
+              chunkName));
+    }
+
+    // the latest snapshot may change while receiving, e.g. when taking a new snapshot meanwhile
+    if (latestSnapshot != reusableSnapshot) {
+      try {
+        reusableChecksums = SnapshotChecksum.read(latestSnapshot.getChecksumPath()).getChecksums();
+        reusableSnapshot = latestSnapshot;
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to read checksums of snapshot %s", latestSnapshot.getId()), e);
+      }
+    }
+
+    final var existingChecksum = reusableChecksums.get(chunkName);
+    if (existingChecksum == null || existingChecksum != expectedChecksum) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse snapshot chunk %s with checksum %d from snapshot %s, but it has checksum %s",
+              chunkName, expectedChecksum, latestSnapshot.getId(), existingChecksum));
+    }
+
+    return latestSnapshot.getPath().resolve(chunkName);
+  }
+
   private void collectMetadata(final byte[] content) throws IOException {
     metadata = FileBasedSnapshotMetadata.decode(content);
   }
@@ -20,7 +20,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -92,6 +94,26 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     }
   }
 
+  @Override
+  public SnapshotChunkReader newChunkReader(final Map<String, Long> receiverChecksums) {
+    try {
+      final var reusedChunks = new HashMap<String, Long>();
+      SnapshotChecksum.read(checksumFile)
+          .getChecksums()
+          .forEach(
+              (fileName, fileChecksum) -> {
+                if (SnapshotChunkUtil.isImmutableFile(fileName)
+                    && fileChecksum.equals(receiverChecksums.get(fileName))) {
+                  reusedChunks.put(fileName, fileChecksum);
+                }
+              });
+
+      return new FileBasedSnapshotChunkReader(directory, checksum, reusedChunks);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public Path getPath() {
     return getDirectory();
@@ -17,6 +17,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
@@ -28,6 +29,9 @@ import org.agrona.concurrent.UnsafeBuffer;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Files the receiver already has are returned as {@link SnapshotChunk#isReused() reused} chunks,
+ * without reading their content.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
@@ -40,9 +44,20 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private final Map<String, Long> reusedChunks;
 
   FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
+    this(directory, checksum, Map.of());
+  }
+
+  /**
+   * @param reusedChunks the checksums of the files the receiver already has, by file name
+   */
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long checksum, final Map<String, Long> reusedChunks)
+      throws IOException {
     this.directory = directory;
+    this.reusedChunks = reusedChunks;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
@@ -98,6 +113,12 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new NoSuchElementException();
     }
 
+    final var reusedChecksum = reusedChunks.get(chunkName.toString());
+    if (reusedChecksum != null) {
+      return SnapshotChunkUtil.createReusedSnapshotChunk(
+          chunkName.toString(), reusedChecksum, snapshotID, totalCount, snapshotChecksum);
+    }
+
     final var path = directory.resolve(chunkName.toString());
 
     try {
@@ -17,6 +17,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -71,6 +72,11 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     return combinedChecksum.getValue();
   }
 
+  @Override
+  public SortedMap<String, Long> getChecksums() {
+    return Collections.unmodifiableSortedMap(checksums);
+  }
+
   @Override
   public void write(final OutputStream stream) throws IOException {
     final var writer = new PrintWriter(stream);
@@ -16,6 +16,9 @@ import java.util.zip.Checksum;
 
 final class SnapshotChunkUtil {
 
+  // RocksDB never modifies SST files once written, so they can be shared between snapshots
+  private static final String IMMUTABLE_FILE_EXTENSION = ".sst";
+
   private SnapshotChunkUtil() {}
 
   static long createChecksum(final byte[] content) {
@@ -42,7 +45,29 @@ final class SnapshotChunkUtil {
         chunkFile.getFileName().toString(),
         checksum,
         content,
-        snapshotChecksum);
+        snapshotChecksum,
+        false);
+  }
+
+  /**
+   * Creates a chunk without content for a file the receiver already has, without reading the file.
+   */
+  static SnapshotChunk createReusedSnapshotChunk(
+      final String chunkName,
+      final long checksum,
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, chunkName, checksum, new byte[0], snapshotChecksum, true);
+  }
+
+  /**
+   * @return true if the file with the given name is never modified once written, such that it can
+   *     be reused by other snapshots
+   */
+  static boolean isImmutableFile(final String fileName) {
+    return fileName.endsWith(IMMUTABLE_FILE_EXTENSION);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +77,7 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final boolean reused;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +85,15 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final boolean reused) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.reused = reused;
     }
 
     @Override
@@ -97,5 +125,10 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public boolean isReused() {
+      return reused;
+    }
   }
 }
@@ -43,6 +43,16 @@ public class FileBasedReceivedSnapshotTest {
       Map.of(
           "file1", "file1 contents",
           "file2", "file2 contents");
+  private static final Map<String, String> FIRST_SST_SNAPSHOT_FILE_CONTENTS =
+      Map.of(
+          "000001.sst", "first sst contents",
+          "000002.sst", "second sst contents",
+          "CURRENT", "MANIFEST-000001");
+  private static final Map<String, String> SECOND_SST_SNAPSHOT_FILE_CONTENTS =
+      Map.of(
+          "000001.sst", "first sst contents",
+          "000003.sst", "third sst contents",
+          "CURRENT", "MANIFEST-000002");
 
   @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
   @Rule public ActorSchedulerRule scheduler = new ActorSchedulerRule();
@@ -340,6 +350,58 @@ public class FileBasedReceivedSnapshotTest {
                 name.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var firstSnapshot =
+        receiveSnapshot(takePersistedSnapshot(1L, FIRST_SST_SNAPSHOT_FILE_CONTENTS))
+            .persist()
+            .join();
+    final var secondSnapshot = takePersistedSnapshot(2L, SECOND_SST_SNAPSHOT_FILE_CONTENTS);
+    final var receiverChecksums =
+        SnapshotChecksum.read(firstSnapshot.getChecksumPath()).getChecksums();
+
+    // when
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId());
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader(receiverChecksums)) {
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        assertThat(chunk.isReused())
+            .as("only unchanged immutable files are reused")
+            .isEqualTo(chunk.getChunkName().equals("000001.sst"));
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+
+    // then
+    assertThat(receivedSnapshot.getPath().resolve("000001.sst"))
+        .as("the reused file is linked from the previous snapshot")
+        .satisfies(
+            path ->
+                assertThat(Files.isSameFile(path, firstSnapshot.getPath().resolve("000001.sst")))
+                    .isTrue());
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(secondSnapshot.getChecksum());
+    assertThat(persistedSnapshot.getPath().resolve("000001.sst")).hasContent("first sst contents");
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, FIRST_SST_SNAPSHOT_FILE_CONTENTS)).persist().join();
+    final var secondSnapshot = takePersistedSnapshot(2L, SECOND_SST_SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId());
+    final var otherChecksum = SnapshotChunkUtil.createChecksum("other contents".getBytes());
+    final var reusedChunk =
+        SnapshotChunkUtil.createReusedSnapshotChunk(
+            "000001.sst", otherChecksum, secondSnapshot.getId(), 4, secondSnapshot.getChecksum());
+
+    // when - then
+    assertThatThrownBy(() -> receivedSnapshot.apply(reusedChunk).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class);
+    assertThat(receivedSnapshot.getPath().resolve("000001.sst")).doesNotExist();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
@@ -354,16 +416,21 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -147,6 +148,28 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThatThrownBy(snapshotChunkReader::next).isInstanceOf(NoSuchElementException.class);
   }
 
+  @Test
+  public void shouldOmitContentOfReusedChunks() throws IOException {
+    // given
+    final var reusedChecksum = SnapshotChunkUtil.createChecksum("is".getBytes());
+    newReader();
+    final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(
+            snapshotDirectory, SNAPSHOT_CHECKSUM, Map.of("file2", reusedChecksum));
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    snapshotChunkReader.forEachRemaining(chunks::add);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::isReused)
+        .containsExactly(tuple("file1", false), tuple("file2", true), tuple("file3", false));
+    assertThat(chunks.get(1).getContent()).isEmpty();
+    assertThat(chunks.get(1).getChecksum()).isEqualTo(reusedChecksum);
+    assertThat(chunks.get(1).getTotalCount()).isEqualTo(SNAPSHOT_CHUNK.size());
+  }
+
   private ByteBuffer asByteBuffer(final String string) {
     return ByteBuffer.wrap(string.getBytes()).order(Protocol.ENDIANNESS);
   }
@@ -31,5 +31,17 @@ public interface TaskResultBuilder {
     return appendCommandRecord(NULL_KEY, intent, value);
   }
 
+  /**
+   * Returns whether the task should stop and leave the remaining work to a later run, because the
+   * time budget of the scheduled tasks is used up. Tasks which work off a backlog in batches should
+   * check this between the items of a batch, after they appended at least one record to make
+   * progress, and then reschedule themselves.
+   *
+   * @return true if the task should yield, false otherwise
+   */
+  default boolean shouldYield() {
+    return false;
+  }
+
   TaskResult build();
 }
@@ -19,6 +19,7 @@ import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.StagedSchedu
 import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.stream.impl.records.RecordBatch;
+import java.util.function.BooleanSupplier;
 
 /**
  * Implementation of {@code TaskResultBuilder} that buffers the task results. After being done with
@@ -29,11 +30,20 @@ public final class BufferedTaskResultBuilder implements TaskResultBuilder {
 
   private final MutableRecordBatch mutableRecordBatch;
   private final StagedScheduledCommandCache cache;
+  private final BooleanSupplier yieldCondition;
 
   public BufferedTaskResultBuilder(
       final RecordBatchSizePredicate predicate, final StagedScheduledCommandCache cache) {
+    this(predicate, cache, () -> false);
+  }
+
+  public BufferedTaskResultBuilder(
+      final RecordBatchSizePredicate predicate,
+      final StagedScheduledCommandCache cache,
+      final BooleanSupplier yieldCondition) {
     mutableRecordBatch = new RecordBatch(predicate);
     this.cache = cache;
+    this.yieldCondition = yieldCondition;
   }
 
   @Override
@@ -62,6 +72,11 @@ public final class BufferedTaskResultBuilder implements TaskResultBuilder {
     return either.isRight();
   }
 
+  @Override
+  public boolean shouldYield() {
+    return yieldCondition.getAsBoolean();
+  }
+
   @Override
   public TaskResult build() {
     return () -> mutableRecordBatch;
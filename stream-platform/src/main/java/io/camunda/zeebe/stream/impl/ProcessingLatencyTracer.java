@@ -0,0 +1,215 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingLatencyMetrics;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingLatencyMetrics.Stage;
+import io.camunda.zeebe.util.VisibleForTesting;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+
+/**
+ * Traces the latency of a sample of the processed commands through the stages of their processing,
+ * see {@link Stage}. Only every n-th command is traced, so that the overhead is negligible even
+ * under load. The time a command waited in the log before it was processed is observed for all
+ * commands by {@link
+ * io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics#processingLatency(long, long)}.
+ *
+ * <p>Additionally, the slowest traced commands are collected and logged on debug level once per
+ * {@link #SLOW_COMMANDS_LOG_INTERVAL}, together with the latency of each of their stages.
+ *
+ * <p>Commands are processed one after another, which is why the tracer only holds the trace of the
+ * current command. It must only be used by the processing actor.
+ */
+final class ProcessingLatencyTracer {
+
+  static final int SLOW_COMMANDS_LIMIT = 10;
+  static final Duration SLOW_COMMANDS_LOG_INTERVAL = Duration.ofMinutes(1);
+
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
+
+  private final int sampleRate;
+  private final ProcessingLatencyMetrics metrics;
+  private final LongSupplier nanoClock;
+  private final PriorityQueue<SlowCommand> slowestCommands =
+      new PriorityQueue<>(Comparator.comparingLong(SlowCommand::totalNanos));
+
+  private long commandsCount;
+  private long lastLoggedNanos;
+
+  // trace of the current command
+  private boolean sampled;
+  private long position;
+  private ValueType valueType;
+  private Intent intent;
+  private long waitedMillis;
+  private long startedNanos;
+  private long processedNanos;
+  private long writtenNanos;
+  private long committedNanos;
+
+  /**
+   * @param sampleRate one out of this many commands is traced; 0 disables the tracing
+   */
+  ProcessingLatencyTracer(
+      final int sampleRate, final ProcessingLatencyMetrics metrics, final LongSupplier nanoClock) {
+    this.sampleRate = sampleRate;
+    this.metrics = metrics;
+    this.nanoClock = nanoClock;
+    lastLoggedNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Starts the trace of the next command, if it is sampled.
+   *
+   * @param waitedMillis the time the command waited in the log until its processing started
+   */
+  void onProcessingStarted(
+      final long position,
+      final ValueType valueType,
+      final Intent intent,
+      final long waitedMillis) {
+    sampled = sampleRate > 0 && commandsCount++ % sampleRate == 0;
+    if (!sampled) {
+      return;
+    }
+
+    this.position = position;
+    this.valueType = valueType;
+    this.intent = intent;
+    this.waitedMillis = waitedMillis;
+    startedNanos = nanoClock.getAsLong();
+    processedNanos = startedNanos;
+    writtenNanos = startedNanos;
+    committedNanos = startedNanos;
+  }
+
+  void onProcessed() {
+    if (sampled) {
+      processedNanos = nanoClock.getAsLong();
+    }
+  }
+
+  void onWritten() {
+    if (sampled) {
+      writtenNanos = nanoClock.getAsLong();
+    }
+  }
+
+  void onCommitted() {
+    if (sampled) {
+      committedNanos = nanoClock.getAsLong();
+    }
+  }
+
+  /** Completes the trace of the current command, after its side effects were executed. */
+  void onCompleted() {
+    if (!sampled) {
+      return;
+    }
+    sampled = false;
+
+    final var completedNanos = nanoClock.getAsLong();
+    final var slowCommand =
+        new SlowCommand(
+            position,
+            valueType,
+            intent,
+            waitedMillis,
+            processedNanos - startedNanos,
+            writtenNanos - processedNanos,
+            committedNanos - writtenNanos,
+            completedNanos - committedNanos);
+
+    metrics.countSampledCommand();
+    metrics.observeStageLatency(Stage.PROCESSING, slowCommand.processingNanos());
+    metrics.observeStageLatency(Stage.WRITE, slowCommand.writeNanos());
+    metrics.observeStageLatency(Stage.COMMIT, slowCommand.commitNanos());
+    metrics.observeStageLatency(Stage.SIDE_EFFECTS, slowCommand.sideEffectsNanos());
+
+    slowestCommands.offer(slowCommand);
+    if (slowestCommands.size() > SLOW_COMMANDS_LIMIT) {
+      slowestCommands.poll();
+    }
+
+    if (completedNanos - lastLoggedNanos >= SLOW_COMMANDS_LOG_INTERVAL.toNanos()) {
+      logSlowestCommands();
+      lastLoggedNanos = completedNanos;
+    }
+  }
+
+  /**
+   * @return the slowest traced commands since they were logged last, the slowest first
+   */
+  @VisibleForTesting
+  List<SlowCommand> getSlowestCommands() {
+    final var commands = new ArrayList<>(slowestCommands);
+    commands.sort(Comparator.comparingLong(SlowCommand::totalNanos).reversed());
+    return commands;
+  }
+
+  private void logSlowestCommands() {
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+          "Slowest of the traced commands within the last {}: {}",
+          SLOW_COMMANDS_LOG_INTERVAL,
+          getSlowestCommands());
+    }
+    slowestCommands.clear();
+  }
+
+  /**
+   * A traced command, with the latency of each of its processing stages.
+   *
+   * @param waitedMillis the time the command waited in the log until its processing started, this
+   *     is not part of {@link #totalNanos()} as it is measured with a lower precision
+   */
+  record SlowCommand(
+      long position,
+      ValueType valueType,
+      Intent intent,
+      long waitedMillis,
+      long processingNanos,
+      long writeNanos,
+      long commitNanos,
+      long sideEffectsNanos) {
+
+    long totalNanos() {
+      return processingNanos + writeNanos + commitNanos + sideEffectsNanos;
+    }
+
+    @Override
+    public String toString() {
+      return "SlowCommand{"
+          + "position="
+          + position
+          + ", valueType="
+          + valueType
+          + ", intent="
+          + intent
+          + ", waitedMillis="
+          + waitedMillis
+          + ", processingMicros="
+          + processingNanos / 1_000
+          + ", writeMicros="
+          + writeNanos / 1_000
+          + ", commitMicros="
+          + commitNanos / 1_000
+          + ", sideEffectsMicros="
+          + sideEffectsNanos / 1_000
+          + '}';
+    }
+  }
+}
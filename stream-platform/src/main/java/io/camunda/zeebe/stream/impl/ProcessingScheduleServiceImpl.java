@@ -9,6 +9,7 @@ package io.camunda.zeebe.stream.impl;
 
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.AbortableRetryStrategy;
@@ -16,6 +17,7 @@ import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.StageableSch
 import io.camunda.zeebe.stream.api.scheduling.SimpleProcessingScheduleService;
 import io.camunda.zeebe.stream.api.scheduling.Task;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
+import io.camunda.zeebe.stream.impl.metrics.ScheduledTaskMetrics;
 import java.time.Duration;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
@@ -24,15 +26,30 @@ import org.slf4j.Logger;
 /**
  * Here the implementation is just a suggestion to amke the engine abstraction work. Can be whatever
  * PDT team thinks is best to work with
+ *
+ * <p>Each instance is a lane of scheduled tasks on the actor it was opened with. A lane can be
+ * given a time budget: within each {@link #BUDGET_WINDOW}, tasks of the lane are only started as
+ * long as the tasks of this window together ran for less than the budget. Tasks which become due
+ * after that are deferred to the next window, which leaves the rest of the window to the other work
+ * of the actor, e.g. to process user commands. A running task is not interrupted, but it is asked
+ * to yield via {@link io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder#shouldYield()} once
+ * it used up the rest of the budget. A budget of zero disables this.
  */
 public class ProcessingScheduleServiceImpl
     implements SimpleProcessingScheduleService, AutoCloseable {
 
+  static final Duration BUDGET_WINDOW = Duration.ofMillis(100);
   private static final Logger LOG = Loggers.STREAM_PROCESSING;
   private final Supplier<StreamProcessor.Phase> streamProcessorPhaseSupplier;
   private final BooleanSupplier abortCondition;
   private final Supplier<ActorFuture<LogStreamWriter>> writerAsyncSupplier;
   private final StageableScheduledCommandCache commandCache;
+  private final long timeBudgetNanos;
+  private final ScheduledTaskMetrics metrics;
+  private long budgetWindowEnd;
+  private long usedBudgetNanos;
+  private boolean taskRunning;
+  private long taskStartNanos;
   private LogStreamWriter logStreamWriter;
   private ActorControl actorControl;
   private AbortableRetryStrategy writeRetryStrategy;
@@ -42,16 +59,24 @@ public class ProcessingScheduleServiceImpl
       final Supplier<Phase> streamProcessorPhaseSupplier,
       final BooleanSupplier abortCondition,
       final Supplier<ActorFuture<LogStreamWriter>> writerAsyncSupplier,
-      final StageableScheduledCommandCache commandCache) {
+      final StageableScheduledCommandCache commandCache,
+      final Duration timeBudget,
+      final ScheduledTaskMetrics metrics) {
     this.streamProcessorPhaseSupplier = streamProcessorPhaseSupplier;
     this.abortCondition = abortCondition;
     this.writerAsyncSupplier = writerAsyncSupplier;
     this.commandCache = commandCache;
+    timeBudgetNanos = timeBudget.toNanos();
+    this.metrics = metrics;
   }
 
   @Override
   public void runDelayed(final Duration delay, final Runnable followUpTask) {
-    useActorControl(() -> actorControl.schedule(delay, followUpTask));
+    useActorControl(
+        () -> {
+          final var dueTime = ActorClock.currentTimeMillis() + delay.toMillis();
+          actorControl.schedule(delay, () -> runInLane(dueTime, followUpTask));
+        });
   }
 
   @Override
@@ -73,6 +98,49 @@ public class ProcessingScheduleServiceImpl
             }));
   }
 
+  private void runInLane(final long dueTime, final Runnable task) {
+    final var now = ActorClock.currentTimeMillis();
+    // the service might have been closed in the meantime, then there is nothing to defer to
+    if (actorControl != null && isBudgetUsedUp(now)) {
+      metrics.countDeferredTask();
+      actorControl.schedule(
+          Duration.ofMillis(budgetWindowEnd - now), () -> runInLane(dueTime, task));
+      return;
+    }
+
+    metrics.observeTaskDelay(now - dueTime);
+    taskStartNanos = System.nanoTime();
+    taskRunning = true;
+    try {
+      task.run();
+    } finally {
+      taskRunning = false;
+      final var durationNanos = System.nanoTime() - taskStartNanos;
+      usedBudgetNanos += durationNanos;
+      metrics.observeTaskDuration(durationNanos);
+    }
+  }
+
+  private boolean isBudgetUsedUpByRunningTask() {
+    return timeBudgetNanos > 0
+        && taskRunning
+        && usedBudgetNanos + (System.nanoTime() - taskStartNanos) >= timeBudgetNanos;
+  }
+
+  private boolean isBudgetUsedUp(final long now) {
+    if (timeBudgetNanos <= 0) {
+      return false;
+    }
+
+    if (now >= budgetWindowEnd) {
+      budgetWindowEnd = now + BUDGET_WINDOW.toMillis();
+      usedBudgetNanos = 0;
+      return false;
+    }
+
+    return usedBudgetNanos >= timeBudgetNanos;
+  }
+
   private void useActorControl(final Runnable task) {
     if (actorControl == null) {
       LOG.debug("ProcessingScheduleService hasn't been opened yet, ignore scheduled task.");
@@ -138,7 +206,8 @@ public class ProcessingScheduleServiceImpl
 
       final var stagedCache = commandCache.stage();
       final var builder =
-          new BufferedTaskResultBuilder(logStreamWriter::canWriteEvents, stagedCache);
+          new BufferedTaskResultBuilder(
+              logStreamWriter::canWriteEvents, stagedCache, this::isBudgetUsedUpByRunningTask);
       final var result = task.execute(builder);
       final var recordBatch = result.getRecordBatch();
 
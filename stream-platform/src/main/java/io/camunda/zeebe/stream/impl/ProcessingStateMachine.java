@@ -21,6 +21,7 @@ import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.AbortableRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.OperationToRetry;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EmptyProcessingResult;
@@ -34,6 +35,7 @@ import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingLatencyMetrics;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
 import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
@@ -50,6 +52,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
@@ -91,6 +94,16 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>By default, each step is run as its own actor job, so other jobs of the actor can run between
+ * them. In pipelined mode, a step is run right away if it can be completed without waiting, and
+ * only falls back to the retry strategy of the step otherwise, e.g. if the log stream applies
+ * backpressure. A command which is completed without waiting is directly followed by the next
+ * record, up to {@link #MAX_PIPELINED_RECORDS} records per job. The next command is then processed
+ * on top of the state of the previous one, while the records of the previous one are still being
+ * appended and replicated. As the records are still written in the order of processing, and the
+ * transaction is only committed once they were handed over to the log stream, this doesn't change
+ * what is written to the log or how a failed write is rolled back.
  */
 public final class ProcessingStateMachine {
 
@@ -114,6 +127,7 @@ public final class ProcessingStateMachine {
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+  private static final int MAX_PIPELINED_RECORDS = 100;
   private static final MetadataFilter PROCESSING_FILTER =
       recordMetadata -> recordMetadata.getRecordType() == RecordType.COMMAND;
   private final EventFilter eventFilter = new MetadataEventFilter(PROCESSING_FILTER);
@@ -160,7 +174,12 @@ public final class ProcessingStateMachine {
   private final int maxCommandsInBatch;
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
+  private final ProcessingLatencyTracer latencyTracer;
   private final ScheduledCommandCache scheduledCommandCache;
+  private final boolean pipelinedProcessing;
+  private boolean inReadLoop;
+  private boolean readNextInline;
+  private int pipelinedRecordsCount;
 
   public ProcessingStateMachine(
       final StreamProcessorContext context,
@@ -178,6 +197,7 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    pipelinedProcessing = context.enablePipelinedProcessing();
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -191,22 +211,49 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    latencyTracer =
+        new ProcessingLatencyTracer(
+            context.getLatencyTracingSampleRate(),
+            new ProcessingLatencyMetrics(partitionId),
+            System::nanoTime);
   }
 
   private void skipRecord() {
     notifySkippedListener(currentRecord);
-    inProcessing = false;
-    actor.submit(this::readNextRecord);
     metrics.eventSkipped();
+    continueWithNextRecord();
   }
 
   void readNextRecord() {
-    if (onErrorRetries > 0) {
-      onErrorHandlingLoop = false;
-      onErrorRetries = 0;
+    inReadLoop = true;
+    pipelinedRecordsCount = 0;
+    try {
+      do {
+        readNextInline = false;
+        if (onErrorRetries > 0) {
+          onErrorHandlingLoop = false;
+          onErrorRetries = 0;
+        }
+
+        tryToReadNextRecord();
+      } while (readNextInline);
+    } finally {
+      inReadLoop = false;
     }
+  }
 
-    tryToReadNextRecord();
+  /**
+   * Continues with the next record, after the current one was processed or skipped. In pipelined
+   * mode, the next record is read within the current job if the current record was completed in it,
+   * until the limit of records per job is reached. Otherwise, reading is submitted as a new job.
+   */
+  private void continueWithNextRecord() {
+    inProcessing = false;
+    if (pipelinedProcessing && inReadLoop && ++pipelinedRecordsCount < MAX_PIPELINED_RECORDS) {
+      readNextInline = true;
+    } else {
+      actor.submit(this::readNextRecord);
+    }
   }
 
   private void tryToReadNextRecord() {
@@ -264,6 +311,11 @@ public final class ProcessingStateMachine {
       // In all other cases we should prefer to use the Prometheus Timer API.
       final var processingStartTime = ActorClock.currentTimeMillis();
       metrics.processingLatency(loggedEvent.getTimestamp(), processingStartTime);
+      latencyTracer.onProcessingStarted(
+          loggedEvent.getPosition(),
+          metadata.getValueType(),
+          metadata.getIntent(),
+          processingStartTime - loggedEvent.getTimestamp());
       processingTimer =
           metrics.startProcessingDurationTimer(metadata.getValueType(), metadata.getIntent());
 
@@ -351,11 +403,7 @@ public final class ProcessingStateMachine {
 
       final var command = pendingCommands.removeFirst();
 
-      currentProcessor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(command.getValueType()))
-              .findFirst()
-              .orElse(null);
+      currentProcessor = findProcessor(command);
       if (currentProcessor != null) {
         currentProcessingResult = currentProcessor.process(command, processingResultBuilder);
 
@@ -378,6 +426,15 @@ public final class ProcessingStateMachine {
     }
   }
 
+  private RecordProcessor findProcessor(final TypedRecord<?> command) {
+    for (final var recordProcessor : recordProcessors) {
+      if (recordProcessor.accepts(command.getValueType())) {
+        return recordProcessor;
+      }
+    }
+    return null;
+  }
+
   /**
    * Collects from the given processing result the commands which should be processed further, and
    * the records which should be written to the log.
@@ -481,7 +538,8 @@ public final class ProcessingStateMachine {
       writeFuture = CompletableActorFuture.completed(true);
     } else {
       writeFuture =
-          writeRetryStrategy.runWithRetry(
+          runWithRetry(
+              writeRetryStrategy,
               () -> {
                 final var writeResult =
                     logStreamWriter.tryWrite(pendingWrites, sourceRecordPosition);
@@ -491,15 +549,15 @@ public final class ProcessingStateMachine {
                 } else {
                   return false;
                 }
-              },
-              abortCondition);
+              });
     }
     return writeFuture;
   }
 
   private void writeRecords() {
+    latencyTracer.onProcessed();
     final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
-    actor.runOnCompletion(
+    runOnCompletion(
         writeFuture,
         (bool, t) -> {
           if (t != null) {
@@ -515,6 +573,7 @@ public final class ProcessingStateMachine {
             // of written records via the lastWritten and now written position.
             final var amount = writtenPosition - lastWrittenPosition;
             metrics.recordsWritten(amount);
+            latencyTracer.onWritten();
             updateState();
           }
         });
@@ -522,17 +581,17 @@ public final class ProcessingStateMachine {
 
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
+        runWithRetry(
+            updateStateRetryStrategy,
             () -> {
               zeebeDbTransaction.commit();
               lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
               return true;
-            },
-            abortCondition);
+            });
 
-    actor.runOnCompletion(
+    runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
           if (throwable != null) {
@@ -544,6 +603,7 @@ public final class ProcessingStateMachine {
                 });
           } else {
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            latencyTracer.onCommitted();
             executeSideEffects();
           }
         });
@@ -551,7 +611,8 @@ public final class ProcessingStateMachine {
 
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(
+        runWithRetry(
+            sideEffectsRetryStrategy,
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
@@ -568,15 +629,14 @@ public final class ProcessingStateMachine {
                     .rejectionType(recordMetadata.getRejectionType())
                     .partitionId(context.getPartitionId())
                     .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
+                    .valueWriter(responseValue.recordValueWriter())
                     .tryWriteResponse(
                         processingResponse.requestStreamId(), processingResponse.requestId());
               }
               return executePostCommitTasks();
-            },
-            abortCondition);
+            });
 
-    actor.runOnCompletion(
+    runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
           if (throwable != null) {
@@ -588,13 +648,49 @@ public final class ProcessingStateMachine {
 
           // observe the processing duration
           processingTimer.close();
+          latencyTracer.onCompleted();
 
           // continue with next record
-          inProcessing = false;
-          actor.submit(this::readNextRecord);
+          continueWithNextRecord();
         });
   }
 
+  /**
+   * Runs the given operation with the given retry strategy. In pipelined mode, the operation is
+   * first tried once right away, and the retry strategy is only used if it can't be completed yet.
+   */
+  private ActorFuture<Boolean> runWithRetry(
+      final RetryStrategy retryStrategy, final OperationToRetry operation) {
+    if (pipelinedProcessing) {
+      try {
+        if (operation.run()) {
+          return CompletableActorFuture.completed(true);
+        }
+      } catch (final RecoverableException e) {
+        // the retry strategy decides whether to retry it
+      } catch (final Exception e) {
+        return CompletableActorFuture.completedExceptionally(e);
+      }
+    }
+
+    return retryStrategy.runWithRetry(operation, abortCondition);
+  }
+
+  /**
+   * Runs the callback once the future is completed. In pipelined mode, the callback is run right
+   * away if the future is already completed, instead of as a separate job.
+   */
+  private <T> void runOnCompletion(
+      final ActorFuture<T> future, final BiConsumer<T, Throwable> callback) {
+    if (!pipelinedProcessing || !future.isDone()) {
+      actor.runOnCompletion(future, callback);
+    } else if (future.isCompletedExceptionally()) {
+      callback.accept(null, future.getException());
+    } else {
+      callback.accept(future.join(), null);
+    }
+  }
+
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
       return currentProcessingResult.executePostCommitTasks();
@@ -38,7 +38,18 @@ import java.util.List;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>Consecutive batches are replayed in the same transaction, up to {@link
+ * #MAX_RECORDS_IN_TRANSACTION} read records, to not pay for a commit and an actor job per batch.
+ * Every read record counts towards the limit, not only the applied events, such that a long range
+ * of commands and rejections doesn't end up in one unbounded transaction either. The events are
+ * still applied one after another: the event appliers share the state of the partition, e.g. a call
+ * activity updates its parent process instance, so they can't be applied concurrently. The
+ * positions only become visible after the transaction is committed; if it fails, it is rolled back
+ * and all its batches are read again.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
@@ -49,6 +60,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
       "Expected to read the metadata for the record '%s', but an exception was thrown.";
 
+  static final int MAX_RECORDS_IN_TRANSACTION = 1_000;
+
   private static final MetadataFilter REPLAY_FILTER =
       recordMetadata -> recordMetadata.getRecordType() == RecordType.EVENT;
 
@@ -75,6 +88,14 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private int recordsInTransaction;
+  private int batchesInTransaction;
+
+  // positions before the current transaction, to read its batches again on retry
+  private long transactionStartReadRecordPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartReplayedEventPosition = StreamProcessor.UNSET_POSITION;
 
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
@@ -159,9 +180,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(this::tryToReplayBatches, abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
@@ -169,9 +189,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // the position should be visible only after the batches are replayed
+                    // successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -193,31 +214,65 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  private boolean tryToReplayBatches() throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // reading all batches of the transaction from the beginning again
+      resetToTransactionStart();
+    } else {
+      transactionStartReadRecordPosition = lastReadRecordPosition;
+      transactionStartSourceEventPosition = batchSourceEventPosition;
+      transactionStartReplayedEventPosition = lastReplayedEventPosition;
     }
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
+    recordsInTransaction = 0;
+    batchesInTransaction = 0;
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
-          }
+          do {
+            replayBatch(logStreamBatchReader.next());
+          } while (recordsInTransaction < MAX_RECORDS_IN_TRANSACTION
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean());
         });
 
     zeebeDbTransaction.commit();
     zeebeDbTransaction = null;
+    replayMetrics.observeBatchesPerTransaction(batchesInTransaction);
 
     return true;
   }
 
+  private void replayBatch(final Batch batch) {
+    batch.forEachRemaining(this::replayEvent);
+
+    if (batchSourceEventPosition > snapshotPosition) {
+      lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+    }
+    transactionSourceEventPosition =
+        Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+    batchesInTransaction++;
+  }
+
+  private void resetToTransactionStart() {
+    lastReadRecordPosition = transactionStartReadRecordPosition;
+    batchSourceEventPosition = transactionStartSourceEventPosition;
+    lastReplayedEventPosition = transactionStartReplayedEventPosition;
+
+    if (transactionStartReadRecordPosition == StreamProcessor.UNSET_POSITION) {
+      logStreamBatchReader.seekToNextBatch(snapshotPosition);
+    } else {
+      // the last read record is the last record of its batch
+      logStreamBatchReader.seekToNextBatch(transactionStartReadRecordPosition);
+    }
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
+    recordsInTransaction++;
+
     if (eventFilter.applies(currentEvent)
         && (currentEvent.getSourceEventPosition() > snapshotPosition
             || currentEvent.getSourceEventPosition()
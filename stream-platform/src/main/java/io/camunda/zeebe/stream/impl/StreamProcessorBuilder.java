@@ -16,6 +16,7 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.NoopScheduledCommandCache;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.StageableScheduledCommandCache;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -142,6 +143,16 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getScheduledTasksTimeBudget().isNegative()) {
+      throw new IllegalArgumentException(
+          "Scheduled tasks time budget must be >= 0 but was %s"
+              .formatted(streamProcessorContext.getScheduledTasksTimeBudget()));
+    }
+    if (streamProcessorContext.getLatencyTracingSampleRate() < 0) {
+      throw new IllegalArgumentException(
+          "Latency tracing sample rate must be >= 0 but was %s"
+              .formatted(streamProcessorContext.getLatencyTracingSampleRate()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -153,4 +164,19 @@ public final class StreamProcessorBuilder {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
   }
+
+  public StreamProcessorBuilder setEnablePipelinedProcessing(final boolean enabled) {
+    streamProcessorContext.setEnablePipelinedProcessing(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setScheduledTasksTimeBudget(final Duration timeBudget) {
+    streamProcessorContext.setScheduledTasksTimeBudget(timeBudget);
+    return this;
+  }
+
+  public StreamProcessorBuilder setLatencyTracingSampleRate(final int sampleRate) {
+    streamProcessorContext.setLatencyTracingSampleRate(sampleRate);
+    return this;
+  }
 }
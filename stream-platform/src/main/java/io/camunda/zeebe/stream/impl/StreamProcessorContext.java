@@ -22,11 +22,13 @@ import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_LATENCY_TRACING_SAMPLE_RATE = 100;
   private static final StreamProcessorListener NOOP_LISTENER =
       new StreamProcessorListener() {
         @Override
@@ -57,6 +59,9 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing = false;
+  private Duration scheduledTasksTimeBudget = Duration.ZERO;
+  private int latencyTracingSampleRate = DEFAULT_LATENCY_TRACING_SAMPLE_RATE;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -216,4 +221,31 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   public boolean enableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
+
+  public StreamProcessorContext setEnablePipelinedProcessing(final boolean enabled) {
+    enablePipelinedProcessing = enabled;
+    return this;
+  }
+
+  public boolean enablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public StreamProcessorContext setScheduledTasksTimeBudget(final Duration timeBudget) {
+    scheduledTasksTimeBudget = timeBudget;
+    return this;
+  }
+
+  public Duration getScheduledTasksTimeBudget() {
+    return scheduledTasksTimeBudget;
+  }
+
+  public StreamProcessorContext setLatencyTracingSampleRate(final int sampleRate) {
+    latencyTracingSampleRate = sampleRate;
+    return this;
+  }
+
+  public int getLatencyTracingSampleRate() {
+    return latencyTracingSampleRate;
+  }
 }
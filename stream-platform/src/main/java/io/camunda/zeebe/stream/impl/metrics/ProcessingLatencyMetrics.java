@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import java.util.EnumMap;
+import java.util.Map;
+
+/** Metrics of the commands whose processing latency is traced, broken down by processing stage. */
+public final class ProcessingLatencyMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+  private static final String LABEL_NAME_STAGE = "stage";
+
+  private static final Histogram STAGE_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_stage_latency")
+          .help("Time a sampled command spent in a stage of its processing (in seconds)")
+          .buckets(.0001, .0005, .001, .005, .01, .025, .05, 0.1, .250, 0.5, 1, 2)
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_STAGE)
+          .register();
+
+  private static final Counter SAMPLED_COMMANDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_latency_sampled_commands_total")
+          .help("Number of commands whose processing latency was traced")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private final Map<Stage, Histogram.Child> stageLatencies = new EnumMap<>(Stage.class);
+  private final Counter.Child sampledCommands;
+
+  public ProcessingLatencyMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    for (final var stage : Stage.values()) {
+      stageLatencies.put(stage, STAGE_LATENCY.labels(partitionIdLabel, stage.label));
+    }
+    sampledCommands = SAMPLED_COMMANDS.labels(partitionIdLabel);
+  }
+
+  public void observeStageLatency(final Stage stage, final long latencyNanos) {
+    stageLatencies.get(stage).observe(latencyNanos / 1_000_000_000D);
+  }
+
+  public void countSampledCommand() {
+    sampledCommands.inc();
+  }
+
+  /** The stages of processing a command, after it was read from the log. */
+  public enum Stage {
+    /** Processing the command and its follow-up commands in the state transaction. */
+    PROCESSING("processing"),
+    /** Writing the resulting records to the log, i.e. handing them over to the sequencer. */
+    WRITE("write"),
+    /** Committing the state transaction to the database. */
+    COMMIT("commit"),
+    /** Sending the responses and executing the post commit tasks. */
+    SIDE_EFFECTS("side_effects");
+
+    private final String label;
+
+    Stage(final String label) {
+      this.label = label;
+    }
+  }
+}
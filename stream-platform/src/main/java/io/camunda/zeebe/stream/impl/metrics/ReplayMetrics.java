@@ -41,6 +41,15 @@ public final class ReplayMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram BATCHES_PER_TRANSACTION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("replay_batches_per_transaction")
+          .help("Number of event batches replayed in one transaction")
+          .labelNames(LABEL_NAME_PARTITION)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024)
+          .register();
+
   private final String partitionIdLabel;
 
   public ReplayMetrics(final int partitionId) {
@@ -55,6 +64,10 @@ public final class ReplayMetrics {
     return REPLAY_DURATION.labels(partitionIdLabel).startTimer();
   }
 
+  public void observeBatchesPerTransaction(final int batches) {
+    BATCHES_PER_TRANSACTION.labels(partitionIdLabel).observe(batches);
+  }
+
   public void setLastSourcePosition(final long position) {
     LAST_SOURCE_POSITION.labels(partitionIdLabel).set(position);
   }
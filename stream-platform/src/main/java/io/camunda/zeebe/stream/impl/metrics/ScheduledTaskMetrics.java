@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+/** Metrics of the tasks which are scheduled via one lane of the processing schedule service. */
+public final class ScheduledTaskMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+  private static final String LABEL_NAME_LANE = "lane";
+
+  private static final Histogram SCHEDULED_TASK_DELAY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_scheduled_task_delay")
+          .help(
+              "Time between the moment a scheduled task was due and the moment it was executed (in seconds)")
+          .buckets(.001, .01, .05, 0.1, .250, 0.5, 1, 2, 5, 10)
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_LANE)
+          .register();
+
+  private static final Histogram SCHEDULED_TASK_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_scheduled_task_duration")
+          .help("Time spent in executing a scheduled task (in seconds)")
+          .buckets(.0001, .001, .01, 0.1, .250, 0.5, 1, 2)
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_LANE)
+          .register();
+
+  private static final Counter SCHEDULED_TASK_DEFERRED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_scheduled_task_deferred_total")
+          .help(
+              "Number of times a due task was deferred, because the time budget of its lane was used up")
+          .labelNames(LABEL_NAME_PARTITION, LABEL_NAME_LANE)
+          .register();
+
+  private final Histogram.Child taskDelay;
+  private final Histogram.Child taskDuration;
+  private final Counter.Child deferredTasks;
+
+  public ScheduledTaskMetrics(final int partitionId, final String lane) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    taskDelay = SCHEDULED_TASK_DELAY.labels(partitionIdLabel, lane);
+    taskDuration = SCHEDULED_TASK_DURATION.labels(partitionIdLabel, lane);
+    deferredTasks = SCHEDULED_TASK_DEFERRED.labels(partitionIdLabel, lane);
+  }
+
+  public void observeTaskDelay(final long delayMillis) {
+    taskDelay.observe(Math.max(0, delayMillis) / 1_000D);
+  }
+
+  public void observeTaskDuration(final long durationNanos) {
+    taskDuration.observe(durationNanos / 1_000_000_000D);
+  }
+
+  public void countDeferredTask() {
+    deferredTasks.inc();
+  }
+}
@@ -14,17 +14,89 @@ import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.util.ReflectUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-public record RecordBatchEntry(
-    RecordMetadata recordMetadata, long key, int sourceIndex, UnifiedRecordValue unifiedRecordValue)
-    implements LogAppendEntry {
+/**
+ * An entry of a {@link RecordBatch}, which holds a copy of the serialized record value. The copy is
+ * written to the log as is, so most entries, e.g. events, never need a record value instance. It is
+ * only created on the first call to {@link #recordValue()}, e.g. to process a follow-up command
+ * directly.
+ */
+public final class RecordBatchEntry implements LogAppendEntry {
+
+  private final RecordMetadata recordMetadata;
+  private final long key;
+  private final int sourceIndex;
+  private final DirectBuffer recordValueBuffer;
+  private final DirectBufferWriter recordValueWriter = new DirectBufferWriter();
+  private UnifiedRecordValue unifiedRecordValue;
+
+  private RecordBatchEntry(
+      final RecordMetadata recordMetadata,
+      final long key,
+      final int sourceIndex,
+      final DirectBuffer recordValueBuffer) {
+    this.recordMetadata = recordMetadata;
+    this.key = key;
+    this.sourceIndex = sourceIndex;
+    this.recordValueBuffer = recordValueBuffer;
+    recordValueWriter.wrap(recordValueBuffer);
+  }
+
+  @Override
+  public long key() {
+    return key;
+  }
+
+  @Override
+  public int sourceIndex() {
+    return sourceIndex;
+  }
+
+  @Override
+  public RecordMetadata recordMetadata() {
+    return recordMetadata;
+  }
 
   @Override
   public UnifiedRecordValue recordValue() {
+    if (unifiedRecordValue == null) {
+      unifiedRecordValue =
+          ReflectUtil.newInstance(EVENT_REGISTRY.get(recordMetadata.getValueType()));
+      unifiedRecordValue.wrap(recordValueBuffer, 0, recordValueBuffer.capacity());
+    }
     return unifiedRecordValue;
   }
 
+  @Override
+  public BufferWriter recordValueWriter() {
+    return recordValueWriter;
+  }
+
+  @Override
+  public int getLength() {
+    return Long.BYTES // key
+        + Integer.BYTES // source index
+        + recordMetadata.getLength()
+        + recordValueBuffer.capacity();
+  }
+
+  @Override
+  public String toString() {
+    return "RecordBatchEntry{"
+        + "recordMetadata="
+        + recordMetadata
+        + ", key="
+        + key
+        + ", sourceIndex="
+        + sourceIndex
+        + ", recordValue="
+        + recordValue()
+        + '}';
+  }
+
   public static RecordBatchEntry createEntry(
       final long key,
       final RecordMetadata metadata,
@@ -36,10 +108,6 @@ public record RecordBatchEntry(
     final var recordValueBuffer = new UnsafeBuffer(bytes);
     valueWriter.write(recordValueBuffer, 0);
 
-    final UnifiedRecordValue unifiedRecordValue =
-        ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
-    unifiedRecordValue.wrap(recordValueBuffer, 0, recordValueBuffer.capacity());
-
-    return new RecordBatchEntry(metadata, key, sourceIndex, unifiedRecordValue);
+    return new RecordBatchEntry(metadata, key, sourceIndex, recordValueBuffer);
   }
 }
@@ -8,20 +8,38 @@
 package io.camunda.zeebe.stream.impl.state;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.util.VisibleForTesting;
 
-public final class DbKeyGenerator implements KeyGeneratorControls {
+/**
+ * Generates keys by incrementing the latest key, which is kept in the state. Within a transaction,
+ * the latest key is read from the state only once and then kept in memory, and it is written to the
+ * state only once, right before the transaction is committed. Generating a key is therefore neither
+ * a read nor a write of the state, regardless of how many keys are generated per transaction.
+ *
+ * <p>As the exact latest key is persisted with every transaction, keys are consecutive, also after
+ * a restart or replay, and replaying the records results in the same state as generating their keys
+ * did. If the transaction is rolled back, the key kept in memory is discarded together with it, and
+ * the keys handed out in that transaction are handed out again.
+ *
+ * <p>Note that the generator must be the only one generating keys with its state within a
+ * transaction.
+ */
+public final class DbKeyGenerator implements KeyGeneratorControls, TransactionListener {
 
   private static final long INITIAL_VALUE = 0;
 
   private static final String LATEST_KEY = "latestKey";
 
-  private final long keyStartValue;
   private final NextValueManager nextValueManager;
+  private final TransactionContext transactionContext;
+  // the latest key of the current transaction; only valid while listening to the transaction
+  private long latestKey;
+  private boolean listeningToTransaction;
 
   /**
    * Initializes the key state with the corresponding partition id, so that unique keys are
@@ -31,33 +49,63 @@ public final class DbKeyGenerator implements KeyGeneratorControls {
    */
   public DbKeyGenerator(
       final int partitionId, final ZeebeDb zeebeDb, final TransactionContext transactionContext) {
-    keyStartValue = Protocol.encodePartitionId(partitionId, INITIAL_VALUE);
+    this.transactionContext = transactionContext;
+    final long keyStartValue = Protocol.encodePartitionId(partitionId, INITIAL_VALUE);
     nextValueManager =
         new NextValueManager(keyStartValue, zeebeDb, transactionContext, ZbColumnFamilies.KEY);
   }
 
   @Override
   public long nextKey() {
-    return nextValueManager.getNextValue(LATEST_KEY);
+    final long nextKey = currentKey() + 1;
+    updateKey(nextKey);
+    return nextKey;
   }
 
   /**
    * Retrieve the current key from the state, since it is only used in tests it is not part of the
-   * interface.
+   * interface. Within a transaction, this includes the keys generated in it.
    *
    * @return the current key from the state
    */
   @VisibleForTesting
   public long getCurrentKey() {
-    return nextValueManager.getCurrentValue(LATEST_KEY);
+    return currentKey();
   }
 
   @Override
   public void setKeyIfHigher(final long key) {
-    final var currentKey = nextValueManager.getCurrentValue(LATEST_KEY);
+    if (key > currentKey()) {
+      updateKey(key);
+    }
+  }
+
+  @Override
+  public void beforeCommit() {
+    nextValueManager.setValue(LATEST_KEY, latestKey);
+  }
+
+  @Override
+  public void onCommit() {
+    listeningToTransaction = false;
+  }
+
+  @Override
+  public void onRollback() {
+    listeningToTransaction = false;
+  }
+
+  private long currentKey() {
+    return listeningToTransaction ? latestKey : nextValueManager.getCurrentValue(LATEST_KEY);
+  }
 
-    if (key > currentKey) {
-      nextValueManager.setValue(LATEST_KEY, key);
+  private void updateKey(final long key) {
+    latestKey = key;
+    if (!listeningToTransaction) {
+      // outside an open transaction this commits right away, which persists the key immediately
+      listeningToTransaction = true;
+      transactionContext.runInTransaction(
+          () -> transactionContext.getCurrentTransaction().addTransactionListener(this));
     }
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.impl.ProcessingLatencyTracer.SlowCommand;
+import io.camunda.zeebe.stream.impl.metrics.ProcessingLatencyMetrics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+final class ProcessingLatencyTracerTest {
+
+  private static final ProcessingLatencyMetrics METRICS = new ProcessingLatencyMetrics(1);
+
+  private final AtomicLong nanoClock = new AtomicLong();
+
+  @Test
+  void shouldTraceLatencyOfEachStage() {
+    // given
+    final var tracer = new ProcessingLatencyTracer(1, METRICS, nanoClock::get);
+
+    // when
+    tracer.onProcessingStarted(1, ValueType.JOB, JobIntent.COMPLETE, 5);
+    nanoClock.addAndGet(100);
+    tracer.onProcessed();
+    nanoClock.addAndGet(200);
+    tracer.onWritten();
+    nanoClock.addAndGet(300);
+    tracer.onCommitted();
+    nanoClock.addAndGet(400);
+    tracer.onCompleted();
+
+    // then
+    assertThat(tracer.getSlowestCommands())
+        .containsExactly(
+            new SlowCommand(1, ValueType.JOB, JobIntent.COMPLETE, 5, 100, 200, 300, 400));
+  }
+
+  @Test
+  void shouldOnlyTraceSampledCommands() {
+    // given
+    final var tracer = new ProcessingLatencyTracer(2, METRICS, nanoClock::get);
+
+    // when
+    LongStream.rangeClosed(1, 4).forEach(position -> processCommand(tracer, position, 10));
+
+    // then
+    assertThat(tracer.getSlowestCommands())
+        .extracting(SlowCommand::position)
+        .containsExactlyInAnyOrder(1L, 3L);
+  }
+
+  @Test
+  void shouldNotTraceCommandsIfDisabled() {
+    // given
+    final var tracer = new ProcessingLatencyTracer(0, METRICS, nanoClock::get);
+
+    // when
+    LongStream.rangeClosed(1, 4).forEach(position -> processCommand(tracer, position, 10));
+
+    // then
+    assertThat(tracer.getSlowestCommands()).isEmpty();
+  }
+
+  @Test
+  void shouldKeepSlowestCommands() {
+    // given
+    final var tracer = new ProcessingLatencyTracer(1, METRICS, nanoClock::get);
+    final var commandsCount = ProcessingLatencyTracer.SLOW_COMMANDS_LIMIT + 5;
+
+    // when
+    LongStream.rangeClosed(1, commandsCount)
+        .forEach(position -> processCommand(tracer, position, position * 10));
+
+    // then
+    assertThat(tracer.getSlowestCommands())
+        .extracting(SlowCommand::position)
+        .containsExactlyElementsOf(
+            LongStream.iterate(commandsCount, position -> position - 1)
+                .limit(ProcessingLatencyTracer.SLOW_COMMANDS_LIMIT)
+                .boxed()
+                .toList());
+  }
+
+  @Test
+  void shouldResetSlowestCommandsAfterLogInterval() {
+    // given
+    final var tracer = new ProcessingLatencyTracer(1, METRICS, nanoClock::get);
+    processCommand(tracer, 1, 10);
+
+    // when
+    nanoClock.addAndGet(ProcessingLatencyTracer.SLOW_COMMANDS_LOG_INTERVAL.toNanos());
+    processCommand(tracer, 2, 10);
+    processCommand(tracer, 3, 10);
+
+    // then
+    assertThat(tracer.getSlowestCommands()).extracting(SlowCommand::position).containsExactly(3L);
+  }
+
+  private void processCommand(
+      final ProcessingLatencyTracer tracer, final long position, final long processingNanos) {
+    tracer.onProcessingStarted(position, ValueType.JOB, JobIntent.COMPLETE, 0);
+    nanoClock.addAndGet(processingNanos);
+    tracer.onProcessed();
+    tracer.onWritten();
+    tracer.onCommitted();
+    tracer.onCompleted();
+  }
+}
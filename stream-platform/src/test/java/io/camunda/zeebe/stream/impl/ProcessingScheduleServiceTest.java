@@ -32,6 +32,7 @@ import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.TestScheduledCommandCache.TestCommandCache;
+import io.camunda.zeebe.stream.impl.metrics.ScheduledTaskMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordBatch;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
@@ -49,6 +50,8 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 class ProcessingScheduleServiceTest {
 
+  private static final ScheduledTaskMetrics METRICS = new ScheduledTaskMetrics(1, "test");
+
   @RegisterExtension
   ControlledActorSchedulerExtension actorScheduler = new ControlledActorSchedulerExtension();
 
@@ -63,7 +66,12 @@ class ProcessingScheduleServiceTest {
     writerAsyncSupplier = new WriterAsyncSupplier();
     final var processingScheduleService =
         new ProcessingScheduleServiceImpl(
-            lifecycleSupplier, lifecycleSupplier, writerAsyncSupplier, commandCache);
+            lifecycleSupplier,
+            lifecycleSupplier,
+            writerAsyncSupplier,
+            commandCache,
+            Duration.ZERO,
+            METRICS);
 
     scheduleService = new TestScheduleServiceActorDecorator(processingScheduleService);
     actorScheduler.submitActor(scheduleService);
@@ -156,7 +164,9 @@ class ProcessingScheduleServiceTest {
             lifecycleSupplier,
             lifecycleSupplier,
             writerAsyncSupplier,
-            new NoopScheduledCommandCache());
+            new NoopScheduledCommandCache(),
+            Duration.ZERO,
+            METRICS);
     final var mockedTask = spy(new DummyTask());
 
     // when
@@ -178,7 +188,9 @@ class ProcessingScheduleServiceTest {
                 lifecycleSupplier,
                 lifecycleSupplier,
                 writerAsyncSupplier,
-                new NoopScheduledCommandCache()));
+                new NoopScheduledCommandCache(),
+                Duration.ZERO,
+                METRICS));
 
     // when
     final var actorFuture = actorScheduler.submitActor(notOpenScheduleService);
@@ -280,6 +292,111 @@ class ProcessingScheduleServiceTest {
     verify(mockedTask, times(5)).execute(any());
   }
 
+  @Test
+  void shouldDeferTasksIfTimeBudgetIsUsedUp() {
+    // given
+    final var budgetedScheduleService =
+        new TestScheduleServiceActorDecorator(
+            new ProcessingScheduleServiceImpl(
+                lifecycleSupplier,
+                lifecycleSupplier,
+                writerAsyncSupplier,
+                commandCache,
+                Duration.ofNanos(1),
+                METRICS));
+    actorScheduler.submitActor(budgetedScheduleService);
+    actorScheduler.workUntilDone();
+    final var mockedTask = spy(new DummyTask());
+    final var mockedTask2 = spy(new DummyTask());
+
+    // when
+    budgetedScheduleService.runDelayed(Duration.ZERO, mockedTask);
+    budgetedScheduleService.runDelayed(Duration.ZERO, mockedTask2);
+    actorScheduler.workUntilDone();
+
+    // then
+    verify(mockedTask).execute(any());
+    verify(mockedTask2, never()).execute(any());
+  }
+
+  @Test
+  void shouldAskRunningTaskToYieldIfTimeBudgetIsUsedUp() {
+    // given
+    final var budgetedScheduleService =
+        new TestScheduleServiceActorDecorator(
+            new ProcessingScheduleServiceImpl(
+                lifecycleSupplier,
+                lifecycleSupplier,
+                writerAsyncSupplier,
+                commandCache,
+                Duration.ofNanos(1),
+                METRICS));
+    actorScheduler.submitActor(budgetedScheduleService);
+    actorScheduler.workUntilDone();
+    final var shouldYield = new AtomicReference<Boolean>();
+
+    // when
+    budgetedScheduleService.runDelayed(
+        Duration.ZERO,
+        builder -> {
+          shouldYield.set(builder.shouldYield());
+          return builder.build();
+        });
+    actorScheduler.workUntilDone();
+
+    // then
+    assertThat(shouldYield).hasValue(true);
+  }
+
+  @Test
+  void shouldNotAskRunningTaskToYieldWithoutTimeBudget() {
+    // given
+    final var shouldYield = new AtomicReference<Boolean>();
+
+    // when
+    scheduleService.runDelayed(
+        Duration.ZERO,
+        builder -> {
+          shouldYield.set(builder.shouldYield());
+          return builder.build();
+        });
+    actorScheduler.workUntilDone();
+
+    // then
+    assertThat(shouldYield).hasValue(false);
+  }
+
+  @Test
+  void shouldRunDeferredTasksInNextBudgetWindow() {
+    // given
+    final var budgetedScheduleService =
+        new TestScheduleServiceActorDecorator(
+            new ProcessingScheduleServiceImpl(
+                lifecycleSupplier,
+                lifecycleSupplier,
+                writerAsyncSupplier,
+                commandCache,
+                Duration.ofNanos(1),
+                METRICS));
+    actorScheduler.submitActor(budgetedScheduleService);
+    actorScheduler.workUntilDone();
+    final var mockedTask = spy(new DummyTask());
+    final var mockedTask2 = spy(new DummyTask());
+    budgetedScheduleService.runDelayed(Duration.ZERO, mockedTask);
+    budgetedScheduleService.runDelayed(Duration.ZERO, mockedTask2);
+    actorScheduler.workUntilDone();
+
+    // when
+    actorScheduler.updateClock(ProcessingScheduleServiceImpl.BUDGET_WINDOW);
+    actorScheduler.workUntilDone();
+
+    // then
+    final var inOrder = inOrder(mockedTask, mockedTask2);
+    inOrder.verify(mockedTask).execute(any());
+    inOrder.verify(mockedTask2).execute(any());
+    inOrder.verifyNoMoreInteractions();
+  }
+
   @Test
   void shouldNotRunScheduledTasksAfterClosed() {
     // given
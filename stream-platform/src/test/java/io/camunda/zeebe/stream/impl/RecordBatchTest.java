@@ -9,6 +9,7 @@ package io.camunda.zeebe.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sun.management.ThreadMXBean;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -19,7 +20,10 @@ import io.camunda.zeebe.stream.api.records.RecordBatchSizePredicate;
 import io.camunda.zeebe.stream.impl.records.RecordBatch;
 import io.camunda.zeebe.stream.impl.records.RecordBatchEntry;
 import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.lang.management.ManagementFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
 
 class RecordBatchTest {
@@ -75,6 +79,48 @@ class RecordBatchTest {
     assertThat(recordBatch).map(RecordBatchEntry::recordValue).containsOnly(processInstanceRecord);
   }
 
+  @Test
+  void shouldWriteCopyOfRecordValue() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true);
+    final var processInstanceRecord = Records.processInstance(1);
+    final var expectedValue = BufferUtil.createCopy(processInstanceRecord);
+    recordBatch.appendRecord(1, RECORD_METADATA, -1, processInstanceRecord);
+
+    // when
+    processInstanceRecord.setElementId("changed");
+
+    // then
+    final var entry = recordBatch.entries().get(0);
+    final var writer = entry.recordValueWriter();
+    final var writtenValue = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(writtenValue, 0);
+    assertThat(writtenValue).isEqualTo(expectedValue);
+    assertThat(entry.getLength())
+        .isEqualTo(
+            Long.BYTES + Integer.BYTES + RECORD_METADATA.getLength() + expectedValue.capacity());
+    assertThat(entry.recordValue()).isEqualTo(Records.processInstance(1));
+  }
+
+  @Test
+  void shouldWriteRecordValueWithoutAllocating() {
+    // given
+    final var recordBatch = new RecordBatch((count, size) -> true);
+    recordBatch.appendRecord(1, RECORD_METADATA, -1, Records.processInstance(1));
+    final LogAppendEntry entry = recordBatch.entries().get(0);
+    final var target = new UnsafeBuffer(new byte[entry.recordValueWriter().getLength()]);
+    final var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    writeRecordValue(entry, target, 10_000);
+
+    // when
+    final long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    writeRecordValue(entry, target, 10_000);
+    final long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+    // then - the value is written from the entry's copy, without any intermediate buffer or value
+    assertThat(allocated).isLessThan(target.capacity());
+  }
+
   @Test
   void shouldUseRecordSizePredicate() {
     // given
@@ -215,4 +261,12 @@ class RecordBatchTest {
     // then
     assertThat(canAppend).isFalse();
   }
+
+  private static void writeRecordValue(
+      final LogAppendEntry entry, final UnsafeBuffer target, final int times) {
+    for (int i = 0; i < times; i++) {
+      final var writer = entry.recordValueWriter();
+      writer.write(target, target.capacity() - writer.getLength());
+    }
+  }
 }
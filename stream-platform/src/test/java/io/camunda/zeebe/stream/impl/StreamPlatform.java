@@ -72,6 +72,7 @@ public final class StreamPlatform {
   private final StreamProcessorLifecycleAware mockProcessorLifecycleAware;
   private final StreamProcessorListener mockStreamProcessorListener;
   private TestCommandCache scheduledCommandCache;
+  private boolean enablePipelinedProcessing;
 
   public StreamPlatform(
       final Path dataDirectory,
@@ -210,6 +211,11 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withPipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -267,6 +273,7 @@ public final class StreamPlatform {
             .streamProcessorMode(processorMode)
             .listener(mockStreamProcessorListener)
             .scheduledCommandCache(scheduledCommandCache)
+            .setEnablePipelinedProcessing(enablePipelinedProcessing)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
     builder.addLifecycleListener(mockProcessorLifecycleAware);
@@ -28,6 +28,9 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
+import io.prometheus.client.CollectorRegistry;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
@@ -358,4 +361,89 @@ final class StreamProcessorReplayTest {
     Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
         .isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayAllBatchesOfTransactionAgainOnRecoverableException() {
+    // given
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .key(Protocol.encodePartitionId(1, 19L))
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .key(Protocol.encodePartitionId(1, 20L))
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(2),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .key(Protocol.encodePartitionId(1, 21L))
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(4));
+
+    final var replayedPositions = new CopyOnWriteArrayList<Long>();
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doAnswer(
+            invocation -> {
+              final TypedRecord<?> record = invocation.getArgument(0);
+              replayedPositions.add(record.getPosition());
+              if (replayedPositions.size() == 2) {
+                throw new RecoverableException("expected");
+              }
+              return null;
+            })
+        .when(recordProcessor)
+        .replay(any());
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(5L));
+    Assertions.assertThat(replayedPositions).containsExactly(2L, 4L, 2L, 4L, 6L);
+    Assertions.assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5);
+    Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
+        .isEqualTo(21L);
+  }
+
+  @Test
+  void shouldCountEveryReadRecordTowardsTransactionLimit() {
+    // given - only commands, which are read but not applied, followed by an event
+    final int commands = ReplayStateMachine.MAX_RECORDS_IN_TRANSACTION + 1;
+    for (int i = 1; i < commands; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+    }
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+    final double transactionsBefore = getReplayedTransactions();
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(commands));
+    Assertions.assertThat(getReplayedTransactions() - transactionsBefore).isEqualTo(2);
+  }
+
+  private static double getReplayedTransactions() {
+    final Double count =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_replay_batches_per_transaction_count",
+            new String[] {"partition"},
+            new String[] {"1"});
+    return count == null ? 0 : count;
+  }
 }
@@ -710,6 +710,96 @@ public final class StreamProcessorTest {
     AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 1);
   }
 
+  @Test
+  public void shouldNotUpdateStateOnExceptionInProcessingWithPipelinedProcessing() {
+    // given
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          final var keyGenerator = new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext());
+          keyGenerator.nextKey();
+          keyGenerator.nextKey();
+          keyGenerator.nextKey();
+
+          throw new RuntimeException("expected");
+        };
+    // in order to not mark the processing as skipped we need to return a result
+    testProcessor.processingResult = new BufferedProcessingResultBuilder((c, s) -> true).build();
+    doCallRealMethod()
+        .doReturn(EmptyProcessingResult.INSTANCE)
+        .when(testProcessor)
+        .process(any(), any());
+    streamPlatform
+        .withPipelinedProcessing(true)
+        .withRecordProcessors(List.of(testProcessor))
+        .startStreamProcessor();
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(testProcessor, TIMEOUT.times(2)).process(any(), any());
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 1);
+  }
+
+  @Test
+  public void shouldWriteFollowUpRecordsInOrderWithPipelinedProcessing() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var resultBuilderCaptor = ArgumentCaptor.forClass(ProcessingResultBuilder.class);
+    when(defaultRecordProcessor.process(any(), resultBuilderCaptor.capture()))
+        .thenAnswer(
+            (invocation) -> {
+              final var resultBuilder = resultBuilderCaptor.getValue();
+              resultBuilder.appendRecordReturnEither(
+                  1,
+                  Records.processInstance(1),
+                  new RecordMetadata()
+                      .recordType(RecordType.EVENT)
+                      .intent(ELEMENT_ACTIVATING)
+                      .rejectionType(RejectionType.NULL_VAL)
+                      .rejectionReason(""));
+              return resultBuilder.build();
+            });
+    streamPlatform.withPipelinedProcessing(true).startStreamProcessor();
+
+    // when
+    final var lastCommandPosition =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(defaultRecordProcessor, TIMEOUT.times(3)).process(any(), any());
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastCommandPosition));
+    await("Last written position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(streamPlatform.getLogStream().getLastWrittenPosition())
+                    .isEqualTo(lastCommandPosition + 3));
+
+    final var logStreamReader = streamPlatform.getLogStream().newLogStreamReader();
+    logStreamReader.seekToNextEvent(lastCommandPosition);
+    for (long commandPosition = 1; commandPosition <= lastCommandPosition; commandPosition++) {
+      assertThat(logStreamReader.next().getSourceEventPosition()).isEqualTo(commandPosition);
+    }
+  }
+
   @Test
   public void shouldUpdateStateOnProcessingErrorCall() {
     // given
@@ -44,6 +44,23 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of multiple keys at once, which is cheaper than calling {@link #get(DbKey)}
+   * for each key. The values reflect the writes of the current transaction, like {@link
+   * #get(DbKey)}.
+   *
+   * <p>All keys are serialized while iterating over them, before the first key-value pair is
+   * visited, so the iterator may return the same key instance for every key, re-wrapped with the
+   * next key, and the visitor may modify the source of the keys.
+   *
+   * @param keys the keys to look up
+   * @param visitor visits the key and value of each key which exists, in the order of the given
+   *     keys; keys which don't exist are skipped. The key and value instances are reused between
+   *     visits. The visitor can indicate whether it should visit more pairs or not, see {@link
+   *     KeyValuePairVisitor}.
+   */
+  void multiGet(Iterable<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -137,6 +154,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
   void whileEqualPrefix(
       DbKey keyPrefix, KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family and which have the same
+   * common prefix, in reverse order, i.e. starting with the greatest key. The visitor can indicate
+   * via the return value, whether the iteration should continue or not. This means if the visitor
+   * returns false the iteration will stop.
+   *
+   * <p>Useful to find the latest entries of a prefix, e.g. the highest version, without visiting
+   * all entries before them.
+   *
+   * @param keyPrefix the prefix which should have the keys in common
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileEqualPrefixReverse(DbKey keyPrefix, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Deletes the key-value pair with the given key if it exists in the column family
    *
@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Listens for the completion of a {@link ZeebeDbTransaction}. Allows state which is held in memory
+ * next to the database, e.g. an index, to be kept consistent with it, by keeping or reverting the
+ * changes made to it during the transaction.
+ */
+public interface TransactionListener {
+
+  /**
+   * Called before the transaction is committed, while it is still open. Allows to write changes
+   * which were held in memory during the transaction to it, e.g. to write a value only once per
+   * transaction instead of on every change.
+   */
+  default void beforeCommit() {}
+
+  /** Called after the transaction was committed successfully. */
+  void onCommit();
+
+  /** Called after the transaction was rolled back, i.e. all of its changes were discarded. */
+  void onRollback();
+}
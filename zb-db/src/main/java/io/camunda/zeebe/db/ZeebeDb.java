@@ -42,6 +42,33 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<ColumnFamilyType>> extend
           KeyType keyInstance,
           ValueType valueInstance);
 
+  /**
+   * Creates an instance of a specific column family, like {@link #createColumnFamily(Enum,
+   * TransactionContext, DbKey, DbValue)}, and opts the column family in to caching its values in
+   * memory. This is meant for column families whose keys are read repeatedly, e.g. within and
+   * across the processing of records.
+   *
+   * <p>Caching is transparent: all instances of the column family, cached or not, see the same
+   * values, and writes of a transaction are only visible to other transactions once committed.
+   * Implementations may not support caching, or have it disabled, in which case this is the same as
+   * {@link #createColumnFamily(Enum, TransactionContext, DbKey, DbValue)}.
+   *
+   * @param <KeyType> the key type of the column family
+   * @param <ValueType> the value type of the column family
+   * @param columnFamily the enum instance of the column family
+   * @param keyInstance this instance defines the type of the column family key type
+   * @param valueInstance this instance defines the type of the column family value type
+   * @return the created column family instance
+   */
+  default <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createCachedColumnFamily(
+          final ColumnFamilyType columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance) {
+    return createColumnFamily(columnFamily, context, keyInstance, valueInstance);
+  }
+
   /**
    * Creates a snapshot of the current database in the given directory.
    *
@@ -53,6 +80,18 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<ColumnFamilyType>> extend
 
   TransactionContext createContext();
 
+  /**
+   * Creates a transaction context, whose transactions read from a consistent snapshot of the
+   * database, taken when the transaction is started. Changes which are committed concurrently by
+   * other contexts are not visible until the next transaction. This allows to scan the state
+   * concurrently to the processing, e.g. in scheduled tasks, without seeing partial results of it.
+   *
+   * <p>Reads of such transactions bypass the caches of cached column families. The context is meant
+   * for reading; writes are possible but only visible to the transaction itself until it is
+   * committed.
+   */
+  TransactionContext createSnapshotReadContext();
+
   /**
    * Checks the database if the given column is empty.
    *
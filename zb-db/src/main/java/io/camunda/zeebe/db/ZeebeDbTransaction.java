@@ -38,4 +38,13 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Registers the given listener, which is called once this transaction is committed or rolled
+   * back. The listener is removed afterwards, i.e. it has to be registered again for the next
+   * transaction.
+   *
+   * @param listener the listener to notify about the completion of this transaction
+   */
+  void addTransactionListener(TransactionListener listener);
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import org.rocksdb.CompactionStyle;
+
+/**
+ * Groups logical column families, i.e. the values of the column family enum of a {@link
+ * io.camunda.zeebe.db.ZeebeDb}, into a separate physical RocksDB column family. All logical column
+ * families which are not part of any group share the default RocksDB column family.
+ *
+ * <p>A physical column family has its own memtables, SST files and compactions, and can be tuned
+ * individually: hot families with mostly point lookups (e.g. jobs or timers) can skip the prefix
+ * extractor in favor of whole key filters, while families which are mostly scanned (e.g. variables)
+ * keep it.
+ *
+ * <p>Keys are stored with the same logical column family prefix in every physical column family, so
+ * entries can be moved between physical column families as is when the grouping changes.
+ */
+public final class ColumnFamilyGroup {
+
+  public static final double DEFAULT_BLOCK_CACHE_SHARE = 0;
+  public static final CompactionStyle DEFAULT_COMPACTION_STYLE = CompactionStyle.LEVEL;
+  public static final boolean DEFAULT_PREFIX_EXTRACTOR_ENABLED = true;
+
+  private final String name;
+  private Set<String> columnFamilies = new HashSet<>();
+
+  /**
+   * The share of the block cache memory dedicated to this group. If 0, the group uses the block
+   * cache shared with the default column family and all other groups without a dedicated share.
+   */
+  private double blockCacheShare = DEFAULT_BLOCK_CACHE_SHARE;
+
+  private CompactionStyle compactionStyle = DEFAULT_COMPACTION_STYLE;
+
+  /**
+   * If enabled, the logical column family prefix of the keys is used as prefix extractor, which
+   * speeds up prefix iteration. If disabled, whole key filters are used instead, which is better
+   * suited for point lookups.
+   */
+  private boolean prefixExtractorEnabled = DEFAULT_PREFIX_EXTRACTOR_ENABLED;
+
+  public ColumnFamilyGroup(final String name) {
+    this.name = Objects.requireNonNull(name, "must specify a name");
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Set<String> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public ColumnFamilyGroup setColumnFamilies(final Set<String> columnFamilies) {
+    this.columnFamilies = Objects.requireNonNull(columnFamilies);
+    return this;
+  }
+
+  public double getBlockCacheShare() {
+    return blockCacheShare;
+  }
+
+  public ColumnFamilyGroup setBlockCacheShare(final double blockCacheShare) {
+    if (blockCacheShare < 0 || blockCacheShare >= 1) {
+      throw new IllegalArgumentException(
+          "Expected block cache share to be in [0, 1), but was " + blockCacheShare);
+    }
+
+    this.blockCacheShare = blockCacheShare;
+    return this;
+  }
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  /**
+   * Sets the compaction style by name, e.g. {@code LEVEL} or {@code UNIVERSAL}, ignoring case.
+   *
+   * @see #setCompactionStyle(CompactionStyle)
+   */
+  public ColumnFamilyGroup setCompactionStyle(final String compactionStyle) {
+    Objects.requireNonNull(compactionStyle, "must specify a compaction style");
+    return setCompactionStyle(CompactionStyle.valueOf(compactionStyle.toUpperCase(Locale.ROOT)));
+  }
+
+  public ColumnFamilyGroup setCompactionStyle(final CompactionStyle compactionStyle) {
+    // FIFO compaction drops the oldest files once a size limit is reached, i.e. it deletes state
+    if (compactionStyle != CompactionStyle.LEVEL && compactionStyle != CompactionStyle.UNIVERSAL) {
+      throw new IllegalArgumentException(
+          "Expected compaction style to be LEVEL or UNIVERSAL, but was " + compactionStyle);
+    }
+
+    this.compactionStyle = compactionStyle;
+    return this;
+  }
+
+  public boolean isPrefixExtractorEnabled() {
+    return prefixExtractorEnabled;
+  }
+
+  public ColumnFamilyGroup setPrefixExtractorEnabled(final boolean prefixExtractorEnabled) {
+    this.prefixExtractorEnabled = prefixExtractorEnabled;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyGroup{"
+        + "name='"
+        + name
+        + '\''
+        + ", columnFamilies="
+        + columnFamilies
+        + ", blockCacheShare="
+        + blockCacheShare
+        + ", compactionStyle="
+        + compactionStyle
+        + ", prefixExtractorEnabled="
+        + prefixExtractorEnabled
+        + '}';
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +45,8 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final long DEFAULT_COLUMN_FAMILY_CACHE_SIZE = 0;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -52,6 +56,16 @@ public final class RocksDbConfiguration {
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
 
+  /**
+   * Groups of logical column families which are stored in their own physical RocksDB column family,
+   * instead of the default one. Empty per default, i.e. all logical column families share the
+   * default column family.
+   *
+   * <p>Existing databases are migrated to the configured grouping when they are opened, so groups
+   * can be added, changed and removed between restarts.
+   */
+  private List<ColumnFamilyGroup> columnFamilyGroups = List.of();
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -72,6 +86,16 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * The size in bytes of the cache of each column family which opted in to caching via {@link
+   * io.camunda.zeebe.db.ZeebeDb#createCachedColumnFamily}. The cache holds committed values in
+   * memory, in addition to the RocksDB block cache, to avoid reading frequently accessed keys from
+   * RocksDB again.
+   *
+   * <p>Setting to 0 (the default) or less disables caching.
+   */
+  private long columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +179,23 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public List<ColumnFamilyGroup> getColumnFamilyGroups() {
+    return columnFamilyGroups;
+  }
+
+  public RocksDbConfiguration setColumnFamilyGroups(
+      final List<ColumnFamilyGroup> columnFamilyGroups) {
+    this.columnFamilyGroups = Objects.requireNonNull(columnFamilyGroups);
+    return this;
+  }
+
+  public long getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSize(final long columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+    return this;
+  }
 }
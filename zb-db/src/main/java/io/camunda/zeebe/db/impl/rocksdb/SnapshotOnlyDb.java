@@ -14,12 +14,15 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
-import org.rocksdb.Options;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.slf4j.Logger;
@@ -66,6 +69,11 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<ColumnFamilyType>>
     throw unsupported("createContext");
   }
 
+  @Override
+  public TransactionContext createSnapshotReadContext() {
+    throw unsupported("createSnapshotReadContext");
+  }
+
   @Override
   public boolean isEmpty(final ColumnFamilyType column, final TransactionContext context) {
     throw unsupported("isEmpty");
@@ -81,10 +89,16 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<ColumnFamilyType>>
   }
 
   static <ColumnFamilyType extends Enum<ColumnFamilyType>> ZeebeDb<ColumnFamilyType> openDb(
-      final Options options, final String path, final List<AutoCloseable> managedResources)
+      final DBOptions options,
+      final String path,
+      final List<ColumnFamilyDescriptor> columnFamilies,
+      final List<AutoCloseable> managedResources)
       throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(options, path, columnFamilies, handles);
     managedResources.add(db);
+    // handles have to be closed before the database
+    managedResources.addAll(handles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
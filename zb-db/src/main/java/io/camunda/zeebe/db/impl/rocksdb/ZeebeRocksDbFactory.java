@@ -12,18 +12,25 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
-import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
@@ -45,26 +52,57 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     RocksDB.loadLibrary();
   }
 
+  private static final String DEFAULT_COLUMN_FAMILY_NAME =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
+  private final Class<ColumnFamilyType> columnFamilyType;
+  private final int partitionId;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings) {
+    this(rocksDbConfiguration, consistencyChecksSettings, null, 0);
+  }
+
+  /**
+   * @param columnFamilyType the type of the column families of the created databases; required if
+   *     {@link RocksDbConfiguration#getColumnFamilyGroups() column family groups} are configured,
+   *     to move their entries into the right RocksDB column families when a database is opened
+   * @param partitionId the partition of the created databases, with which their metrics are
+   *     labelled
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final Class<ColumnFamilyType> columnFamilyType,
+      final int partitionId) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
+    this.columnFamilyType = columnFamilyType;
+    this.partitionId = partitionId;
   }
 
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
     try {
+      final var path = pathName.getAbsolutePath();
+      // column family options have to be closed as last
+      final var columnFamilies = createColumnFamilyDescriptors(path, closeables, false);
+      final var dbOptions = createDefaultDbOptions(closeables);
+      closeables.add(dbOptions);
+
       return ZeebeTransactionDb.openTransactionalDb(
-          prepareOptions(closeables),
-          pathName.getAbsolutePath(),
+          dbOptions,
+          path,
+          columnFamilies,
           closeables,
           rocksDbConfiguration,
-          consistencyChecksSettings);
+          consistencyChecksSettings,
+          columnFamilyType,
+          partitionId);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
@@ -74,15 +112,21 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   @Override
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
-    final var options = prepareOptions(managedResources);
-    options
-        // only open existing databases
-        .setCreateIfMissing(false)
-        // this can slow down open significantly if there are many SST files
-        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
+      final var path = pathName.getAbsolutePath();
+      // column family options have to be closed as last
+      // a snapshot may have been taken before the configured groups existed
+      final var columnFamilies = createColumnFamilyDescriptors(path, managedResources, true);
+      final var dbOptions =
+          createDefaultDbOptions(managedResources)
+              // only open existing databases
+              .setCreateIfMissing(false)
+              // this can slow down open significantly if there are many SST files
+              .setSkipCheckingSstFileSizesOnDbOpen(true);
+      managedResources.add(dbOptions);
+
+      return SnapshotOnlyDb.openDb(dbOptions, path, columnFamilies, managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -90,17 +134,128 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     }
   }
 
-  private Options prepareOptions(final List<AutoCloseable> managedResources) {
-    // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
-    managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
-    managedResources.add(dbOptions);
+  /**
+   * Returns the descriptors of all column families to open: the default column family, one for each
+   * configured {@link ColumnFamilyGroup}, and any other column family which already exists in the
+   * database, e.g. of a group which is not configured anymore. The latter have to be opened as
+   * well, as RocksDB does not allow opening a database without all of its column families, and
+   * their entries are migrated to the configured column families by the {@link ZeebeTransactionDb}.
+   *
+   * <p>If only existing column families are requested, configured groups which do not exist in the
+   * database yet are left out, as they cannot be created when opening it read-only. The logical
+   * column families of such a group are then still stored in the default column family, e.g. in a
+   * snapshot which was taken before the group was configured.
+   */
+  private List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
+      final String path, final List<AutoCloseable> closeables, final boolean existingOnly)
+      throws RocksDBException {
+    final var groups = rocksDbConfiguration.getColumnFamilyGroups();
+    validateColumnFamilyGroups(groups);
+
+    final var physicalColumnFamilyCount = groups.size() + 1;
+    final var blockCacheMemory = getBlockCacheMemory();
+    final var sharedBlockCacheShare =
+        1 - groups.stream().mapToDouble(ColumnFamilyGroup::getBlockCacheShare).sum();
+    final var sharedBlockCache =
+        createBlockCache(closeables, Math.round(blockCacheMemory * sharedBlockCacheShare));
+
+    final var groupsByName = new HashMap<String, ColumnFamilyGroup>();
+    groups.forEach(group -> groupsByName.put(group.getName(), group));
+    final var names = new LinkedHashSet<String>();
+    names.add(DEFAULT_COLUMN_FAMILY_NAME);
+    if (!existingOnly) {
+      names.addAll(groupsByName.keySet());
+    }
+    names.addAll(listExistingColumnFamilies(path));
+
+    final var descriptors = new ArrayList<ColumnFamilyDescriptor>();
+    for (final var name : names) {
+      final var group = groupsByName.getOrDefault(name, new ColumnFamilyGroup(name));
+      final var blockCache =
+          group.getBlockCacheShare() > 0
+              ? createBlockCache(
+                  closeables, Math.round(blockCacheMemory * group.getBlockCacheShare()))
+              : sharedBlockCache;
+      descriptors.add(
+          createColumnFamilyDescriptor(closeables, group, blockCache, physicalColumnFamilyCount));
+    }
+
+    return descriptors;
+  }
+
+  private ColumnFamilyDescriptor createColumnFamilyDescriptor(
+      final List<AutoCloseable> closeables,
+      final ColumnFamilyGroup group,
+      final Cache blockCache,
+      final int physicalColumnFamilyCount) {
+    final var columnFamilyOptions =
+        createColumnFamilyOptions(closeables, group, blockCache, physicalColumnFamilyCount);
+    closeables.add(columnFamilyOptions);
+
+    return new ColumnFamilyDescriptor(
+        group.getName().getBytes(StandardCharsets.UTF_8), columnFamilyOptions);
+  }
+
+  private void validateColumnFamilyGroups(final List<ColumnFamilyGroup> groups) {
+    final var groupNames = new HashSet<String>();
+    final var groupedColumnFamilies = new HashSet<String>();
+    var totalBlockCacheShare = 0.0;
+
+    if (!groups.isEmpty() && columnFamilyType == null) {
+      throw new IllegalStateException(
+          "Expected the column family type to be known when column family groups are configured, "
+              + "but none was given");
+    }
+
+    for (final var group : groups) {
+      if (group.getName().isBlank() || DEFAULT_COLUMN_FAMILY_NAME.equals(group.getName())) {
+        throw new IllegalStateException(
+            String.format(
+                "Expected column family group to have a name other than '%s', but was '%s'",
+                DEFAULT_COLUMN_FAMILY_NAME, group.getName()));
+      }
+
+      if (!groupNames.add(group.getName())) {
+        throw new IllegalStateException(
+            String.format(
+                "Expected column family group names to be unique, but '%s' is used more than once",
+                group.getName()));
+      }
+
+      for (final var columnFamily : group.getColumnFamilies()) {
+        if (!groupedColumnFamilies.add(columnFamily)) {
+          throw new IllegalStateException(
+              String.format(
+                  "Expected column family '%s' to be part of a single group, but it is part of many",
+                  columnFamily));
+        }
+      }
+
+      totalBlockCacheShare += group.getBlockCacheShare();
+    }
+
+    if (totalBlockCacheShare >= 1) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected the block cache shares of all column family groups to be less than 1, to "
+                  + "leave some block cache for the default column family, but was %f",
+              totalBlockCacheShare));
+    }
+  }
+
+  private List<String> listExistingColumnFamilies(final String path) throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return List.of();
+    }
 
-    final var options = new Options(dbOptions, columnFamilyOptions);
-    managedResources.add(options);
+    try (final var options = new Options()) {
+      final var names = new LinkedHashSet<String>();
+      for (final var name : RocksDB.listColumnFamilies(options, path)) {
+        names.add(new String(name, StandardCharsets.UTF_8));
+      }
 
-    return options;
+      return List.copyOf(names);
+    }
   }
 
   private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
@@ -112,8 +267,11 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // only needed if column families are grouped; the default CF always exists
+            .setCreateMissingColumnFamilies(!rocksDbConfiguration.getColumnFamilyGroups().isEmpty())
+            // with the WAL disabled, flushing all CFs atomically is required to keep them
+            // consistent with each other, e.g. when taking a checkpoint
+            .setAtomicFlush(!rocksDbConfiguration.getColumnFamilyGroups().isEmpty())
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -151,6 +309,22 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(
+        closeables,
+        new ColumnFamilyGroup(DEFAULT_COLUMN_FAMILY_NAME),
+        createBlockCache(closeables, getBlockCacheMemory()),
+        1);
+  }
+
+  /**
+   * @return Options which are used for the given column family group; user provided options take
+   *     precedence over the group's tuning, and are applied to all column families
+   */
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final ColumnFamilyGroup group,
+      final Cache blockCache,
+      final int physicalColumnFamilyCount) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -158,7 +332,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(
+        closeables, group, blockCache, physicalColumnFamilyCount);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -178,13 +353,14 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables,
+      final ColumnFamilyGroup group,
+      final Cache blockCache,
+      final int physicalColumnFamilyCount) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = getBlockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -197,22 +373,36 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
     final var memtablePrefixFilterMemory = 0.15;
+    // every physical column family has its own memtables, so the memtable memory is split evenly
+    // between them to stay within the memory limit
     final var memtableMemory =
         Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
+            ((totalMemoryBudget - blockCacheMemory)
+                    / (double) (maxConcurrentMemtableCount * physicalColumnFamilyCount))
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig =
+        createTableFormatConfig(closeables, blockCache, group.isPrefixExtractorEnabled());
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
           new SstPartitionerFixedPrefixFactory(Long.BYTES));
     }
 
+    if (group.isPrefixExtractorEnabled()) {
+      columnFamilyOptions
+          // to extract our column family type (used as prefix) and seek faster
+          .useFixedLengthPrefixExtractor(Long.BYTES)
+          .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory);
+    } else {
+      // without a prefix extractor, the memtable filter is built over whole keys instead, which
+      // speeds up point lookups
+      columnFamilyOptions
+          .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
+          .setMemtableWholeKeyFiltering(true);
+    }
+
     return columnFamilyOptions
-        // to extract our column family type (used as prefix) and seek faster
-        .useFixedLengthPrefixExtractor(Long.BYTES)
-        .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
         // memtables
         // merge at least 3 memtables per L0 file, otherwise all memtables are flushed as individual
         // files
@@ -224,7 +414,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         // compaction
         .setLevelCompactionDynamicLevelBytes(true)
         .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
-        .setCompactionStyle(CompactionStyle.LEVEL)
+        .setCompactionStyle(group.getCompactionStyle())
         // L-0 means immediately flushed memtables
         .setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount)
         .setLevel0SlowdownWritesTrigger(
@@ -258,13 +448,24 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private Cache createBlockCache(final List<AutoCloseable> closeables, final long capacity) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(capacity, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables,
+      final Cache cache,
+      final boolean prefixExtractorEnabled) {
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
 
@@ -283,8 +484,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setPinL0FilterAndIndexBlocksInCache(true)
         .setCacheIndexAndFilterBlocksWithHighPriority(true)
         // default is binary search, but all of our scans are prefix based which is a good use
-        // case for efficient hashing
-        .setIndexType(IndexType.kHashSearch)
+        // case for efficient hashing; hashing requires a prefix extractor though
+        .setIndexType(prefixExtractorEnabled ? IndexType.kHashSearch : IndexType.kBinarySearch)
         .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
         // RocksDB dev benchmarks show improvements when this is between 0.5 and 1, so let's
         // start with the middle and optimize later from there
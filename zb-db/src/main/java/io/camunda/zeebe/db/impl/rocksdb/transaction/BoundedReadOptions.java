@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.Snapshot;
+
+/**
+ * Read options to iterate over all keys with a given prefix. The iterate bounds let RocksDB stop at
+ * the end of the prefix on its own, instead of skipping over deleted entries beyond the prefix
+ * until the next live key is found, which is then only rejected in Java.
+ *
+ * <p>The bounds are direct slices, which reference the memory of a direct buffer instead of copying
+ * it. Updating the bounds therefore only copies the prefix into the buffer, so an instance can be
+ * reused for any number of iterations. As the iterator keeps referencing the bounds, an instance
+ * must not be changed while an iterator created with it is still open.
+ */
+final class BoundedReadOptions implements AutoCloseable {
+
+  private static final int INITIAL_BOUND_CAPACITY = 64;
+
+  private final ReadOptions readOptions = new ReadOptions();
+  private ByteBuffer lowerBoundBuffer = ByteBuffer.allocateDirect(INITIAL_BOUND_CAPACITY);
+  private DirectSlice lowerBound = new DirectSlice(lowerBoundBuffer, 0);
+  private ByteBuffer upperBoundBuffer = ByteBuffer.allocateDirect(INITIAL_BOUND_CAPACITY);
+  private DirectSlice upperBound = new DirectSlice(upperBoundBuffer, 0);
+
+  /**
+   * Returns read options to iterate forward over the given prefix, starting at any key. The upper
+   * bound is the smallest key which is greater than all keys with the given prefix, and the prefix
+   * extractor of the column family restricts the iterator to its prefix as well.
+   */
+  ReadOptions forward(final byte[] prefix, final int prefixLength) {
+    final int successorLength = successorLength(prefix, prefixLength);
+    if (successorLength == 0) {
+      readOptions.setIterateUpperBound(null);
+    } else {
+      ensureUpperBoundCapacity(successorLength);
+      upperBoundBuffer.put(0, prefix, 0, successorLength);
+      upperBoundBuffer.put(successorLength - 1, (byte) (prefix[successorLength - 1] + 1));
+      upperBound.setLength(successorLength);
+      readOptions.setIterateUpperBound(upperBound);
+    }
+
+    readOptions.setIterateLowerBound(null);
+    return readOptions.setTotalOrderSeek(false).setPrefixSameAsStart(true);
+  }
+
+  /**
+   * Returns read options to iterate backward over the given prefix. Only the lower bound is set:
+   * reverse iteration starts by seeking to the {@link #prefixSuccessor(byte[], int) successor} of
+   * the prefix, which may not have the same prefix as the keys, so the prefix extractor can't be
+   * used either.
+   */
+  ReadOptions reverse(final byte[] prefix, final int prefixLength) {
+    ensureLowerBoundCapacity(prefixLength);
+    lowerBoundBuffer.put(0, prefix, 0, prefixLength);
+    lowerBound.setLength(prefixLength);
+    readOptions.setIterateLowerBound(lowerBound);
+
+    readOptions.setIterateUpperBound(null);
+    return readOptions.setTotalOrderSeek(true).setPrefixSameAsStart(false);
+  }
+
+  /** Sets the snapshot to read from, which applies to any iteration until it is changed again. */
+  void setSnapshot(final Snapshot snapshot) {
+    readOptions.setSnapshot(snapshot);
+  }
+
+  @Override
+  public void close() {
+    readOptions.close();
+    lowerBound.close();
+    upperBound.close();
+  }
+
+  private void ensureLowerBoundCapacity(final int capacity) {
+    if (lowerBoundBuffer.capacity() < capacity) {
+      lowerBound.close();
+      lowerBoundBuffer = ByteBuffer.allocateDirect(capacity);
+      lowerBound = new DirectSlice(lowerBoundBuffer, 0);
+    }
+  }
+
+  private void ensureUpperBoundCapacity(final int capacity) {
+    if (upperBoundBuffer.capacity() < capacity) {
+      upperBound.close();
+      upperBoundBuffer = ByteBuffer.allocateDirect(capacity);
+      upperBound = new DirectSlice(upperBoundBuffer, 0);
+    }
+  }
+
+  /**
+   * @return the smallest key which is greater than all keys with the given prefix, or null if there
+   *     is none, i.e. if the prefix consists only of {@code 0xFF} bytes
+   */
+  static byte[] prefixSuccessor(final byte[] prefix, final int prefixLength) {
+    final int successorLength = successorLength(prefix, prefixLength);
+    if (successorLength == 0) {
+      return null;
+    }
+
+    final byte[] successor = Arrays.copyOf(prefix, successorLength);
+    successor[successorLength - 1]++;
+    return successor;
+  }
+
+  /**
+   * The successor of a prefix is the prefix without its trailing {@code 0xFF} bytes, with the last
+   * remaining byte incremented by one.
+   */
+  private static int successorLength(final byte[] prefix, final int prefixLength) {
+    int length = prefixLength;
+    while (length > 0 && prefix[length - 1] == (byte) 0xFF) {
+      length--;
+    }
+    return length;
+  }
+}
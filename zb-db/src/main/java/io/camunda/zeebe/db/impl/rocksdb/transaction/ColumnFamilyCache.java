@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A size-bounded cache of the committed values of a single column family, keyed by the serialized
+ * key (including the column family prefix). Values are kept serialized, as they are handed out by
+ * wrapping them into the value instance of the column family, exactly as if they were read from
+ * RocksDB; cached arrays are never modified.
+ *
+ * <p>The cache only ever contains committed values. Writes of a transaction are kept in the
+ * transaction (see {@link ZeebeTransaction#putCacheWrite(ColumnFamilyCache, byte[], int, byte[],
+ * int)}), and only {@link #publish(Map) published} to the cache when the transaction is committed,
+ * so a rollback simply discards them.
+ *
+ * <p>Entries are evicted in least recently used order once the estimated size of keys and values
+ * exceeds the capacity.
+ */
+final class ColumnFamilyCache {
+
+  /** Marks a key as deleted in the writes of a transaction. Compared by identity only. */
+  static final byte[] DELETED = new byte[0];
+
+  // rough estimate of the per entry overhead of the map entry, key buffer and arrays
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final LinkedHashMap<DirectBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private final long capacity;
+  private final ColumnFamilyCacheMetrics metrics;
+
+  private long size;
+  // incremented whenever committed values are published, to detect concurrent commits
+  private long version;
+
+  ColumnFamilyCache(final int partitionId, final String columnFamily, final long capacity) {
+    this.capacity = capacity;
+    metrics = new ColumnFamilyCacheMetrics(partitionId, columnFamily);
+  }
+
+  /**
+   * @return the cached value of the given key, or null if it is not cached
+   */
+  synchronized byte[] get(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+    final var value = entries.get(lookupKey);
+    if (value != null) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+    return value;
+  }
+
+  synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Caches a committed value which was read from RocksDB, unless values were published since the
+   * given version was obtained, as the read value may be outdated.
+   */
+  synchronized void putIfUnchanged(
+      final byte[] key, final int keyLength, final byte[] value, final long expectedVersion) {
+    if (version == expectedVersion) {
+      put(copyKey(key, keyLength), value);
+    }
+  }
+
+  /** Publishes the committed writes of a transaction, see {@link #DELETED}. */
+  synchronized void publish(final Map<DirectBuffer, byte[]> writes) {
+    version++;
+    writes.forEach(
+        (key, value) -> {
+          if (value == DELETED) {
+            remove(key);
+          } else {
+            put(key, value);
+          }
+        });
+  }
+
+  /** Clears the cache and removes its metrics, once the database is closed. */
+  synchronized void close() {
+    entries.clear();
+    size = 0;
+    metrics.close();
+  }
+
+  static DirectBuffer copyKey(final byte[] key, final int keyLength) {
+    return new UnsafeBuffer(Arrays.copyOf(key, keyLength));
+  }
+
+  private void put(final DirectBuffer key, final byte[] value) {
+    final var previous = entries.put(key, value);
+    long delta = sizeOf(key, value);
+    if (previous != null) {
+      delta -= sizeOf(key, previous);
+    }
+    size += delta;
+    metrics.sizeChanged(delta);
+
+    evictIfNecessary();
+  }
+
+  private void remove(final DirectBuffer key) {
+    final var previous = entries.remove(key);
+    if (previous != null) {
+      final var delta = sizeOf(key, previous);
+      size -= delta;
+      metrics.sizeChanged(-delta);
+    }
+  }
+
+  private void evictIfNecessary() {
+    final var iterator = entries.entrySet().iterator();
+    while (size > capacity && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      final var delta = sizeOf(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+      size -= delta;
+      metrics.sizeChanged(-delta);
+      metrics.evicted();
+    }
+  }
+
+  private static long sizeOf(final DirectBuffer key, final byte[] value) {
+    return (long) key.capacity() + value.length + ENTRY_OVERHEAD;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+final class ColumnFamilyCacheMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String COLUMN_FAMILY_LABEL = "columnFamily";
+
+  private static final Counter HITS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("db_cache_hit_count")
+          .help("Number of reads of a cached column family which were served from the cache")
+          .labelNames(PARTITION_LABEL, COLUMN_FAMILY_LABEL)
+          .register();
+
+  private static final Counter MISSES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("db_cache_miss_count")
+          .help("Number of reads of a cached column family which had to read from RocksDB")
+          .labelNames(PARTITION_LABEL, COLUMN_FAMILY_LABEL)
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("db_cache_eviction_count")
+          .help(
+              "Number of entries evicted from the cache of a column family to stay within its size")
+          .labelNames(PARTITION_LABEL, COLUMN_FAMILY_LABEL)
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("db_cache_size_bytes")
+          .help("Estimated size of the entries in the cache of a column family, in bytes")
+          .labelNames(PARTITION_LABEL, COLUMN_FAMILY_LABEL)
+          .register();
+
+  private final String partition;
+  private final String columnFamily;
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Gauge.Child size;
+
+  ColumnFamilyCacheMetrics(final int partitionId, final String columnFamily) {
+    partition = String.valueOf(partitionId);
+    this.columnFamily = columnFamily;
+    hits = HITS.labels(partition, columnFamily);
+    misses = MISSES.labels(partition, columnFamily);
+    evictions = EVICTIONS.labels(partition, columnFamily);
+    size = SIZE.labels(partition, columnFamily);
+  }
+
+  void hit() {
+    hits.inc();
+  }
+
+  void miss() {
+    misses.inc();
+  }
+
+  void evicted() {
+    evictions.inc();
+  }
+
+  void sizeChanged(final long delta) {
+    size.inc(delta);
+  }
+
+  void close() {
+    HITS.remove(partition, columnFamily);
+    MISSES.remove(partition, columnFamily);
+    EVICTIONS.remove(partition, columnFamily);
+    SIZE.remove(partition, columnFamily);
+  }
+}
@@ -17,12 +17,16 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -53,6 +57,9 @@ class TransactionalColumnFamily<
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
+  private final MultiGetBatch multiGetBatch = new MultiGetBatch();
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -69,6 +76,8 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily);
+    columnFamilyNativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
   }
 
   @Override
@@ -80,12 +89,7 @@ class TransactionalColumnFamily<
 
           assertKeyDoesNotExist(transaction);
           assertForeignKeysExist(transaction, key, value);
-          transaction.put(
-              transactionDb.getDefaultNativeHandle(),
-              columnFamilyContext.getKeyBufferArray(),
-              columnFamilyContext.getKeyLength(),
-              columnFamilyContext.getValueBufferArray(),
-              value.getLength());
+          put(transaction, value.getLength());
         });
   }
 
@@ -97,12 +101,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeValue(value);
           assertKeyExists(transaction);
           assertForeignKeysExist(transaction, key, value);
-          transaction.put(
-              transactionDb.getDefaultNativeHandle(),
-              columnFamilyContext.getKeyBufferArray(),
-              columnFamilyContext.getKeyLength(),
-              columnFamilyContext.getValueBufferArray(),
-              value.getLength());
+          put(transaction, value.getLength());
         });
   }
 
@@ -113,12 +112,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeKey(key);
           columnFamilyContext.writeValue(value);
           assertForeignKeysExist(transaction, key, value);
-          transaction.put(
-              transactionDb.getDefaultNativeHandle(),
-              columnFamilyContext.getKeyBufferArray(),
-              columnFamilyContext.getKeyLength(),
-              columnFamilyContext.getValueBufferArray(),
-              value.getLength());
+          put(transaction, value.getLength());
         });
   }
 
@@ -127,12 +121,7 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(
         transaction -> {
           columnFamilyContext.writeKey(key);
-          final byte[] value =
-              transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
-                  transactionDb.getReadOptionsNativeHandle(),
-                  columnFamilyContext.getKeyBufferArray(),
-                  columnFamilyContext.getKeyLength());
+          final byte[] value = getValue(transaction);
           columnFamilyContext.wrapValueView(value);
         });
     final var valueBuffer = columnFamilyContext.getValueView();
@@ -143,6 +132,12 @@ class TransactionalColumnFamily<
     return null;
   }
 
+  @Override
+  public void multiGet(
+      final Iterable<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    ensureInOpenTransaction(transaction -> multiGet(transaction, keys, visitor));
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -205,16 +200,19 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(transaction -> forEachInPrefix(startAtKey, keyPrefix, visitor));
   }
 
+  @Override
+  public void whileEqualPrefixReverse(
+      final DbKey keyPrefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    ensureInOpenTransaction(transaction -> forEachInPrefixReverse(keyPrefix, visitor));
+  }
+
   @Override
   public void deleteExisting(final KeyType key) {
     ensureInOpenTransaction(
         transaction -> {
           columnFamilyContext.writeKey(key);
           assertKeyExists(transaction);
-          transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
-              columnFamilyContext.getKeyBufferArray(),
-              columnFamilyContext.getKeyLength());
+          delete(transaction);
         });
   }
 
@@ -223,10 +221,7 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(
         transaction -> {
           columnFamilyContext.writeKey(key);
-          transaction.delete(
-              transactionDb.getDefaultNativeHandle(),
-              columnFamilyContext.getKeyBufferArray(),
-              columnFamilyContext.getKeyLength());
+          delete(transaction);
         });
   }
 
@@ -235,12 +230,7 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(
         transaction -> {
           columnFamilyContext.writeKey(key);
-          final byte[] value =
-              transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
-                  transactionDb.getReadOptionsNativeHandle(),
-                  columnFamilyContext.getKeyBufferArray(),
-                  columnFamilyContext.getKeyLength());
+          final byte[] value = getValue(transaction);
           columnFamilyContext.wrapValueView(value);
         });
     return !columnFamilyContext.isValueViewEmpty();
@@ -287,12 +277,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -303,18 +288,173 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Reads the value of the key in the column family context, from the writes of the transaction or
+   * the cache if the column family is cached. Values read from RocksDB are cached, as the key
+   * wasn't written in the transaction they are committed values.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    final byte[] key = columnFamilyContext.getKeyBufferArray();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    final var cache = getCache(transaction);
+    if (cache == null) {
+      return transaction.get(
+          columnFamilyNativeHandle,
+          transaction.readOptionsHandle(transactionDb.getReadOptionsNativeHandle()),
+          key,
+          keyLength);
+    }
+
+    final var written = transaction.getCacheWrite(cache, key, keyLength);
+    if (written != null) {
+      return written == ColumnFamilyCache.DELETED ? null : written;
+    }
+
+    final var cached = cache.get(key, keyLength);
+    if (cached != null) {
+      return cached;
+    }
+
+    final var version = cache.version();
+    final var value =
+        transaction.get(
+            columnFamilyNativeHandle, transactionDb.getReadOptionsNativeHandle(), key, keyLength);
+    if (value != null) {
+      cache.putIfUnchanged(key, keyLength, value, version);
+    }
+    return value;
+  }
+
+  /**
+   * Resolves the values of all keys which were written in the transaction or are cached first, and
+   * looks up the remaining ones with a single multi get, before visiting any of them.
+   */
+  private void multiGet(
+      final ZeebeTransaction transaction,
+      final Iterable<KeyType> keys,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor)
+      throws Exception {
+    // reuse the scratch space of previous calls, unless a visitor of an ongoing call looks up more
+    // keys of this column family
+    final var batch = multiGetBatch.inUse ? new MultiGetBatch() : multiGetBatch;
+    batch.inUse = true;
+    try {
+      multiGet(transaction, keys, visitor, batch);
+    } finally {
+      batch.reset();
+    }
+  }
+
+  private void multiGet(
+      final ZeebeTransaction transaction,
+      final Iterable<KeyType> keys,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor,
+      final MultiGetBatch batch)
+      throws Exception {
+    final var cache = getCache(transaction);
+    final List<byte[]> serializedKeys = batch.keys;
+    final List<byte[]> values = batch.values;
+    final List<byte[]> missingKeys = batch.missingKeys;
+
+    for (final KeyType key : keys) {
+      columnFamilyContext.writeKey(key);
+      final byte[] keyBytes =
+          batch.copyKey(
+              serializedKeys.size(),
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength());
+      serializedKeys.add(keyBytes);
+
+      byte[] value = null;
+      if (cache != null) {
+        value = transaction.getCacheWrite(cache, keyBytes, keyBytes.length);
+        if (value == null) {
+          value = cache.get(keyBytes, keyBytes.length);
+        }
+      }
+
+      if (value == null) {
+        missingKeys.add(keyBytes);
+      }
+      values.add(value);
+    }
+
+    if (!missingKeys.isEmpty()) {
+      final var version = cache != null ? cache.version() : 0;
+      final var missingValues =
+          transaction.multiGet(
+              transaction.readOptions(transactionDb.getDefaultReadOptions()),
+              columnFamilyHandle,
+              missingKeys);
+
+      for (int i = 0, missing = 0; i < values.size(); i++) {
+        if (values.get(i) == null) {
+          final var value = missingValues.get(missing++);
+          values.set(i, value);
+
+          if (cache != null && value != null) {
+            final var keyBytes = serializedKeys.get(i);
+            cache.putIfUnchanged(keyBytes, keyBytes.length, value, version);
+          }
+        }
+      }
+    }
+
+    for (int i = 0; i < serializedKeys.size(); i++) {
+      final var value = values.get(i);
+      // like get, treats empty values as absent, which also covers deleted keys
+      if (value == null || value.length == 0) {
+        continue;
+      }
+
+      if (!visit(serializedKeys.get(i), value, visitor)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the cache of the column family to read through, or null if it isn't cached. A
+   * transaction which reads from a snapshot bypasses the cache, as the cache may already contain
+   * values which were committed after the snapshot was taken.
+   */
+  private ColumnFamilyCache getCache(final ZeebeTransaction transaction) {
+    return transaction.readsFromSnapshot()
+        ? null
+        : transactionDb.getColumnFamilyCache(columnFamily);
+  }
+
+  private void put(final ZeebeTransaction transaction, final int valueLength) throws Exception {
+    final byte[] key = columnFamilyContext.getKeyBufferArray();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    final byte[] value = columnFamilyContext.getValueBufferArray();
+    transaction.put(columnFamilyNativeHandle, key, keyLength, value, valueLength);
+
+    final var cache = transactionDb.getColumnFamilyCache(columnFamily);
+    if (cache != null) {
+      transaction.putCacheWrite(cache, key, keyLength, value, valueLength);
+    }
+  }
+
+  private void delete(final ZeebeTransaction transaction) throws Exception {
+    final byte[] key = columnFamilyContext.getKeyBufferArray();
+    final int keyLength = columnFamilyContext.getKeyLength();
+    transaction.delete(columnFamilyNativeHandle, key, keyLength);
+
+    final var cache = transactionDb.getColumnFamilyCache(columnFamily);
+    if (cache != null) {
+      transaction.putCacheWrite(
+          cache, key, keyLength, ColumnFamilyCache.DELETED, ColumnFamilyCache.DELETED.length);
+    }
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -327,7 +467,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
@@ -359,33 +499,57 @@ class TransactionalColumnFamily<
     Objects.requireNonNull(prefix);
     Objects.requireNonNull(visitor);
 
-    /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
-     *
-     * <p>While iterating over subsequent keys we have to validate it.
-     */
-    columnFamilyContext.withPrefixKey(
+    withPrefixIterator(
         prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
+        false,
+        (iterator, prefixKey, prefixLength) -> {
+          boolean shouldVisitNext = true;
+
+          for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+              iterator.isValid() && shouldVisitNext;
+              iterator.next()) {
+            final byte[] keyBytes = iterator.key();
+            if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+              break;
+            }
 
-            boolean shouldVisitNext = true;
+            shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+          }
+        });
+  }
 
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                iterator.isValid() && shouldVisitNext;
-                iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                break;
-              }
+  /**
+   * Same as {@link #forEachInPrefix(DbKey, KeyValuePairVisitor)}, but visits the keys in reverse
+   * order, starting with the greatest key with the given prefix.
+   */
+  private void forEachInPrefixReverse(
+      final DbKey prefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(prefix);
+    Objects.requireNonNull(visitor);
 
-              shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+    withPrefixIterator(
+        prefix,
+        true,
+        (iterator, prefixKey, prefixLength) -> {
+          final byte[] seekTarget = BoundedReadOptions.prefixSuccessor(prefixKey, prefixLength);
+          if (seekTarget == null) {
+            iterator.seekToLast();
+          } else {
+            iterator.seekForPrev(seekTarget);
+          }
+
+          boolean shouldVisitNext = true;
+          for (; iterator.isValid() && shouldVisitNext; iterator.prev()) {
+            final byte[] keyBytes = iterator.key();
+            if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+              if (Arrays.equals(keyBytes, seekTarget)) {
+                // seeking for the previous key positions on the successor itself if it exists
+                continue;
+              }
+              break;
             }
+
+            shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
           }
         });
   }
@@ -405,46 +569,68 @@ class TransactionalColumnFamily<
 
     final var count = new AtomicLong(0);
 
-    /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
-     *
-     * <p>While iterating over subsequent keys we have to validate it.
-     */
-    columnFamilyContext.withPrefixKey(
+    withPrefixIterator(
         prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                iterator.isValid();
-                iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                break;
-              }
-
-              count.getAndIncrement();
+        false,
+        (iterator, prefixKey, prefixLength) -> {
+          for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
+              iterator.isValid();
+              iterator.next()) {
+            final byte[] keyBytes = iterator.key();
+            if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+              break;
             }
+
+            count.getAndIncrement();
           }
         });
 
     return count.get();
   }
 
+  /**
+   * Opens an iterator which is bounded to the given prefix. Besides skipping files which do not
+   * contain keys with the prefix, the bounds let RocksDB stop at the end of the prefix itself,
+   * without skipping over deleted entries beyond it. The iterator may still return keys outside of
+   * the prefix, e.g. pending writes of the transaction, so the consumer still has to verify that
+   * keys match the prefix.
+   *
+   * @param reverse whether the iterator is used to iterate backward over the prefix
+   */
+  private void withPrefixIterator(
+      final DbKey prefix, final boolean reverse, final PrefixIteratorConsumer consumer) {
+    columnFamilyContext.withPrefixKey(
+        prefix,
+        (prefixKey, prefixLength) -> {
+          final var transaction = (ZeebeTransaction) context.getCurrentTransaction();
+          final var boundedReadOptions = transaction.acquireBoundedReadOptions();
+          final var readOptions =
+              reverse
+                  ? boundedReadOptions.reverse(prefixKey, prefixLength)
+                  : boundedReadOptions.forward(prefixKey, prefixLength);
+
+          try (final RocksIterator iterator = newIterator(context, readOptions)) {
+            consumer.accept(iterator, prefixKey, prefixLength);
+          } finally {
+            transaction.releaseBoundedReadOptions(boundedReadOptions);
+          }
+        });
+  }
+
   private boolean visit(
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
       final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
+    return visit(iterator.key(), iterator.value(), iteratorConsumer);
+  }
 
+  private boolean visit(
+      final byte[] keyBytes,
+      final byte[] valueBytes,
+      final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer) {
     columnFamilyContext.wrapKeyView(keyBytes);
-    columnFamilyContext.wrapValueView(iterator.value());
+    columnFamilyContext.wrapValueView(valueBytes);
 
     final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
@@ -453,4 +639,45 @@ class TransactionalColumnFamily<
 
     return iteratorConsumer.visit(keyInstance, valueInstance);
   }
+
+  /**
+   * Scratch space of {@link #multiGet(Iterable, KeyValuePairVisitor)}. RocksDB expects each key as
+   * an array of its exact length, so the arrays are kept per position in the batch and reused as
+   * long as the key at that position has the same length, which is usually the case for keys of a
+   * column family.
+   */
+  private static final class MultiGetBatch {
+    private final List<byte[]> keys = new ArrayList<>();
+    private final List<byte[]> values = new ArrayList<>();
+    private final List<byte[]> missingKeys = new ArrayList<>();
+    private final List<byte[]> keyBuffers = new ArrayList<>();
+    private boolean inUse;
+
+    private byte[] copyKey(final int position, final byte[] key, final int keyLength) {
+      byte[] keyBuffer = position < keyBuffers.size() ? keyBuffers.get(position) : null;
+      if (keyBuffer == null || keyBuffer.length != keyLength) {
+        keyBuffer = new byte[keyLength];
+        if (position < keyBuffers.size()) {
+          keyBuffers.set(position, keyBuffer);
+        } else {
+          keyBuffers.add(keyBuffer);
+        }
+      }
+
+      System.arraycopy(key, 0, keyBuffer, 0, keyLength);
+      return keyBuffer;
+    }
+
+    private void reset() {
+      keys.clear();
+      values.clear();
+      missingKeys.clear();
+      inUse = false;
+    }
+  }
+
+  @FunctionalInterface
+  private interface PrefixIteratorConsumer {
+    void accept(RocksIterator iterator, byte[] prefixKey, int prefixLength);
+  }
 }
@@ -9,28 +9,67 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Snapshot;
 import org.rocksdb.Transaction;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  // writes to cached column families, which are published to the caches on commit
+  private final Map<ColumnFamilyCache, Map<DirectBuffer, byte[]>> cacheWrites =
+      new IdentityHashMap<>();
+  private final UnsafeBuffer cacheLookupKey = new UnsafeBuffer(0, 0);
+  // notified once the current transaction is committed or rolled back
+  private final List<TransactionListener> listeners = new ArrayList<>();
+  // read options are reused across iterations, one per currently open iterator
+  private final Deque<BoundedReadOptions> boundedReadOptions = new ArrayDeque<>();
+  // only set if the transaction reads from the snapshot taken when it was started
+  private final ReadOptions snapshotReadOptions;
+  private final long snapshotReadOptionsHandle;
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
+  private Snapshot snapshot;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, false);
+  }
+
+  public ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final boolean readFromSnapshot) {
     this.transactionRenovator = transactionRenovator;
     this.transaction = transaction;
+    if (readFromSnapshot) {
+      snapshotReadOptions = new ReadOptions();
+      snapshotReadOptionsHandle = ZeebeTransactionDb.getNativeHandle(snapshotReadOptions);
+    } else {
+      snapshotReadOptions = null;
+      snapshotReadOptionsHandle = 0;
+    }
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -69,6 +108,12 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -83,11 +128,93 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Returns read options for a bounded iteration, which must be given back via {@link
+   * #releaseBoundedReadOptions(BoundedReadOptions)} once the iterator using them is closed.
+   */
+  BoundedReadOptions acquireBoundedReadOptions() {
+    var readOptions = boundedReadOptions.poll();
+    if (readOptions == null) {
+      readOptions = new BoundedReadOptions();
+    }
+
+    if (snapshot != null) {
+      readOptions.setSnapshot(snapshot);
+    }
+    return readOptions;
+  }
+
+  void releaseBoundedReadOptions(final BoundedReadOptions readOptions) {
+    boundedReadOptions.push(readOptions);
+  }
+
+  /**
+   * Records that the given value was written in this transaction, to be published to the given
+   * cache on commit. Pass {@link ColumnFamilyCache#DELETED} as value to record a deletion.
+   */
+  void putCacheWrite(
+      final ColumnFamilyCache cache,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    final byte[] valueCopy =
+        value == ColumnFamilyCache.DELETED ? value : Arrays.copyOf(value, valueLength);
+    cacheWrites
+        .computeIfAbsent(cache, c -> new HashMap<>())
+        .put(ColumnFamilyCache.copyKey(key, keyLength), valueCopy);
+  }
+
+  /**
+   * @return the value written in this transaction for the given key, {@link
+   *     ColumnFamilyCache#DELETED} if it was deleted, or null if it wasn't written
+   */
+  byte[] getCacheWrite(final ColumnFamilyCache cache, final byte[] key, final int keyLength) {
+    final var writes = cacheWrites.get(cache);
+    if (writes == null) {
+      return null;
+    }
+
+    cacheLookupKey.wrap(key, 0, keyLength);
+    return writes.get(cacheLookupKey);
+  }
+
   void resetTransaction() {
+    cacheWrites.clear();
+    // the writes of a transaction which was neither committed nor rolled back are discarded
+    listeners.forEach(TransactionListener::onRollback);
+    listeners.clear();
     transaction = transactionRenovator.renewTransaction(transaction);
+    if (snapshotReadOptions != null) {
+      // the snapshot is owned by the transaction and released when it is renewed again
+      transaction.setSnapshot();
+      snapshot = transaction.getSnapshot();
+      snapshotReadOptions.setSnapshot(snapshot);
+    }
     inCurrentTransaction = true;
   }
 
+  /**
+   * @return true if all reads of this transaction see the state of the database as of when the
+   *     transaction was started, plus its own writes
+   */
+  boolean readsFromSnapshot() {
+    return snapshotReadOptions != null;
+  }
+
+  /**
+   * @return the read options of this transaction if it {@link #readsFromSnapshot() reads from a
+   *     snapshot}, otherwise the given default read options
+   */
+  ReadOptions readOptions(final ReadOptions defaultReadOptions) {
+    return snapshotReadOptions != null ? snapshotReadOptions : defaultReadOptions;
+  }
+
+  /** Same as {@link #readOptions(ReadOptions)}, for the native handle of the read options. */
+  long readOptionsHandle(final long defaultReadOptionsHandle) {
+    return snapshotReadOptions != null ? snapshotReadOptionsHandle : defaultReadOptionsHandle;
+  }
+
   boolean isInCurrentTransaction() {
     return inCurrentTransaction;
   }
@@ -105,6 +232,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void addTransactionListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
   @Override
   public void commit() throws RocksDBException {
     try {
@@ -132,16 +264,34 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void commitInternal() throws RocksDBException {
-    inCurrentTransaction = false;
+    // listeners may write to the transaction, and register further listeners while doing so
+    for (int i = 0; i < listeners.size(); i++) {
+      listeners.get(i).beforeCommit();
+    }
     transaction.commit();
+    // only once the commit succeeded, otherwise the transaction is still open and can be retried
+    // or rolled back
+    inCurrentTransaction = false;
+    cacheWrites.forEach(ColumnFamilyCache::publish);
+    cacheWrites.clear();
+    listeners.forEach(TransactionListener::onCommit);
+    listeners.clear();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    cacheWrites.clear();
     transaction.rollback();
+    listeners.forEach(TransactionListener::onRollback);
+    listeners.clear();
   }
 
   public void close() {
+    boundedReadOptions.forEach(BoundedReadOptions::close);
+    boundedReadOptions.clear();
+    if (snapshotReadOptions != null) {
+      snapshotReadOptions.close();
+    }
     transaction.close();
   }
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
+
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.DbKey;
@@ -15,20 +17,31 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
 import org.rocksdb.OptimisticTransactionDB;
-import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -38,26 +51,54 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final String DEFAULT_COLUMN_FAMILY_NAME =
+      new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8);
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
+
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
-  private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
 
+  // all opened physical column families by name, including ones which are not configured anymore
+  private final Map<String, PhysicalColumnFamily> physicalColumnFamilies;
+  private final PhysicalColumnFamily defaultColumnFamily;
+  // logical column families which are not part of any group are not contained
+  private final Map<String, PhysicalColumnFamily> groupedColumnFamilies = new HashMap<>();
+
+  // caches of the column families which opted in to caching, shared by all their instances
+  private final Map<Enum<?>, ColumnFamilyCache> columnFamilyCaches = new ConcurrentHashMap<>();
+  private final long columnFamilyCacheSize;
+  private final int partitionId;
+
   protected ZeebeTransactionDb(
-      final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> handles,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
-      final ConsistencyChecksSettings consistencyChecksSettings) {
-    this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final int partitionId) {
     this.optimisticTransactionDB = optimisticTransactionDB;
+    this.partitionId = partitionId;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
+    columnFamilyCacheSize = rocksDbConfiguration.getColumnFamilyCacheSize();
+
+    // read concurrently when exporting metrics, while unused column families may be dropped
+    physicalColumnFamilies = new ConcurrentHashMap<>();
+    handles.forEach(
+        (name, handle) ->
+            physicalColumnFamilies.put(
+                name, new PhysicalColumnFamily(name, handle, getNativeHandle(handle))));
+    defaultColumnFamily = physicalColumnFamilies.get(DEFAULT_COLUMN_FAMILY_NAME);
+    for (final var group : rocksDbConfiguration.getColumnFamilyGroups()) {
+      final var physicalColumnFamily = physicalColumnFamilies.get(group.getName());
+      group
+          .getColumnFamilies()
+          .forEach(name -> groupedColumnFamilies.put(name, physicalColumnFamily));
+    }
 
     prefixReadOptions =
         new ReadOptions()
@@ -76,23 +117,37 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
-          final Options options,
+          final DBOptions options,
           final String path,
+          final List<ColumnFamilyDescriptor> columnFamilies,
           final List<AutoCloseable> closables,
           final RocksDbConfiguration rocksDbConfiguration,
-          final ConsistencyChecksSettings consistencyChecksSettings)
+          final ConsistencyChecksSettings consistencyChecksSettings,
+          final Class<ColumnFamilyNames> columnFamilyType,
+          final int partitionId)
           throws RocksDBException {
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options, path);
+        OptimisticTransactionDB.open(options, path, columnFamilies, handles);
     closables.add(optimisticTransactionDB);
-    final var defaultColumnFamilyHandle = optimisticTransactionDB.getDefaultColumnFamily();
+    // handles have to be closed before the database
+    closables.addAll(handles);
+
+    final Map<String, ColumnFamilyHandle> handlesByName = new LinkedHashMap<>();
+    for (final var handle : handles) {
+      handlesByName.put(new String(handle.getName(), StandardCharsets.UTF_8), handle);
+    }
 
-    return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
-        optimisticTransactionDB,
-        closables,
-        rocksDbConfiguration,
-        consistencyChecksSettings);
+    final var db =
+        new ZeebeTransactionDb<ColumnFamilyNames>(
+            handlesByName,
+            optimisticTransactionDB,
+            closables,
+            rocksDbConfiguration,
+            consistencyChecksSettings,
+            partitionId);
+    db.migrateColumnFamilies(columnFamilyType);
+    return db;
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -108,16 +163,31 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  /** Returns the handle of the physical column family in which the given one is stored. */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final Enum<?> columnFamily) {
+    return getPhysicalColumnFamily(columnFamily).handle();
+  }
+
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
   }
 
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  /** Returns the native handle of the physical column family in which the given one is stored. */
+  protected long getColumnFamilyNativeHandle(final Enum<?> columnFamily) {
+    return getPhysicalColumnFamily(columnFamily).nativeHandle();
+  }
+
+  /** Returns the cache of the given column family, or null if it is not cached. */
+  ColumnFamilyCache getColumnFamilyCache(final Enum<?> columnFamily) {
+    return columnFamilyCaches.get(columnFamily);
+  }
+
+  private PhysicalColumnFamily getPhysicalColumnFamily(final Enum<?> columnFamily) {
+    return groupedColumnFamilies.getOrDefault(columnFamily.name(), defaultColumnFamily);
   }
 
   @Override
@@ -131,6 +201,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         this, consistencyChecksSettings, columnFamily, context, keyInstance, valueInstance);
   }
 
+  @Override
+  public <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createCachedColumnFamily(
+          final ColumnFamilyNames columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance) {
+    if (columnFamilyCacheSize > 0) {
+      columnFamilyCaches.computeIfAbsent(
+          columnFamily, cf -> new ColumnFamilyCache(partitionId, cf.name(), columnFamilyCacheSize));
+    }
+    return createColumnFamily(columnFamily, context, keyInstance, valueInstance);
+  }
+
   @Override
   public void createSnapshot(final File snapshotDir) {
     try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
@@ -146,12 +230,32 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   @Override
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
+    if (physicalColumnFamilies.size() > 1) {
+      propertyValue = getAggregatedProperty(propertyName);
+    }
+
+    if (propertyValue == null) {
+      try {
+        propertyValue =
+            optimisticTransactionDB.getProperty(defaultColumnFamily.handle(), propertyName);
+      } catch (final RocksDBException rde) {
+        LOG.debug(rde.getMessage(), rde);
+      }
+    }
+    return Optional.ofNullable(propertyValue);
+  }
+
+  /**
+   * Returns the given property summed over all column families, or null if it is not numeric, in
+   * which case only the value of the default column family can be returned.
+   */
+  private String getAggregatedProperty(final String propertyName) {
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      return String.valueOf(optimisticTransactionDB.getAggregatedLongProperty(propertyName));
     } catch (final RocksDBException rde) {
-      LOG.debug(rde.getMessage(), rde);
+      LOG.trace(rde.getMessage(), rde);
+      return null;
     }
-    return Optional.ofNullable(propertyValue);
   }
 
   @Override
@@ -162,6 +266,14 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return new DefaultTransactionContext(zeebeTransaction);
   }
 
+  @Override
+  public TransactionContext createSnapshotReadContext() {
+    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
+    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this, true);
+    closables.add(zeebeTransaction);
+    return new DefaultTransactionContext(zeebeTransaction);
+  }
+
   @Override
   public boolean isEmpty(
       final ColumnFamilyNames columnFamilyName, final TransactionContext context) {
@@ -174,6 +286,124 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
   }
 
+  /**
+   * Moves the entries of all logical column families to the physical column family they belong to
+   * as per the configured groups, and drops physical column families which are not configured
+   * anymore. This is done when the database is opened, before any entry can be accessed.
+   *
+   * <p>As keys contain the logical column family prefix in all physical column families, entries
+   * are moved as is. Each batch of moved entries is written atomically, so a migration which is
+   * interrupted is simply continued the next time the database is opened.
+   *
+   * @param columnFamilyType the type of the logical column families, which is required to resolve
+   *     the groups; if null, no groups can be configured, and all entries are moved into the
+   *     default column family
+   */
+  private void migrateColumnFamilies(final Class<ColumnFamilyNames> columnFamilyType)
+      throws RocksDBException {
+    if (physicalColumnFamilies.size() == 1) {
+      return;
+    }
+
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true)) {
+      if (columnFamilyType == null) {
+        for (final var source : physicalColumnFamilies.values()) {
+          if (source != defaultColumnFamily) {
+            moveEntries(null, source, defaultColumnFamily, readOptions);
+          }
+        }
+      } else {
+        for (final var columnFamily : columnFamilyType.getEnumConstants()) {
+          final var target = getPhysicalColumnFamily(columnFamily);
+          for (final var source : physicalColumnFamilies.values()) {
+            if (source != target) {
+              moveEntries(columnFamily, source, target, readOptions);
+            }
+          }
+        }
+      }
+
+      dropUnusedColumnFamilies(readOptions);
+    }
+  }
+
+  /** Moves the entries of the given column family, or all entries if it is null. */
+  private void moveEntries(
+      final ColumnFamilyNames columnFamily,
+      final PhysicalColumnFamily source,
+      final PhysicalColumnFamily target,
+      final ReadOptions readOptions)
+      throws RocksDBException {
+    final var prefix = new byte[columnFamily == null ? 0 : Long.BYTES];
+    if (columnFamily != null) {
+      new UnsafeBuffer(prefix)
+          .putLong(0, columnFamily.ordinal(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    }
+
+    long movedEntries = 0;
+    try (final var iterator = optimisticTransactionDB.newIterator(source.handle(), readOptions);
+        final var batch = new WriteBatch()) {
+      for (iterator.seek(prefix); iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (!startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target.handle(), key, iterator.value());
+        batch.delete(source.handle(), key);
+        movedEntries++;
+
+        if (batch.count() >= MIGRATION_BATCH_SIZE) {
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+
+      iterator.status();
+      if (batch.count() > 0) {
+        optimisticTransactionDB.write(defaultWriteOptions, batch);
+      }
+    }
+
+    if (movedEntries > 0) {
+      LOG.info(
+          "Moved {} entries of column family {} from RocksDB column family '{}' to '{}'",
+          movedEntries,
+          columnFamily == null ? "*" : columnFamily,
+          source.name(),
+          target.name());
+    }
+  }
+
+  private void dropUnusedColumnFamilies(final ReadOptions readOptions) throws RocksDBException {
+    final var usedColumnFamilies = new ArrayList<PhysicalColumnFamily>();
+    usedColumnFamilies.add(defaultColumnFamily);
+    usedColumnFamilies.addAll(groupedColumnFamilies.values());
+
+    final var iterator = physicalColumnFamilies.values().iterator();
+    while (iterator.hasNext()) {
+      final var physicalColumnFamily = iterator.next();
+      if (usedColumnFamilies.contains(physicalColumnFamily)) {
+        continue;
+      }
+
+      try (final var entries =
+          optimisticTransactionDB.newIterator(physicalColumnFamily.handle(), readOptions)) {
+        entries.seekToFirst();
+        if (entries.isValid()) {
+          LOG.warn(
+              "Expected RocksDB column family '{}' to be empty after migrating all column families, but it still contains entries; it will not be dropped",
+              physicalColumnFamily.name());
+          continue;
+        }
+      }
+
+      optimisticTransactionDB.dropColumnFamily(physicalColumnFamily.handle());
+      iterator.remove();
+      LOG.info("Dropped unused RocksDB column family '{}'", physicalColumnFamily.name());
+    }
+  }
+
   @Override
   public void close() {
     // Correct order of closing
@@ -184,6 +414,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     // 5. db options
     // 6. column family options
     // https://github.com/facebook/rocksdb/wiki/RocksJava-Basics#opening-a-database-with-column-families
+    columnFamilyCaches.values().forEach(ColumnFamilyCache::close);
     Collections.reverse(closables);
     closables.forEach(
         closable -> {
@@ -194,4 +425,6 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           }
         });
   }
+
+  private record PhysicalColumnFamily(String name, ColumnFamilyHandle handle, long nativeHandle) {}
 }
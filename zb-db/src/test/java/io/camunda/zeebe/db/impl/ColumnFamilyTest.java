@@ -11,11 +11,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
@@ -466,6 +468,146 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  @Test
+  public void shouldMultiGetExistingKeysInOrder() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        wrapKeys(3, 4, 1),
+        (key, value) -> {
+          keys.add(key.getValue());
+          values.add(value.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(3L, 1L);
+    assertThat(values).containsExactly(30L, 10L);
+  }
+
+  @Test
+  public void shouldStopMultiGetWhenVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.multiGet(
+        wrapKeys(1, 2),
+        (key, value) -> {
+          keys.add(key.getValue());
+          return false;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldMultiGetWritesOfCurrentTransaction() throws Exception {
+    // given
+    final var context = zeebeDb.createContext();
+    final var transactionKey = new DbLong();
+    final var transactionValue = new DbLong();
+    final var transactionColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, context, transactionKey, transactionValue);
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          transactionKey.wrapLong(1);
+          transactionColumnFamily.deleteExisting(transactionKey);
+          transactionKey.wrapLong(3);
+          transactionValue.wrapLong(30);
+          transactionColumnFamily.insert(transactionKey, transactionValue);
+
+          transactionColumnFamily.multiGet(
+              wrapKeys(1, 2, 3),
+              (key, value) -> {
+                values.add(value.getValue());
+                return true;
+              });
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(values).containsExactly(20L, 30L);
+  }
+
+  @Test
+  public void shouldMultiGetRepeatedly() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    final List<Long> values = new ArrayList<>();
+    final KeyValuePairVisitor<DbLong, DbLong> visitor =
+        (key, value) -> {
+          values.add(value.getValue());
+          return true;
+        };
+
+    // when - batches of different sizes reuse the same scratch space
+    columnFamily.multiGet(wrapKeys(1, 2, 3), visitor);
+    columnFamily.multiGet(wrapKeys(3), visitor);
+    columnFamily.multiGet(wrapKeys(2, 4, 1), visitor);
+
+    // then
+    assertThat(values).containsExactly(10L, 20L, 30L, 30L, 20L, 10L);
+  }
+
+  @Test
+  public void shouldMultiGetWhileVisitingMultiGet() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    final List<Long> outerKeys = new ArrayList<>();
+    final List<Long> innerValues = new ArrayList<>();
+
+    // when
+    columnFamily.multiGet(
+        wrapKeys(1, 2),
+        (key, value) -> {
+          outerKeys.add(key.getValue());
+          columnFamily.multiGet(
+              wrapKeys(3),
+              (innerKey, innerValue) -> {
+                innerValues.add(innerValue.getValue());
+                return true;
+              });
+          return true;
+        });
+
+    // then
+    assertThat(outerKeys).containsExactly(1L, 2L);
+    assertThat(innerValues).containsExactly(30L, 30L);
+  }
+
+  private Iterable<DbLong> wrapKeys(final long... keys) {
+    final var keyInstance = new DbLong();
+    return () ->
+        Arrays.stream(keys)
+            .mapToObj(
+                k -> {
+                  keyInstance.wrapLong(k);
+                  return keyInstance;
+                })
+            .iterator();
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
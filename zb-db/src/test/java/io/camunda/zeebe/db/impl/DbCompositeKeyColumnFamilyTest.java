@@ -613,6 +613,80 @@ public final class DbCompositeKeyColumnFamilyTest {
     assertThat(count).describedAs("Only counts entries matching 'foo'").isEqualTo(2);
   }
 
+  @Test
+  public void shouldUseWhileEqualPrefixReverse() {
+    // given
+    upsertKeyValuePair("foo", 12, "baring");
+    upsertKeyValuePair("foobar", 53, "expected value");
+    upsertKeyValuePair("foo", 13, "different value");
+    upsertKeyValuePair("foo", 213, "oh wow");
+    upsertKeyValuePair("foo", 53, "expected value");
+    upsertKeyValuePair("fo", 255, "as you know");
+    upsertKeyValuePair("hello", 213, "world");
+
+    final List<Long> secondKeyParts = new ArrayList<>();
+
+    // when
+    firstKey.wrapString("foo");
+    columnFamily.whileEqualPrefixReverse(
+        firstKey,
+        (key, value) -> {
+          assertThat(key.first().toString()).isEqualTo("foo");
+          secondKeyParts.add(key.second().getValue());
+          return true;
+        });
+
+    // then
+    assertThat(secondKeyParts).containsExactly(213L, 53L, 13L, 12L);
+  }
+
+  @Test
+  public void shouldStopWhileEqualPrefixReverse() {
+    // given
+    upsertKeyValuePair("foo", 12, "baring");
+    upsertKeyValuePair("foo", 13, "different value");
+    upsertKeyValuePair("foo", 213, "oh wow");
+
+    final List<String> values = new ArrayList<>();
+
+    // when
+    firstKey.wrapString("foo");
+    columnFamily.whileEqualPrefixReverse(
+        firstKey,
+        (key, value) -> {
+          values.add(value.toString());
+          return false;
+        });
+
+    // then
+    assertThat(values).containsExactly("oh wow");
+  }
+
+  @Test
+  public void shouldNotVisitDeletedKeysWhileEqualPrefixReverse() {
+    // given
+    upsertKeyValuePair("foo", 12, "baring");
+    upsertKeyValuePair("foo", 13, "different value");
+    upsertKeyValuePair("foo", 213, "oh wow");
+    firstKey.wrapString("foo");
+    secondKey.wrapLong(213);
+    columnFamily.deleteExisting(compositeKey);
+
+    final List<String> values = new ArrayList<>();
+
+    // when
+    firstKey.wrapString("foo");
+    columnFamily.whileEqualPrefixReverse(
+        firstKey,
+        (key, value) -> {
+          values.add(value.toString());
+          return true;
+        });
+
+    // then
+    assertThat(values).containsExactly("different value", "baring");
+  }
+
   private void upsertKeyValuePair(final String firstKey, final long secondKey, final String value) {
     this.firstKey.wrapString(firstKey);
     this.secondKey.wrapLong(secondKey);
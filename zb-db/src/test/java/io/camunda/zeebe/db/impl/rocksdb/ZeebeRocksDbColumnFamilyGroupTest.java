@@ -0,0 +1,262 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbString;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+final class ZeebeRocksDbColumnFamilyGroupTest {
+  private @TempDir File path;
+
+  @Test
+  void shouldStoreGroupedColumnFamiliesInOwnRocksDbColumnFamily() throws Exception {
+    // given
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("hot")
+                .setColumnFamilies(Set.of(TestColumnFamilies.HOT.name()))
+                .setBlockCacheShare(0.5)
+                .setCompactionStyle(CompactionStyle.UNIVERSAL)
+                .setPrefixExtractorEnabled(false));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.HOT, "foo", "hot");
+      put(db, TestColumnFamilies.COLD, "foo", "cold");
+    }
+
+    // then
+    assertThat(listColumnFamilies()).containsExactlyInAnyOrder("default", "hot");
+    try (final var db = factory.createDb(path)) {
+      assertThat(get(db, TestColumnFamilies.HOT, "foo")).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, "foo")).isEqualTo("cold");
+    }
+  }
+
+  @Test
+  void shouldMigrateEntriesIntoGroup() throws Exception {
+    // given
+    try (final var db = createFactory().createDb(path)) {
+      put(db, TestColumnFamilies.HOT, "foo", "hot");
+      put(db, TestColumnFamilies.COLD, "foo", "cold");
+    }
+
+    // when
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("hot").setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())));
+    try (final var db = factory.createDb(path)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.HOT, "foo")).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, "foo")).isEqualTo("cold");
+      assertThat(db.getProperty("rocksdb.estimate-num-keys")).isPresent();
+    }
+  }
+
+  @Test
+  void shouldMigrateEntriesOutOfRemovedGroup() throws Exception {
+    // given
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("hot").setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())));
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.HOT, "foo", "hot");
+      put(db, TestColumnFamilies.COLD, "foo", "cold");
+    }
+
+    // when
+    try (final var db = createFactory().createDb(path)) {
+      // then
+      assertThat(get(db, TestColumnFamilies.HOT, "foo")).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, "foo")).isEqualTo("cold");
+    }
+
+    assertThat(listColumnFamilies()).containsExactly("default");
+  }
+
+  @Test
+  void shouldMigrateEntriesWhenOpened() throws Exception {
+    // given
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("hot").setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())));
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.HOT, "foo", "hot");
+    }
+
+    // when
+    //noinspection EmptyTryBlock
+    try (final var ignored = createFactory().createDb(path)) {
+      // no column family is accessed
+    }
+
+    // then
+    assertThat(listColumnFamilies()).containsExactly("default");
+  }
+
+  @Test
+  void shouldOpenSnapshotTakenWithoutGroups(final @TempDir File snapshotDir) throws Exception {
+    // given
+    final var snapshotPath = new File(snapshotDir, "snapshot");
+    final var runtimePath = new File(snapshotDir, "runtime");
+    try (final var db = createFactory().createDb(path)) {
+      put(db, TestColumnFamilies.HOT, "foo", "hot");
+      put(db, TestColumnFamilies.COLD, "foo", "cold");
+      db.createSnapshot(snapshotPath);
+    }
+
+    // when
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("hot").setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())));
+    try (final var snapshot = factory.openSnapshotOnlyDb(snapshotPath)) {
+      snapshot.createSnapshot(runtimePath);
+    }
+
+    // then
+    try (final var db = factory.createDb(runtimePath)) {
+      assertThat(get(db, TestColumnFamilies.HOT, "foo")).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, "foo")).isEqualTo("cold");
+    }
+  }
+
+  @Test
+  void shouldGetNonNumericPropertyWithGroups() {
+    // given
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("hot").setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())));
+
+    // when
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.HOT, "foo", "hot");
+
+      // then
+      assertThat(db.getProperty("rocksdb.stats"))
+          .hasValueSatisfying(v -> assertThat(v).isNotBlank());
+      assertThat(db.getProperty("rocksdb.estimate-num-keys")).isPresent();
+    }
+  }
+
+  @Test
+  void shouldSnapshotAllColumnFamilies(final @TempDir File snapshotDir) throws Exception {
+    // given
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("hot").setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())));
+    final var snapshotPath = new File(snapshotDir, "snapshot");
+    try (final var db = factory.createDb(path)) {
+      put(db, TestColumnFamilies.HOT, "foo", "hot");
+      put(db, TestColumnFamilies.COLD, "foo", "cold");
+
+      // when
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    try (final var db = factory.createDb(snapshotPath)) {
+      assertThat(get(db, TestColumnFamilies.HOT, "foo")).isEqualTo("hot");
+      assertThat(get(db, TestColumnFamilies.COLD, "foo")).isEqualTo("cold");
+    }
+  }
+
+  @Test
+  void shouldRejectGroupsWithoutColumnFamilyType() {
+    // given
+    final var factory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration()
+                .setColumnFamilyGroups(
+                    List.of(
+                        new ColumnFamilyGroup("hot")
+                            .setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())))),
+            new ConsistencyChecksSettings(true, true));
+
+    // when - then
+    //noinspection resource
+    assertThatThrownBy(() -> factory.createDb(path))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("column family type");
+  }
+
+  @Test
+  void shouldRejectColumnFamilyInMultipleGroups() {
+    // given
+    final var factory =
+        createFactory(
+            new ColumnFamilyGroup("first").setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())),
+            new ColumnFamilyGroup("second")
+                .setColumnFamilies(Set.of(TestColumnFamilies.HOT.name())));
+
+    // when - then
+    //noinspection resource
+    assertThatThrownBy(() -> factory.createDb(path))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("to be part of a single group");
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> createFactory(final ColumnFamilyGroup... groups) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setColumnFamilyGroups(List.of(groups)),
+        new ConsistencyChecksSettings(true, true),
+        TestColumnFamilies.class,
+        1);
+  }
+
+  private void put(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final String key,
+      final String value) {
+    final var dbKey = new DbString();
+    final var dbValue = new DbString();
+    dbKey.wrapString(key);
+    dbValue.wrapString(value);
+    db.createColumnFamily(columnFamily, db.createContext(), new DbString(), new DbString())
+        .insert(dbKey, dbValue);
+  }
+
+  private String get(
+      final ZeebeDb<TestColumnFamilies> db,
+      final TestColumnFamilies columnFamily,
+      final String key) {
+    final var dbKey = new DbString();
+    dbKey.wrapString(key);
+    final var value =
+        db.createColumnFamily(columnFamily, db.createContext(), new DbString(), new DbString())
+            .get(dbKey);
+    return value == null ? null : value.toString();
+  }
+
+  private List<String> listColumnFamilies() throws RocksDBException {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
+  private enum TestColumnFamilies {
+    COLD,
+    HOT
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyCacheTest {
+
+  private @TempDir File path;
+  private ZeebeDb<TestColumnFamilies> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void setup() {
+    zeebeDb = createDb(1024 * 1024);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createCachedColumnFamily(TestColumnFamilies.CACHED, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldServeRepeatedReadsFromCache() {
+    // given
+    put(1, 10);
+    final var hits = getMetric("zeebe_db_cache_hit_count_total");
+
+    // when
+    get(1);
+    get(1);
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(getMetric("zeebe_db_cache_hit_count_total")).isGreaterThan(hits);
+  }
+
+  @Test
+  void shouldReadOwnWritesInTransaction() throws Exception {
+    // given
+    put(1, 10);
+    get(1);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+        });
+
+    // then
+    transaction.run(() -> assertThat(get(1)).isEqualTo(20));
+    transaction.commit();
+    assertThat(get(1)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    put(1, 10);
+    put(2, 20);
+    get(1);
+    get(2);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(11);
+          columnFamily.update(key, value);
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldNotExposeUncommittedWritesToOtherTransactions() throws Exception {
+    // given
+    put(1, 10);
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createCachedColumnFamily(
+            TestColumnFamilies.CACHED, otherContext, otherKey, new DbLong());
+    otherKey.wrapLong(1);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+        });
+
+    // then
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(10);
+    transaction.commit();
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldSeeWritesOfUncachedInstances() {
+    // given
+    final var uncachedKey = new DbLong();
+    final var uncachedValue = new DbLong();
+    final var uncachedColumnFamily =
+        zeebeDb.createColumnFamily(TestColumnFamilies.CACHED, context, uncachedKey, uncachedValue);
+    put(1, 10);
+    get(1);
+
+    // when
+    uncachedKey.wrapLong(1);
+    uncachedValue.wrapLong(20);
+    uncachedColumnFamily.update(uncachedKey, uncachedValue);
+
+    // then
+    assertThat(get(1)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() throws Exception {
+    // given
+    zeebeDb.close();
+    zeebeDb = createDb(512);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createCachedColumnFamily(TestColumnFamilies.CACHED, context, key, value);
+    final var evictions = getMetric("zeebe_db_cache_eviction_count_total");
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      put(i, i);
+      get(i);
+    }
+
+    // then
+    assertThat(getMetric("zeebe_db_cache_eviction_count_total")).isGreaterThan(evictions);
+    assertThat(getMetric("zeebe_db_cache_size_bytes")).isLessThanOrEqualTo(512);
+    for (int i = 0; i < 100; i++) {
+      assertThat(get(i)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void shouldMultiGetFromCacheAndTransaction() throws Exception {
+    // given
+    put(1, 10);
+    put(2, 20);
+    get(1);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(2);
+          value.wrapLong(21);
+          columnFamily.update(key, value);
+
+          final var keys = new DbLong[] {new DbLong(), new DbLong(), new DbLong()};
+          keys[0].wrapLong(1);
+          keys[1].wrapLong(2);
+          keys[2].wrapLong(3);
+          columnFamily.multiGet(
+              List.of(keys),
+              (k, v) -> {
+                values.add(v.getValue());
+                return true;
+              });
+        });
+    transaction.commit();
+
+    // then
+    assertThat(values).containsExactly(10L, 21L);
+    assertThat(get(2)).isEqualTo(21);
+  }
+
+  @Test
+  void shouldNotCacheOutdatedValue() {
+    // given
+    final var cache = new ColumnFamilyCache(1, "test", 1024);
+    final var cacheKey = new byte[] {1, 2, 3};
+    final var version = cache.version();
+
+    // when
+    cache.publish(Map.of(ColumnFamilyCache.copyKey(cacheKey, 3), new byte[] {2}));
+    cache.putIfUnchanged(cacheKey, 3, new byte[] {1}, version);
+
+    // then
+    assertThat(cache.get(cacheKey, 3)).containsExactly(2);
+  }
+
+  @Test
+  void shouldLabelMetricsWithPartition(final @TempDir File otherPath) throws Exception {
+    // given
+    put(1, 10);
+    get(1);
+    final var hits = getMetric("zeebe_db_cache_hit_count_total");
+
+    // when
+    try (final var otherDb = createDb(otherPath, 2, 1024)) {
+      final var otherKey = new DbLong();
+      final var otherColumnFamily =
+          otherDb.createCachedColumnFamily(
+              TestColumnFamilies.CACHED, otherDb.createContext(), otherKey, new DbLong());
+      otherKey.wrapLong(1);
+      otherColumnFamily.upsert(otherKey, value);
+      otherColumnFamily.get(otherKey);
+
+      // then
+      assertThat(getMetric("zeebe_db_cache_hit_count_total")).isEqualTo(hits);
+      assertThat(getMetric("zeebe_db_cache_hit_count_total", 2)).isOne();
+      assertThat(getMetric("zeebe_db_cache_size_bytes", 2)).isPositive();
+    }
+
+    assertThat(getMetric("zeebe_db_cache_size_bytes")).isPositive();
+  }
+
+  @Test
+  void shouldRemoveMetricsOnClose(final @TempDir File otherPath) throws Exception {
+    // given
+    final var otherDb = createDb(otherPath, 2, 1024);
+    final var otherKey = new DbLong();
+    final var otherColumnFamily =
+        otherDb.createCachedColumnFamily(
+            TestColumnFamilies.CACHED, otherDb.createContext(), otherKey, new DbLong());
+    otherKey.wrapLong(1);
+    otherColumnFamily.get(otherKey);
+
+    // when
+    otherDb.close();
+
+    // then
+    assertThat(getSample("zeebe_db_cache_miss_count_total", 2)).isNull();
+    assertThat(getSample("zeebe_db_cache_size_bytes", 2)).isNull();
+  }
+
+  private ZeebeDb<TestColumnFamilies> createDb(final long cacheSize) {
+    return createDb(path, 1, cacheSize);
+  }
+
+  private ZeebeDb<TestColumnFamilies> createDb(
+      final File path, final int partitionId, final long cacheSize) {
+    final var factory =
+        new ZeebeRocksDbFactory<>(
+            new RocksDbConfiguration().setColumnFamilyCacheSize(cacheSize),
+            new ConsistencyChecksSettings(true, true),
+            TestColumnFamilies.class,
+            partitionId);
+    return factory.createDb(path);
+  }
+
+  private void put(final long key, final long value) {
+    this.key.wrapLong(key);
+    this.value.wrapLong(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private Long get(final long key) {
+    this.key.wrapLong(key);
+    final var result = columnFamily.get(this.key);
+    return result == null ? null : result.getValue();
+  }
+
+  private double getMetric(final String name) {
+    return getMetric(name, 1);
+  }
+
+  private double getMetric(final String name, final int partitionId) {
+    final var value = getSample(name, partitionId);
+    return value == null ? 0 : value;
+  }
+
+  private Double getSample(final String name, final int partitionId) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        name,
+        new String[] {"partition", "columnFamily"},
+        new String[] {String.valueOf(partitionId), TestColumnFamilies.CACHED.name()});
+  }
+
+  private enum TestColumnFamilies {
+    CACHED
+  }
+}
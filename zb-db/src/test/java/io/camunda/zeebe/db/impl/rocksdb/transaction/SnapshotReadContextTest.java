@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SnapshotReadContextTest {
+
+  private @TempDir File path;
+  private ZeebeDb<TestColumnFamilies> zeebeDb;
+  private ColumnFamily<DbLong, DbLong> writeColumnFamily;
+  private ColumnFamily<DbLong, DbLong> cachedWriteColumnFamily;
+  private TransactionContext snapshotContext;
+  private ColumnFamily<DbLong, DbLong> snapshotColumnFamily;
+  private ColumnFamily<DbLong, DbLong> cachedSnapshotColumnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void setup() {
+    final var factory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration().setColumnFamilyCacheSize(1024 * 1024),
+            new ConsistencyChecksSettings(true, true));
+    zeebeDb = factory.createDb(path);
+
+    final var writeContext = zeebeDb.createContext();
+    writeColumnFamily =
+        zeebeDb.createColumnFamily(TestColumnFamilies.DEFAULT, writeContext, key, value);
+    cachedWriteColumnFamily =
+        zeebeDb.createCachedColumnFamily(TestColumnFamilies.CACHED, writeContext, key, value);
+
+    snapshotContext = zeebeDb.createSnapshotReadContext();
+    snapshotColumnFamily =
+        zeebeDb.createColumnFamily(TestColumnFamilies.DEFAULT, snapshotContext, key, value);
+    cachedSnapshotColumnFamily =
+        zeebeDb.createCachedColumnFamily(TestColumnFamilies.CACHED, snapshotContext, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldNotSeeChangesCommittedAfterTransactionStarted() {
+    // given
+    put(writeColumnFamily, 1, 10);
+    final var valueInTransaction = new AtomicReference<Long>();
+
+    // when
+    snapshotContext.runInTransaction(
+        () -> {
+          get(snapshotColumnFamily, 1);
+          put(writeColumnFamily, 1, 20);
+          valueInTransaction.set(get(snapshotColumnFamily, 1));
+        });
+
+    // then
+    assertThat(valueInTransaction).hasValue(10L);
+    assertThat(get(snapshotColumnFamily, 1)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldIterateOverSnapshot() {
+    // given
+    put(writeColumnFamily, 1, 10);
+    put(writeColumnFamily, 2, 20);
+    final List<Long> visitedValues = new ArrayList<>();
+
+    // when
+    snapshotContext.runInTransaction(
+        () -> {
+          put(writeColumnFamily, 3, 30);
+          writeColumnFamily.deleteExisting(key(1));
+          snapshotColumnFamily.forEach((k, v) -> visitedValues.add(v.getValue()));
+        });
+
+    // then
+    assertThat(visitedValues).containsExactly(10L, 20L);
+  }
+
+  @Test
+  void shouldNotReadCachedValuesCommittedAfterTransactionStarted() {
+    // given
+    put(cachedWriteColumnFamily, 1, 10);
+    final var valueInTransaction = new AtomicReference<Long>();
+
+    // when
+    snapshotContext.runInTransaction(
+        () -> {
+          put(cachedWriteColumnFamily, 1, 20);
+          // make sure the new value is cached
+          get(cachedWriteColumnFamily, 1);
+          valueInTransaction.set(get(cachedSnapshotColumnFamily, 1));
+        });
+
+    // then
+    assertThat(valueInTransaction).hasValue(10L);
+    assertThat(get(cachedSnapshotColumnFamily, 1)).isEqualTo(20);
+  }
+
+  private DbLong key(final long key) {
+    this.key.wrapLong(key);
+    return this.key;
+  }
+
+  private void put(
+      final ColumnFamily<DbLong, DbLong> columnFamily, final long key, final long value) {
+    this.value.wrapLong(value);
+    columnFamily.upsert(key(key), this.value);
+  }
+
+  private Long get(final ColumnFamily<DbLong, DbLong> columnFamily, final long key) {
+    final var result = columnFamily.get(key(key));
+    return result == null ? null : result.getValue();
+  }
+
+  private enum TestColumnFamilies {
+    DEFAULT,
+    CACHED
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,8 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -30,6 +34,7 @@ public final class ZeebeRocksDbIterationTest {
   private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
   private ZeebeTransactionDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
   private TransactionalColumnFamily<DefaultColumnFamily, DbCompositeKey<DbLong, DbLong>, DbNil>
       columnFamily;
   private DbLong firstKey;
@@ -44,14 +49,12 @@ public final class ZeebeRocksDbIterationTest {
     firstKey = new DbLong();
     secondKey = new DbLong();
     compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    context = zeebeDb.createContext();
     columnFamily =
         Mockito.spy(
             (TransactionalColumnFamily)
                 zeebeDb.createColumnFamily(
-                    DefaultColumnFamily.DEFAULT,
-                    zeebeDb.createContext(),
-                    compositeKey,
-                    DbNil.INSTANCE));
+                    DefaultColumnFamily.DEFAULT, context, compositeKey, DbNil.INSTANCE));
   }
 
   @Test
@@ -85,4 +88,74 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldIterateReverseOverUncommittedWrites() throws Exception {
+    // given
+    upsert(1, 0);
+    upsert(1, 2);
+    upsert(2, 0);
+    final List<Long> suffixes = new ArrayList<>();
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, 1);
+          upsert(1, 3);
+          upsert(2, 1);
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefixReverse(
+              firstKey,
+              (key, value) -> {
+                suffixes.add(key.second().getValue());
+                return true;
+              });
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(suffixes).containsExactly(3L, 2L, 1L, 0L);
+  }
+
+  @Test
+  public void shouldNestBoundedIterations() {
+    // given
+    final var otherFirstKey = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT,
+            context,
+            new DbCompositeKey<>(otherFirstKey, new DbLong()),
+            DbNil.INSTANCE);
+    upsert(1, 0);
+    upsert(1, 1);
+    upsert(2, 0);
+    upsert(2, 1);
+    upsert(2, 2);
+    final List<Long> counts = new ArrayList<>();
+
+    // when
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefixReverse(
+        firstKey,
+        (key, value) -> {
+          otherFirstKey.wrapLong(2);
+          otherColumnFamily.whileEqualPrefix(
+              otherFirstKey,
+              (otherKey, otherValue) -> {
+                counts.add(otherKey.second().getValue());
+              });
+          return true;
+        });
+
+    // then
+    assertThat(counts).containsExactly(0L, 1L, 2L, 0L, 1L, 2L);
+  }
+
+  private void upsert(final long prefix, final long suffix) {
+    firstKey.wrapLong(prefix);
+    secondKey.wrapLong(suffix);
+    columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+  }
 }
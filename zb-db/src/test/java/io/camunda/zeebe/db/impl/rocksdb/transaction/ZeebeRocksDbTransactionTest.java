@@ -7,15 +7,22 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.exception.RecoverableException;
@@ -35,12 +42,13 @@ public final class ZeebeRocksDbTransactionTest {
   private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
 
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
   private TransactionContext transactionContext;
 
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
-    final ZeebeDb<DefaultColumnFamily> zeebeDb = dbFactory.createDb(pathName);
+    zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
   }
 
@@ -214,4 +222,128 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final var listener = mock(TransactionListener.class);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.addTransactionListener(listener);
+
+    // when
+    transaction.commit();
+
+    // then
+    final var inOrder = inOrder(listener);
+    inOrder.verify(listener).beforeCommit();
+    inOrder.verify(listener).onCommit();
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final var listener = mock(TransactionListener.class);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.addTransactionListener(listener);
+
+    // when
+    transaction.rollback();
+
+    // then
+    verify(listener).onRollback();
+    verifyNoMoreInteractions(listener);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnlyOnce() throws Exception {
+    // given
+    final var listener = mock(TransactionListener.class);
+    transactionContext.runInTransaction(
+        () -> transactionContext.getCurrentTransaction().addTransactionListener(listener));
+
+    // when
+    transactionContext.getCurrentTransaction().rollback();
+
+    // then
+    verify(listener).beforeCommit();
+    verify(listener).onCommit();
+    verifyNoMoreInteractions(listener);
+  }
+
+  @Test
+  public void shouldCommitWritesOfListenerBeforeCommit() throws Exception {
+    // given
+    final var key = new DbLong();
+    final var value = new DbLong();
+    final var columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void beforeCommit() {
+            key.wrapLong(1);
+            value.wrapLong(2);
+            columnFamily.upsert(key, value);
+          }
+
+          @Override
+          public void onCommit() {}
+
+          @Override
+          public void onRollback() {}
+        });
+
+    // when
+    transaction.commit();
+
+    // then
+    final var otherKey = new DbLong();
+    otherKey.wrapLong(1);
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, new DbLong());
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldKeepTransactionOpenIfCommitFails() throws Exception {
+    // given
+    final var listener = mock(TransactionListener.class);
+    doThrow(new IllegalStateException("expected")).when(listener).beforeCommit();
+    final var transaction = (ZeebeTransaction) transactionContext.getCurrentTransaction();
+    transaction.addTransactionListener(listener);
+
+    // when
+    assertThatThrownBy(transaction::commit).isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(transaction.isInCurrentTransaction()).isTrue();
+    verify(listener).beforeCommit();
+    verifyNoMoreInteractions(listener);
+  }
+
+  @Test
+  public void shouldNotNotifyListenersOfFailedCommitInNextTransaction() throws Exception {
+    // given
+    final var failingListener = mock(TransactionListener.class);
+    doThrow(new IllegalStateException("expected")).when(failingListener).beforeCommit();
+    final var transaction = (ZeebeTransaction) transactionContext.getCurrentTransaction();
+    transaction.addTransactionListener(failingListener);
+    assertThatThrownBy(transaction::commit).isInstanceOf(IllegalStateException.class);
+
+    // when
+    transaction.resetTransaction();
+    final var listener = mock(TransactionListener.class);
+    transaction.addTransactionListener(listener);
+    transaction.commit();
+
+    // then
+    final var inOrder = inOrder(failingListener);
+    inOrder.verify(failingListener).beforeCommit();
+    inOrder.verify(failingListener).onRollback();
+    inOrder.verifyNoMoreInteractions();
+    verify(listener).onCommit();
+  }
 }
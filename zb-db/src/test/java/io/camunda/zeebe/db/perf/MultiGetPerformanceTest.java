@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares looking up a batch of random keys one by one via {@link ColumnFamily#get} with looking
+ * them up at once via {@link ColumnFamily#multiGet}. Run it directly via JMH to compare both for
+ * different batch sizes.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MultiGetPerformanceTest {
+  private static final int KEY_COUNT = 100_000;
+
+  @Param({"8", "32", "128"})
+  private int batchSize;
+
+  private Path directory;
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+  private final List<DbLong> batch = new ArrayList<>();
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("multi-get");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ColumnFamilies>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings(false, false))
+            .createDb(directory.toFile());
+    columnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.DEFAULT, zeebeDb.createContext(), key, value);
+
+    value.wrapString("x".repeat(256));
+    zeebeDb
+        .createContext()
+        .runInTransaction(
+            () -> {
+              for (int i = 0; i < KEY_COUNT; i++) {
+                key.wrapLong(i);
+                columnFamily.insert(key, value);
+              }
+            });
+
+    for (int i = 0; i < batchSize; i++) {
+      batch.add(new DbLong());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measureGet(final Blackhole blackhole) {
+    final var random = ThreadLocalRandom.current();
+    for (int i = 0; i < batchSize; i++) {
+      key.wrapLong(random.nextInt(KEY_COUNT));
+      blackhole.consume(columnFamily.get(key));
+    }
+  }
+
+  @Benchmark
+  public void measureMultiGet(final Blackhole blackhole) {
+    final var random = ThreadLocalRandom.current();
+    for (final var batchKey : batch) {
+      batchKey.wrapLong(random.nextInt(KEY_COUNT));
+    }
+
+    columnFamily.multiGet(
+        batch,
+        (k, v) -> {
+          blackhole.consume(v);
+          return true;
+        });
+  }
+
+  @JMHTest("measureMultiGet")
+  void shouldLookUpBatchOfKeys(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 8_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("batchSize", "32")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private enum ColumnFamilies {
+    DEFAULT
+  }
+}
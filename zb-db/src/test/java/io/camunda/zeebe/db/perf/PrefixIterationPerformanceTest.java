@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Iterates over a short prefix, which is directly followed by millions of deleted keys, e.g. the
+ * activatable jobs of a job type next to a type whose jobs were all completed. Without bounding the
+ * iterator to the prefix, RocksDB has to skip over all deleted keys to find the next live key, only
+ * for it to be rejected as it doesn't match the prefix.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class PrefixIterationPerformanceTest {
+  private static final long LIVE_PREFIX = 1;
+  private static final long DELETED_PREFIX = 2;
+  private static final long TRAILING_PREFIX = 3;
+  private static final int LIVE_KEY_COUNT = 10;
+  private static final int DELETED_KEY_COUNT = 2_000_000;
+  private static final int BATCH_SIZE = 100_000;
+
+  private Path directory;
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> columnFamily;
+  private final DbLong prefix = new DbLong();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(prefix, suffix);
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("prefix-iteration");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ColumnFamilies>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings(false, false))
+            .createDb(directory.toFile());
+    final var context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(ColumnFamilies.DEFAULT, context, key, DbNil.INSTANCE);
+
+    context.runInTransaction(
+        () -> {
+          insert(LIVE_PREFIX, 0, LIVE_KEY_COUNT);
+          insert(TRAILING_PREFIX, 0, 1);
+        });
+
+    for (int offset = 0; offset < DELETED_KEY_COUNT; offset += BATCH_SIZE) {
+      final int start = offset;
+      context.runInTransaction(() -> insert(DELETED_PREFIX, start, BATCH_SIZE));
+    }
+
+    for (int offset = 0; offset < DELETED_KEY_COUNT; offset += BATCH_SIZE) {
+      final int start = offset;
+      context.runInTransaction(
+          () -> {
+            prefix.wrapLong(DELETED_PREFIX);
+            for (int i = start; i < start + BATCH_SIZE; i++) {
+              suffix.wrapLong(i);
+              columnFamily.deleteExisting(key);
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void measurePrefixIteration(final Blackhole blackhole) {
+    prefix.wrapLong(LIVE_PREFIX);
+    columnFamily.whileEqualPrefix(
+        prefix,
+        (k, v) -> {
+          blackhole.consume(k.second().getValue());
+          return true;
+        });
+  }
+
+  @JMHTest("measurePrefixIteration")
+  void shouldIterateOverPrefixFollowedByDeletedKeys(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 50_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void insert(final long prefix, final int start, final int count) {
+    this.prefix.wrapLong(prefix);
+    for (int i = start; i < start + count; i++) {
+      suffix.wrapLong(i);
+      columnFamily.insert(key, DbNil.INSTANCE);
+    }
+  }
+
+  private enum ColumnFamilies {
+    DEFAULT
+  }
+}